@@ -0,0 +1,59 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures building a holder of {@link SizedState#size} bits by appending to an empty holder. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class AddBenchmark {
+
+@Benchmark
+public BitHolder addBits(SizedState state) {
+  BitHolder bits = new BitHolder();
+  for (int i = 0; i < state.size; i++) {
+    bits.add((i & 1) == 0);
+  }
+  return bits;
+}
+
+@Benchmark
+public BitHolder addInts(SizedState state) {
+  BitHolder bits = new BitHolder();
+  for (int int_ : state.ints) {
+    bits.add(int_);
+  }
+  return bits;
+}
+
+@Benchmark
+public BitHolder addIntArray(SizedState state) {
+  BitHolder bits = new BitHolder();
+  bits.add(state.ints);
+  return bits;
+}
+
+@Benchmark
+public BitHolder addByteArray(SizedState state) {
+  BitHolder bits = new BitHolder();
+  bits.add(state.bytes);
+  return bits;
+}
+
+@Benchmark
+public BitSet bitSetBaseline(SizedState state) {
+  BitSet bits = new BitSet();
+  for (int i = 0; i < state.size; i++) {
+    bits.set(i, (i & 1) == 0);
+  }
+  return bits;
+}
+
+}
@@ -0,0 +1,27 @@
+package me.tye.easybits.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ Runs the benchmarks with the GC profiler attached so allocation rates are reported next to the timings.<br>
+ Any of the normal JMH command line options can be passed in, e.g. "-p size=1024" or a regex to select benchmarks. */
+public class BenchmarkRunner {
+
+/**
+ This class is only an entry point & shouldn't be instantiated. */
+private BenchmarkRunner() {}
+
+public static void main(String[] args) throws Exception {
+  Options options = new OptionsBuilder()
+      .parent(new CommandLineOptions(args))
+      .addProfiler(GCProfiler.class)
+      .build();
+
+  new Runner(options).run();
+}
+
+}
@@ -0,0 +1,60 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import me.tye.easybits.Primitive;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures converting between holders & hex strings, bytes & primitive arrays. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class ConversionBenchmark {
+
+@Benchmark
+public String toHexString(SizedState state) {
+  return state.holder.toHexString();
+}
+
+@Benchmark
+public BitHolder fromHexString(SizedState state) {
+  return BitHolder.fromHexString(state.hexString);
+}
+
+@Benchmark
+public byte[] toByteArray(SizedState state) {
+  return state.holder.toByteArray();
+}
+
+@Benchmark
+public ByteArrayInputStream toByteStream(SizedState state) {
+  return state.holder.toByteStream();
+}
+
+@Benchmark
+public BitHolder primitiveToBitHolder(SizedState state) {
+  return Primitive.toBitHolder(state.ints);
+}
+
+@Benchmark
+public int[] primitiveToPrimitive(SizedState state) {
+  return Primitive.toPrimitive(state.holder, int[].class);
+}
+
+@Benchmark
+public byte[] bitSetToByteArrayBaseline(SizedState state) {
+  return state.bitSet.toByteArray();
+}
+
+@Benchmark
+public BitSet bitSetValueOfBaseline(SizedState state) {
+  return BitSet.valueOf(state.bytes);
+}
+
+}
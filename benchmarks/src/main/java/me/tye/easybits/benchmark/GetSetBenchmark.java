@@ -0,0 +1,66 @@
+package me.tye.easybits.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures reading & writing single bits & primitives in the middle of a holder. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class GetSetBenchmark {
+
+@Benchmark
+public boolean getBit(SizedState state) {
+  return state.fieldHolder.get(state.middle);
+}
+
+@Benchmark
+public int getInt(SizedState state) {
+  return state.fieldHolder.getInt(state.middle);
+}
+
+@Benchmark
+public long getLong(SizedState state) {
+  return state.fieldHolder.getLong(state.middle);
+}
+
+@Benchmark
+public double getDouble(SizedState state) {
+  return state.fieldHolder.getDouble(state.middle);
+}
+
+@Benchmark
+public Integer getByClass(SizedState state) {
+  return state.fieldHolder.get(state.middle, int.class);
+}
+
+@Benchmark
+public void setBit(SizedState state) {
+  state.fieldHolder.set(state.middle, true);
+}
+
+@Benchmark
+public void setInt(SizedState state) {
+  state.fieldHolder.set(state.middle, 784653012);
+}
+
+@Benchmark
+public void setLong(SizedState state) {
+  state.fieldHolder.set(state.middle, 890457234897562386L);
+}
+
+@Benchmark
+public boolean bitSetGetBaseline(SizedState state) {
+  return state.bitSet.get(state.size / 2);
+}
+
+@Benchmark
+public void bitSetSetBaseline(SizedState state) {
+  state.bitSet.set(state.size / 2);
+}
+
+}
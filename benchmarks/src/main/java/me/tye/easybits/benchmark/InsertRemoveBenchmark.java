@@ -0,0 +1,38 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures editing the middle & the front of a holder.<br>
+ Each insert is paired with a remove of the same length so the holder keeps the same size between invocations. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class InsertRemoveBenchmark {
+
+private static final boolean[] INSERTED = {true, false, true, true, false, false, true, false};
+
+@Benchmark
+public BitHolder insertRemoveMiddle(SizedState state) {
+  state.fieldHolder.insert(state.middle, INSERTED);
+  return state.fieldHolder.remove(state.middle, state.middle + INSERTED.length - 1);
+}
+
+@Benchmark
+public BitHolder insertRemoveFront(SizedState state) {
+  state.fieldHolder.insert(0, INSERTED);
+  return state.fieldHolder.remove(0, INSERTED.length - 1);
+}
+
+@Benchmark
+public boolean addRemoveEnd(SizedState state) {
+  state.fieldHolder.add(true);
+  return state.fieldHolder.remove();
+}
+
+}
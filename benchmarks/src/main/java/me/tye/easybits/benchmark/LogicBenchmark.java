@@ -0,0 +1,67 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the logic operations between two holders of the same size. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class LogicBenchmark {
+
+@Benchmark
+public BitHolder not(SizedState state) {
+  return state.holder.NOT();
+}
+
+@Benchmark
+public BitHolder and(SizedState state) {
+  return state.holder.AND(state.otherHolder);
+}
+
+@Benchmark
+public BitHolder nand(SizedState state) {
+  return state.holder.NAND(state.otherHolder);
+}
+
+@Benchmark
+public BitHolder or(SizedState state) {
+  return state.holder.OR(state.otherHolder);
+}
+
+@Benchmark
+public BitHolder nor(SizedState state) {
+  return state.holder.NOR(state.otherHolder);
+}
+
+@Benchmark
+public BitHolder xor(SizedState state) {
+  return state.holder.XOR(state.otherHolder);
+}
+
+@Benchmark
+public BitHolder xnor(SizedState state) {
+  return state.holder.XNOR(state.otherHolder);
+}
+
+@Benchmark
+public BitSet bitSetAndBaseline(SizedState state) {
+  BitSet result = (BitSet) state.bitSet.clone();
+  result.and(state.otherBitSet);
+  return result;
+}
+
+@Benchmark
+public BitSet bitSetXorBaseline(SizedState state) {
+  BitSet result = (BitSet) state.bitSet.clone();
+  result.xor(state.otherBitSet);
+  return result;
+}
+
+}
@@ -0,0 +1,27 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures shifting a whole holder by an amount that isn't word aligned. */
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations=3, time=1)
+@Measurement (iterations=5, time=1)
+@Fork (1)
+public class ShiftBenchmark {
+
+@Benchmark
+public BitHolder shiftLeft(SizedState state) {
+  return state.holder.shiftLeft(3);
+}
+
+@Benchmark
+public BitHolder shiftRight(SizedState state) {
+  return state.holder.shiftRight(3);
+}
+
+}
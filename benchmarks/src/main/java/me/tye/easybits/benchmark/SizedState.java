@@ -0,0 +1,69 @@
+package me.tye.easybits.benchmark;
+
+import me.tye.easybits.BitHolder;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ Holds the random input data shared by the benchmarks.<br>
+ Every benchmark is run for each of the sizes, which are the amount of bits in the holders. */
+@State (Scope.Thread)
+public class SizedState {
+
+/**
+ The amount of bits in each holder. */
+@Param ({"8", "1024", "1048576", "100000000"})
+public int size;
+
+public BitHolder holder;
+public BitHolder otherHolder;
+/**
+ A holder with at least 128 bits, so any primitive can be read or written at {@link #middle}. */
+public BitHolder fieldHolder;
+
+public BitSet bitSet;
+public BitSet otherBitSet;
+
+public byte[] bytes;
+public int[] ints;
+public String hexString;
+
+/**
+ An index near the middle of {@link #fieldHolder}, used for the get, set, insert & remove benchmarks. */
+public int middle;
+
+@Setup (Level.Trial)
+public void setup() {
+  Random random = new Random(52);
+
+  bytes = new byte[size / 8];
+  random.nextBytes(bytes);
+
+  byte[] otherBytes = new byte[size / 8];
+  random.nextBytes(otherBytes);
+
+  ints = new int[size / 32];
+  for (int i = 0; i < ints.length; i++) {
+    ints[i] = random.nextInt();
+  }
+
+  holder = BitHolder.from(bytes);
+  otherHolder = BitHolder.from(otherBytes);
+  fieldHolder = size >= 128 ? BitHolder.from(bytes) : BitHolder.from(new byte[16]);
+
+  bitSet = BitSet.valueOf(bytes);
+  otherBitSet = BitSet.valueOf(otherBytes);
+
+  hexString = holder.toHexString();
+
+  // Leaves enough room after the middle index to read a long.
+  middle = (fieldHolder.size() / 2) - 64;
+}
+
+}
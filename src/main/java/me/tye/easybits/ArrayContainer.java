@@ -0,0 +1,202 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ A {@link Container} that holds the values of its high bits in a sorted array. Used for chunks with at most {@value #ARRAY_MAX} high bits. */
+final class ArrayContainer extends Container {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 7365020592150003717L;
+
+/**
+ The values in increasing order. Only the first {@link #cardinality} are used. */
+private char[] values;
+/**
+ The amount of values. */
+private int cardinality;
+
+
+/**
+ Creates an empty container. */
+ArrayContainer() {
+  this(new char[4], 0);
+}
+
+/**
+ @param values      The values in increasing order. The array is used directly.
+ @param cardinality The amount of values used from the array. */
+private ArrayContainer(char[] values, int cardinality) {
+  this.values = values;
+  this.cardinality = cardinality;
+}
+
+/**
+ @param values      The values in increasing order.
+ @param cardinality The amount of values.
+ @return A container holding the values. */
+static @NotNull ArrayContainer fromIterator(@NotNull PrimitiveIterator.OfInt values, int cardinality) {
+  char[] array = new char[cardinality];
+  for (int i = 0; i < cardinality; i++) {
+    array[i] = (char) values.nextInt();
+  }
+  return new ArrayContainer(array, cardinality);
+}
+
+
+@Override
+int cardinality() {
+  return cardinality;
+}
+
+@Override
+int runCount() {
+  int runs = 0;
+  for (int i = 0; i < cardinality; i++) {
+    if (i == 0 || values[i] != values[i - 1] + 1) {runs++;}
+  }
+  return runs;
+}
+
+@Override
+boolean contains(int value) {
+  return Arrays.binarySearch(values, 0, cardinality, (char) value) >= 0;
+}
+
+@Override
+long getWord(int wordIndex) {
+  long word = 0;
+  int end = (wordIndex + 1) << 6;
+  for (int i = lowerBound(wordIndex << 6); i < cardinality && values[i] < end; i++) {
+    word |= 1L << values[i];
+  }
+  return word;
+}
+
+@Override
+@NotNull Container setWord(int wordIndex, long word) {
+  int from = lowerBound(wordIndex << 6);
+  int to = lowerBound((wordIndex + 1) << 6);
+  int newCardinality = cardinality - (to - from) + Long.bitCount(word);
+  if (newCardinality > ARRAY_MAX) {return new BitmapContainer(words()).setWord(wordIndex, word);}
+
+  if (newCardinality > values.length) {
+    values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(newCardinality, values.length * 2)));
+  }
+
+  // Moves the values after the word to make space for the values of the new word.
+  int newTo = from + Long.bitCount(word);
+  System.arraycopy(values, to, values, newTo, cardinality - to);
+  for (int i = from; word != 0; i++, word &= word - 1) {
+    values[i] = (char) ((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+  }
+
+  cardinality = newCardinality;
+  return this;
+}
+
+@Override
+@NotNull PrimitiveIterator.OfInt iterator() {
+  return new PrimitiveIterator.OfInt() {
+    private int index = 0;
+
+    @Override
+    public boolean hasNext() {
+      return index < cardinality;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+      return values[index++];
+    }
+  };
+}
+
+@Override
+int sizeInBytes() {
+  return values.length * 2;
+}
+
+@Override
+@NotNull Container copy() {
+  return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+}
+
+@Override
+int countBelow(int limit) {
+  return lowerBound(limit);
+}
+
+@Override
+@NotNull Container truncate(int limit) {
+  int count = lowerBound(limit);
+  if (count == cardinality) {return this;}
+  return new ArrayContainer(Arrays.copyOf(values, count), count);
+}
+
+
+/**
+ @param other The container to test the values against.
+ @param keep  True to keep the values the other container holds, false to keep the values it doesn't.
+ @return A new container holding the filtered values. */
+@NotNull ArrayContainer filter(@NotNull Container other, boolean keep) {
+  char[] filtered = new char[cardinality];
+  int count = 0;
+  for (int i = 0; i < cardinality; i++) {
+    if (other.contains(values[i]) == keep) {filtered[count++] = values[i];}
+  }
+  return new ArrayContainer(filtered, count);
+}
+
+/**
+ Merges the values of two sorted arrays.
+ @param other The other container.
+ @param union True for the values in either container, false for the values in exactly one of them.
+ @return A new container holding the merged values. */
+@NotNull Container merge(@NotNull ArrayContainer other, boolean union) {
+  char[] merged = new char[cardinality + other.cardinality];
+  int count = 0;
+  int left = 0;
+  int right = 0;
+
+  while (left < cardinality && right < other.cardinality) {
+    char leftValue = values[left];
+    char rightValue = other.values[right];
+
+    if (leftValue < rightValue) {merged[count++] = leftValue; left++;}
+    else if (leftValue > rightValue) {merged[count++] = rightValue; right++;}
+    else {
+      if (union) {merged[count++] = leftValue;}
+      left++;
+      right++;
+    }
+  }
+
+  while (left < cardinality) {merged[count++] = values[left++];}
+  while (right < other.cardinality) {merged[count++] = other.values[right++];}
+
+  // A merge of two full arrays can hold more values than an array container should, in which case it's optimized into a bitmap.
+  return new ArrayContainer(merged, count);
+}
+
+/**
+ @param value A value between 0 & {@value #CHUNK_BITS}.
+ @return The index of the first value at or above the given value, or the cardinality if there isn't one. */
+private int lowerBound(int value) {
+  int low = 0;
+  int high = cardinality;
+  while (low < high) {
+    int middle = (low + high) >>> 1;
+    if (values[middle] < value) {low = middle + 1;}
+    else {high = middle;}
+  }
+  return low;
+}
+
+}
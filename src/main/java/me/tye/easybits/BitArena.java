@@ -0,0 +1,153 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A shared pool of direct memory for {@link OffHeapBitHolder}s.<br>
+ The memory is allocated in large blocks & each BitHolder takes a slice of a block, so creating many small off-heap BitHolders doesn't make an allocation for each of them.
+ Slices are never reused: memory given to a BitHolder is only freed when the arena is closed, even if the BitHolder is closed or grows into a new slice before then.<br>
+ Closing the arena frees all of its blocks & closes every BitHolder still using them, so they throw an {@link IllegalStateException} instead of reading freed memory.<br>
+ This class is thread safe. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public final class BitArena implements AutoCloseable {
+
+/**
+ The default size of a block, in bytes. */
+public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+/**
+ The size of each block, in bytes. Slices bigger than this are given a block of their own. */
+private final int blockSize;
+/**
+ All of the blocks that have been allocated. */
+private final @NotNull List<ByteBuffer> blocks = new ArrayList<>();
+/**
+ The storages using memory from this arena that haven't been closed. */
+private final @NotNull Set<DirectWordStorage> storages = Collections.newSetFromMap(new IdentityHashMap<>());
+/**
+ The block slices are currently taken from. Its position is the start of the free memory. */
+private ByteBuffer current = null;
+/**
+ The amount of bytes that have been given out as slices. */
+private long usedBytes = 0;
+/**
+ True once the arena has been closed. */
+private boolean closed = false;
+
+
+/**
+ Creates an arena that allocates blocks of {@link #DEFAULT_BLOCK_SIZE} bytes. */
+public BitArena() {
+  this(DEFAULT_BLOCK_SIZE);
+}
+
+/**
+ Creates an arena that allocates blocks of the given size.
+ @param blockSize The size of each block, in bytes. It's rounded up to a multiple of 8.
+ @throws IllegalArgumentException If the block size isn't above 0. */
+public BitArena(int blockSize) throws IllegalArgumentException {
+  if (blockSize <= 0) {throw new IllegalArgumentException(amountBellowZero(blockSize));}
+  this.blockSize = (int) Math.min(Integer.MAX_VALUE & ~7, (blockSize + 7L) & ~7);
+}
+
+
+/**
+ @return The amount of bytes of direct memory the arena has allocated. */
+public synchronized long allocatedBytes() {
+  long allocated = 0;
+  for (ByteBuffer block : blocks) {
+    allocated += block.capacity();
+  }
+  return allocated;
+}
+
+/**
+ @return The amount of allocated bytes that have been given to BitHolders, including any given to BitHolders that have since been closed. */
+public synchronized long usedBytes() {
+  return usedBytes;
+}
+
+/**
+ @return True if the arena has been closed. */
+public synchronized boolean isClosed() {
+  return closed;
+}
+
+/**
+ Frees all of the memory of the arena. Any BitHolders still using the memory are closed. Closing a closed arena does nothing. */
+@Override
+public synchronized void close() {
+  if (closed) {return;}
+  closed = true;
+
+  // The storages are detached before the memory is freed, so nothing can read the memory once it's gone.
+  for (DirectWordStorage storage : storages) {
+    storage.detach();
+  }
+  storages.clear();
+
+  for (ByteBuffer block : blocks) {
+    DirectBuffers.release(block);
+  }
+  blocks.clear();
+  current = null;
+}
+
+
+/**
+ @param byteCount The amount of bytes to take. Must be a multiple of 8.
+ @return A zeroed slice of a block holding the given amount of bytes.
+ @throws IllegalStateException If the arena has been closed. */
+synchronized @NotNull ByteBuffer allocate(int byteCount) throws IllegalStateException {
+  if (closed) {throw new IllegalStateException(closedArena());}
+
+  if (current == null || current.remaining() < byteCount) {
+    ByteBuffer block = ByteBuffer.allocateDirect(Math.max(blockSize, byteCount));
+    blocks.add(block);
+
+    // A slice too big for a normal block keeps its own block, so the rest of the current block can still be used.
+    if (byteCount > blockSize) {
+      usedBytes += byteCount;
+      return block;
+    }
+    current = block;
+  }
+
+  int start = current.position();
+  ByteBuffer slice = current.duplicate();
+  // Cast to Buffer, as ByteBuffer only overrides these methods from Java 9.
+  ((Buffer) slice).limit(start + byteCount);
+  ((Buffer) current).position(start + byteCount);
+
+  usedBytes += byteCount;
+  return slice.slice();
+}
+
+/**
+ @param storage A storage using memory from this arena.
+ @throws IllegalStateException If the arena has been closed. */
+synchronized void register(@NotNull DirectWordStorage storage) throws IllegalStateException {
+  if (closed) {
+    storage.detach();
+    throw new IllegalStateException(closedArena());
+  }
+  storages.add(storage);
+}
+
+/**
+ @param storage A storage that has stopped using memory from this arena. */
+synchronized void unregister(@NotNull DirectWordStorage storage) {
+  storages.remove(storage);
+}
+
+}
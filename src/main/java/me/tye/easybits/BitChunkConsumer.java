@@ -0,0 +1,14 @@
+package me.tye.easybits;
+
+/**
+ Accepts a chunk of up to 64 bits packed into a long. */
+@FunctionalInterface
+public interface BitChunkConsumer {
+
+/**
+ @param index     The index of the first bit of the chunk.
+ @param bits      The bits of the chunk in the lowest positions of the long, in the same order as {@link BitHolder#getBits(int, int)}.
+ @param bitLength The amount of bits in the chunk. */
+void accept(int index, long bits, int bitLength);
+
+}
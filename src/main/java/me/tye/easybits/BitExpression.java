@@ -0,0 +1,472 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A lazily evaluated logic expression over BitHolders, such as <code>(a AND b) OR NOT(c XOR d)</code>.<br>
+ Building an expression doesn't read any bits. When it's evaluated the whole tree is computed in one pass over the words,
+ so no intermediate BitHolders are created no matter how many operations the expression contains.<br>
+ The result has the same size & bits as calling the logic methods of {@link BitHolder} in the same order.
+ So the size of an expression is the size of its leftmost BitHolder, missing operand bits are read as low & extra ones are ignored.<br>
+ The BitHolders are read when the expression is evaluated, so an expression can be reused after the BitHolders have changed. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public abstract class BitExpression {
+
+/**
+ The amount of words that are computed at a time. Small enough for the buffers of a whole expression to stay in the cache. */
+private static final int BLOCK_WORDS = 128;
+
+
+/**
+ Expressions can only be created through {@link #of(BitHolder)} & the operation methods. */
+private BitExpression() {}
+
+/**
+ @param bits The BitHolder to start the expression with.
+ @return An expression that evaluates to the bits in the given BitHolder.
+ @throws NullPointerException If the given BitHolder is null. */
+public static @NotNull BitExpression of(@NotNull BitHolder bits) throws NullPointerException {
+  nullCheck(bits);
+  return new Leaf(bits);
+}
+
+
+/**
+ @return An expression that performs the NOT logic operation on this expression. */
+public @NotNull BitExpression NOT() {
+  return new Not(this);
+}
+
+/**
+ @param operand The expression to perform the AND operation with.
+ @return An expression that performs the AND logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression AND(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.AND, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the AND operation with.
+ @return An expression that performs the AND logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression AND(@NotNull BitHolder operand) throws NullPointerException {
+  return AND(of(operand));
+}
+
+/**
+ @param operand The expression to perform the NAND operation with.
+ @return An expression that performs the NAND logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression NAND(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.NAND, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the NAND operation with.
+ @return An expression that performs the NAND logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression NAND(@NotNull BitHolder operand) throws NullPointerException {
+  return NAND(of(operand));
+}
+
+/**
+ @param operand The expression to perform the OR operation with.
+ @return An expression that performs the OR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression OR(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.OR, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the OR operation with.
+ @return An expression that performs the OR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression OR(@NotNull BitHolder operand) throws NullPointerException {
+  return OR(of(operand));
+}
+
+/**
+ @param operand The expression to perform the NOR operation with.
+ @return An expression that performs the NOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression NOR(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.NOR, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the NOR operation with.
+ @return An expression that performs the NOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression NOR(@NotNull BitHolder operand) throws NullPointerException {
+  return NOR(of(operand));
+}
+
+/**
+ @param operand The expression to perform the XOR operation with.
+ @return An expression that performs the XOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression XOR(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.XOR, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the XOR operation with.
+ @return An expression that performs the XOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression XOR(@NotNull BitHolder operand) throws NullPointerException {
+  return XOR(of(operand));
+}
+
+/**
+ @param operand The expression to perform the XNOR operation with.
+ @return An expression that performs the XNOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression XNOR(@NotNull BitExpression operand) throws NullPointerException {
+  return binary(LogicOperation.XNOR, operand);
+}
+
+/**
+ @param operand The BitHolder to perform the XNOR operation with.
+ @return An expression that performs the XNOR logic operation on this expression.
+ @throws NullPointerException If the operand is null. */
+public @NotNull BitExpression XNOR(@NotNull BitHolder operand) throws NullPointerException {
+  return XNOR(of(operand));
+}
+
+
+/**
+ @return The size of the BitHolder the expression would currently evaluate to. */
+public int size() {
+  return leftmost().size();
+}
+
+/**
+ Evaluates the expression into a new BitHolder.
+ @return The result of the expression. */
+public @NotNull BitHolder evaluate() {
+  int size = size();
+  // The new storage is already 0, so blocks that evaluate to 0 don't have to be written.
+  return evaluate(BitHolder.newDense(size), size, true);
+}
+
+/**
+ Evaluates the expression into the given destination, so no new BitHolder has to be allocated.<br>
+ The destination is resized to the size of the expression. It can be one of the BitHolders in the expression.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the destination is null. */
+public @NotNull BitHolder evaluate(@NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(destination);
+  return evaluate(destination, size(), false);
+}
+
+/**
+ Evaluates the expression a block of words at a time.
+ @param destination The BitHolder to write the result into.
+ @param size        The size of the result.
+ @param zeroed      True if the words of the destination are known to be 0, so blocks that evaluate to 0 can be skipped.
+ @return The destination. */
+private @NotNull BitHolder evaluate(@NotNull BitHolder destination, int size, boolean zeroed) {
+  // The sizes of the BitHolders are read when compiling, before the destination is resized in case it's one of them.
+  Step root = compile();
+  destination.setSize(size);
+
+  int wordCount = WordStorage.wordsFor(size);
+  long[] block = new long[Math.min(BLOCK_WORDS, wordCount)];
+  WordStorage output = destination.storage();
+
+  for (int firstWord = 0; firstWord < wordCount; firstWord += BLOCK_WORDS) {
+    int count = Math.min(BLOCK_WORDS, wordCount - firstWord);
+
+    if (!root.evaluate(firstWord, count, block)) {
+      if (zeroed) {continue;}
+      Arrays.fill(block, 0, count, 0);
+    }
+
+    output.setWords(firstWord, block, 0, count);
+  }
+
+  return destination;
+}
+
+
+/**
+ @return The BitHolder whose size is the size of this expression. */
+abstract @NotNull BitHolder leftmost();
+
+/**
+ Creates the steps that evaluate this expression, reading the current sizes of the BitHolders.
+ @return The step for the root of this expression. */
+abstract @NotNull Step compile();
+
+/**
+ @param operation The operation to perform.
+ @param operand   The right side of the operation.
+ @return An expression that performs the operation with this expression on the left side.
+ @throws NullPointerException If the operand is null. */
+private @NotNull BitExpression binary(@NotNull LogicOperation operation, @NotNull BitExpression operand) throws NullPointerException {
+  nullCheck(operand);
+  return new Binary(operation, this, operand);
+}
+
+
+/**
+ A BitHolder at the bottom of the expression tree. */
+private static class Leaf extends BitExpression {
+
+/**
+ The BitHolder to read. */
+private final @NotNull BitHolder bits;
+
+private Leaf(@NotNull BitHolder bits) {
+  this.bits = bits;
+}
+
+@Override
+@NotNull BitHolder leftmost() {
+  return bits;
+}
+
+@Override
+@NotNull Step compile() {
+  return new LeafStep(bits.storage(), bits.size());
+}
+}
+
+/**
+ The NOT of an expression. */
+private static class Not extends BitExpression {
+
+/**
+ The expression to invert. */
+private final @NotNull BitExpression child;
+
+private Not(@NotNull BitExpression child) {
+  this.child = child;
+}
+
+@Override
+@NotNull BitHolder leftmost() {
+  return child.leftmost();
+}
+
+@Override
+@NotNull Step compile() {
+  Step compiledChild = child.compile();
+  return new NotStep(compiledChild, compiledChild.size);
+}
+}
+
+/**
+ A two input logic operation between expressions. */
+private static class Binary extends BitExpression {
+
+/**
+ The operation to perform. */
+private final @NotNull LogicOperation operation;
+/**
+ The left side of the operation, which decides the size. */
+private final @NotNull BitExpression left;
+/**
+ The right side of the operation. */
+private final @NotNull BitExpression right;
+
+private Binary(@NotNull LogicOperation operation, @NotNull BitExpression left, @NotNull BitExpression right) {
+  this.operation = operation;
+  this.left = left;
+  this.right = right;
+}
+
+@Override
+@NotNull BitHolder leftmost() {
+  return left.leftmost();
+}
+
+@Override
+@NotNull Step compile() {
+  Step compiledLeft = left.compile();
+  return new BinaryStep(operation, compiledLeft, right.compile(), compiledLeft.size);
+}
+}
+
+
+/**
+ A compiled node of the expression, which computes a block of words at a time.<br>
+ Every step sets the bits at or above its size to 0, the same as a BitHolder of that size would have. */
+private static abstract class Step {
+
+/**
+ The size of the result of this step. */
+final int size;
+
+Step(int size) {
+  this.size = size;
+}
+
+/**
+ Computes a block of words of this step's result.
+ @param firstWord The index of the first word to compute.
+ @param count     The amount of words to compute.
+ @param output    The array to write the words into, starting at index 0.
+ @return False if every computed word is 0, in which case the output might not have been written to. */
+abstract boolean evaluate(int firstWord, int count, long[] output);
+
+/**
+ @param firstWord The index of the first word in the block.
+ @param count     The amount of words in the block.
+ @return True if the whole block is at or above the size of this step. */
+boolean isPastEnd(int firstWord, int count) {
+  return ((long) firstWord << 6) >= size;
+}
+
+/**
+ Sets the bits at or above the size of this step to 0.
+ @param firstWord The index of the first word in the block.
+ @param count     The amount of words in the block.
+ @param output    The words of the block. */
+void clearPastEnd(int firstWord, int count, long[] output) {
+  long endBit = (long) (firstWord + count) << 6;
+  if (endBit <= size) {return;}
+
+  int lastUsed = (size >>> 6) - firstWord;
+  int usedBits = size & 63;
+  if (usedBits != 0) {
+    output[lastUsed] &= -1L >>> (64 - usedBits);
+    lastUsed++;
+  }
+  Arrays.fill(output, lastUsed, count, 0);
+}
+
+/**
+ @param count  The amount of words in the block.
+ @param output The words of the block.
+ @return True if any of the words aren't 0. */
+static boolean anyHigh(int count, long[] output) {
+  long any = 0;
+  for (int i = 0; i < count; i++) {
+    any |= output[i];
+  }
+  return any != 0;
+}
+}
+
+/**
+ Copies the words of a BitHolder. */
+private static class LeafStep extends Step {
+
+/**
+ The storage of the BitHolder. */
+private final @NotNull WordStorage storage;
+
+private LeafStep(@NotNull WordStorage storage, int size) {
+  super(size);
+  this.storage = storage;
+}
+
+@Override
+boolean evaluate(int firstWord, int count, long[] output) {
+  // Blocks past the end of the BitHolder are all 0, so they're skipped without reading the storage.
+  if (isPastEnd(firstWord, count)) {return false;}
+
+  int available = Math.min(count, WordStorage.wordsFor(size) - firstWord);
+  storage.getWords(firstWord, output, 0, available);
+  clearPastEnd(firstWord, count, output);
+  return anyHigh(count, output);
+}
+}
+
+/**
+ Inverts the words of another step. */
+private static class NotStep extends Step {
+
+/**
+ The step to invert. */
+private final @NotNull Step child;
+
+private NotStep(@NotNull Step child, int size) {
+  super(size);
+  this.child = child;
+}
+
+@Override
+boolean evaluate(int firstWord, int count, long[] output) {
+  if (isPastEnd(firstWord, count)) {return false;}
+
+  if (!child.evaluate(firstWord, count, output)) {
+    Arrays.fill(output, 0, count, -1L);
+  }
+  else {
+    for (int i = 0; i < count; i++) {
+      output[i] = ~output[i];
+    }
+  }
+
+  clearPastEnd(firstWord, count, output);
+  return anyHigh(count, output);
+}
+}
+
+/**
+ Performs a two input logic operation on the words of two other steps. */
+private static class BinaryStep extends Step {
+
+/**
+ The operation to perform. */
+private final @NotNull LogicOperation operation;
+/**
+ The left side of the operation. */
+private final @NotNull Step left;
+/**
+ The right side of the operation. */
+private final @NotNull Step right;
+/**
+ Holds the words of the right side while they're combined with the left side. */
+private final long[] scratch = new long[BLOCK_WORDS];
+
+private BinaryStep(@NotNull LogicOperation operation, @NotNull Step left, @NotNull Step right, int size) {
+  super(size);
+  this.operation = operation;
+  this.left = left;
+  this.right = right;
+}
+
+@Override
+boolean evaluate(int firstWord, int count, long[] output) {
+  if (isPastEnd(firstWord, count)) {return false;}
+
+  boolean leftHigh = left.evaluate(firstWord, count, output);
+
+  // When the left side is all 0 the AND is 0 & the NAND is all 1 whatever the right side is, so it's never computed.
+  if (!leftHigh && operation == LogicOperation.AND) {return false;}
+  if (!leftHigh && operation == LogicOperation.NAND) {
+    Arrays.fill(output, 0, count, -1L);
+    clearPastEnd(firstWord, count, output);
+    return true;
+  }
+
+  boolean rightHigh = right.evaluate(firstWord, count, scratch);
+  if (!rightHigh && operation == LogicOperation.AND) {return false;}
+
+  if (!leftHigh && !rightHigh) {
+    // Both sides are 0, so the result is either all 0 or all 1.
+    long word = operation.apply(0, 0);
+    if (word == 0) {return false;}
+    Arrays.fill(output, 0, count, word);
+  }
+  else {
+    if (!leftHigh) {Arrays.fill(output, 0, count, 0);}
+    if (!rightHigh) {Arrays.fill(scratch, 0, count, 0);}
+
+    operation.apply(output, scratch, count);
+  }
+
+  clearPastEnd(firstWord, count, output);
+  return anyHigh(count, output);
+}
+}
+
+}
@@ -0,0 +1,210 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A sequence of bits for workloads that insert & remove bits often, such as editing a large bit stream.<br>
+ The bits are split at a gap: the bits before the gap are held in order & the bits after it are held in reverse order.
+ Inserting or removing at the gap only touches the edited bits, & moving the gap moves the bits between it & the new position 64 at a time.
+ So a run of edits near each other costs about the size of the edits, no matter how big the buffer is.<br>
+ Use {@link #toBitHolder()} to get the bits as a BitHolder once the editing is done. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class BitGapBuffer {
+
+/**
+ The bits before the gap, in order. */
+private final @NotNull BitHolder front;
+/**
+ The bits after the gap, in reverse order. The last bit of this is the first bit after the gap. */
+private final @NotNull BitHolder back;
+
+
+/**
+ Creates an empty gap buffer. */
+public BitGapBuffer() {
+  this.front = new BitHolder(0);
+  this.back = new BitHolder(0);
+}
+
+/**
+ Creates a gap buffer holding a copy of the given bits. The gap starts at the end of the bits.
+ @param bits The bits to copy into the buffer.
+ @throws NullPointerException If the given BitHolder is null. */
+public BitGapBuffer(@NotNull BitHolder bits) throws NullPointerException {
+  nullCheck(bits);
+
+  this.front = new BitHolder(bits, true);
+  this.back = new BitHolder(0);
+}
+
+
+/**
+ @return The amount of bits in the buffer. */
+public int size() {
+  return front.size() + back.size();
+}
+
+/**
+ @param index The given index.
+ @return The bit value at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
+public boolean get(int index) throws IndexOutOfBoundsException {
+  isInBounds(index);
+
+  if (index < front.size()) {return front.get(index);}
+  return back.get(backIndex(index));
+}
+
+/**
+ Sets the bit at the given index to the given bit value. This doesn't move the gap.
+ @param index The given index.
+ @param bit   The given bit value.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
+public void set(int index, boolean bit) throws IndexOutOfBoundsException {
+  isInBounds(index);
+
+  if (index < front.size()) {front.set(index, bit);}
+  else {back.set(backIndex(index), bit);}
+}
+
+/**
+ Adds a bit to the end of the buffer.
+ @param bit The bit value to add. */
+public void add(boolean bit) {
+  insert(size(), bit);
+}
+
+/**
+ Adds the given bits to the end of the buffer.
+ @param bits The bits to add.
+ @throws NullPointerException If the given BitHolder is null. */
+public void add(@NotNull BitHolder bits) throws NullPointerException {
+  insert(size(), bits);
+}
+
+/**
+ Inserts a bit at the given index. The bit at the index & any subsequent bits will have their index increased by one.
+ @param index The index to insert the bit at. This can be the size of the buffer to add the bit at the end.
+ @param bit   The bit to insert.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the size. */
+public void insert(int index, boolean bit) throws IndexOutOfBoundsException {
+  isInsertable(index);
+
+  moveGap(index);
+  front.add(bit);
+}
+
+/**
+ Inserts the given bits at the given index. The bit at the index & any subsequent bits will be shifted right.
+ @param index The index to insert the bits at. This can be the size of the buffer to add the bits at the end.
+ @param bits  The bits to insert.
+ @throws NullPointerException      If the given BitHolder is null.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the size. */
+public void insert(int index, @NotNull BitHolder bits) throws NullPointerException, IndexOutOfBoundsException {
+  nullCheck(bits);
+  isInsertable(index);
+
+  moveGap(index);
+  front.add(bits);
+}
+
+/**
+ Removes the bit at the given index. Shifts any subsequent bits to the left.
+ @param index The index to remove the bit at.
+ @return The value of the bit that was removed.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
+public boolean remove(int index) throws IndexOutOfBoundsException {
+  isInBounds(index);
+
+  moveGap(index + 1);
+  return front.remove();
+}
+
+/**
+ Removes the bits between the given startIndex & the given endIndex. Shifts any subsequent bits to the left.
+ @param startIndex The index to start removing the bits at (this index will also be removed).
+ @param endIndex   The index to stop removing the bits at (this index will also be removed).
+ @return The bits that were removed as BitHolder.
+ @throws IllegalArgumentException  If the startIndex is bigger than the endIndex.
+ @throws IndexOutOfBoundsException If either of the given indexes is negative or if they are bigger than the highest index. */
+public @NotNull BitHolder remove(int startIndex, int endIndex) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (startIndex > endIndex) {throw new IllegalArgumentException(startBiggerThanEndIndex(startIndex, endIndex));}
+  isInBounds(startIndex);
+  isInBounds(endIndex);
+
+  // With the gap after the removed bits, they're the last bits before the gap & can be cut off the end.
+  moveGap(endIndex + 1);
+  BitHolder removedBits = front.subBits(startIndex, endIndex);
+  front.setSize(startIndex);
+  return removedBits;
+}
+
+/**
+ @return A new BitHolder containing the bits in the buffer. */
+public @NotNull BitHolder toBitHolder() {
+  BitHolder bits = new BitHolder(front, true);
+  bits.ensureCapacity(size());
+
+  for (int end = back.size(); end > 0; ) {
+    int length = Math.min(64, end);
+    end -= length;
+    bits.addBits(reverse(back.getBits(end, length), length), length);
+  }
+
+  return bits;
+}
+
+
+/**
+ Moves the gap to the given index, moving up to 64 bits at a time between the front & the back.
+ @param index The index to move the gap to. Must be between 0 & the size. */
+private void moveGap(int index) {
+  while (front.size() > index) {
+    int length = Math.min(64, front.size() - index);
+    int start = front.size() - length;
+
+    back.addBits(reverse(front.getBits(start, length), length), length);
+    front.setSize(start);
+  }
+
+  while (front.size() < index) {
+    int length = Math.min(64, index - front.size());
+    int start = back.size() - length;
+
+    front.addBits(reverse(back.getBits(start, length), length), length);
+    back.setSize(start);
+  }
+}
+
+/**
+ @param index An index in the buffer that is after the gap.
+ @return The index in the back that holds the bit. */
+private int backIndex(int index) {
+  return back.size() - 1 - (index - front.size());
+}
+
+/**
+ @param bits      The bits packed into the lowest positions of a long.
+ @param bitLength The amount of bits. Must be between 1 & 64.
+ @return The bits in reverse order. */
+private static long reverse(long bits, int bitLength) {
+  return Long.reverse(bits) >>> (64 - bitLength);
+}
+
+/**
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
+private void isInBounds(int index) throws IndexOutOfBoundsException {
+  if (index < 0) {throw new IndexOutOfBoundsException(amountBellowZero(index));}
+  if (index >= size()) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(size() - 1, index));}
+}
+
+/**
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the size. */
+private void isInsertable(int index) throws IndexOutOfBoundsException {
+  if (index < 0) {throw new IndexOutOfBoundsException(amountBellowZero(index));}
+  if (index > size()) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(size(), index));}
+}
+
+}
@@ -1,41 +1,53 @@
 package me.tye.easybits;
 
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static me.tye.easybits.ErrorMessages.*;
 import static me.tye.easybits.Primitive.*;
 
 /**
- This class is the base wrapper class for BitSet. It contains various methods that make working with the BitSet in java much easier. */
+ This class holds a resizable sequence of bits packed into 64 bit words. It contains various methods that make working with bits in java much easier.<br>
+ Multi-bit values such as primitives are stored with their most significant bit at the lowest index. */
 @SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
-public class BitHolder implements Iterable<Boolean>, Serializable {
+public class BitHolder implements Iterable<Boolean>, Serializable, Comparable<BitHolder> {
 
 /**
  Used for serializing the class. */
-private static final long serialVersionUID = 3236178498501294050L;
+private static final long serialVersionUID = -6021346839418187255L;
 
 /**
  The amount of bits this BitHolder has indexed. */
 private int size = 0;
 /**
- The underlying {@link BitSet} that holds the bits being stored. */
-private final @NotNull BitSet bitSet;
+ The underlying {@link WordStorage} that holds the bits being stored. */
+private final @NotNull WordStorage storage;
+/**
+ The cached result of {@link #hashCode()}, or 0 if it hasn't been calculated. Only used once the BitHolder is immutable, as the bits can't change after that.<br>
+ The hash is a single int, so another thread either sees all of it or 0, in which case it calculates the hash again. */
+private transient int hash = 0;
 
 
 /**
  Constructs a new bit holder with a starting size of 16 bits. */
 public BitHolder() {
-  this.bitSet = new BitSet(15);
+  this.storage = new HeapWordStorage(16);
 }
 
 /**
@@ -44,7 +56,7 @@ public BitHolder() {
  @param startingSize The starting size of the BitHolder. */
 public BitHolder(int startingSize) {
   this.size = startingSize;
-  this.bitSet = new BitSet(startingSize);
+  this.storage = HeapWordStorage.empty(startingSize);
 }
 
 /**
@@ -55,6 +67,28 @@ public BitHolder(boolean[] bits) {
   set(0, bits);
 }
 
+/**
+ Constructs a new bit holder around an existing storage. Any bits at or above the given size in the storage must be 0.
+ @param storage The storage holding the bits.
+ @param size    The amount of bits the BitHolder has indexed. */
+BitHolder(@NotNull WordStorage storage, int size) {
+  this.storage = storage;
+  this.size = size;
+}
+
+/**
+ @param size The size of the BitHolder.
+ @return A new BitHolder of the given size that starts with dense words, for results that are about to have every word written to. */
+static @NotNull BitHolder newDense(int size) {
+  return new BitHolder(new HeapWordStorage(size), size);
+}
+
+/**
+ @return The storage holding the bits. Any bits at or above the size are 0. */
+@NotNull WordStorage storage() {
+  return storage;
+}
+
 // Cloning
 
 /**
@@ -62,27 +96,56 @@ public BitHolder(boolean[] bits) {
  @param toClone   The instance of BitHolder to return a clone of.
  @param deepClone True if the given instance should de cloned deeply, false if the given instance should be cloned shallowly.
  @throws NullPointerException If toClone is null. */
-@SuppressWarnings ("RedundantIfStatement")// Makes sure the clone is created using pass by value.
 public BitHolder(@NotNull BitHolder toClone, boolean deepClone) throws NullPointerException {
   nullCheck(toClone);
 
+  this.size = toClone.size;
+
   if (deepClone) {
+    // Only the words holding the bits are copied. A shallow clone with a bigger size could have set bits past the size in the last word, so they're cleared.
+    this.storage = toClone.storage.copy(WordStorage.wordsFor(toClone.size()));
+    clearUnusedBits();
+  }
+  else { // Shallow clone
+    this.storage = toClone.storage;
+  }
+}
 
-    this.bitSet = new BitSet();
-    for (boolean bit : toClone) {
-      if (bit) {add(true);}
-      else {add(false);}
-    }
+/**
+ Creates a copy of this BitHolder in constant time.<br>
+ The copy shares the bits with this BitHolder until either of them is modified, at which point the modified one copies the bits.
+ After that, changes to one of them won't affect the other, the same as a deep clone.<br>
+ Shallow clones of either BitHolder keep seeing the changes made to the one they were cloned from.
+ @return The copy of this BitHolder. */
+public @NotNull BitHolder snapshot() {
+  return new BitHolder(storage.snapshot(), size);
+}
 
-    this.setSize(toClone.size());
+/**
+ Creates an immutable copy of this BitHolder in constant time, in the same way as {@link #snapshot()}.<br>
+ Any method that would modify the copy throws an {@link UnsupportedOperationException} instead.
+ As the bits of the copy can't change, its {@link #hashCode()} is only calculated once.
+ @return The immutable copy of this BitHolder. */
+public @NotNull BitHolder toImmutable() {
+  if (isImmutable()) {return this;}
 
-  }
-  else { // Shallow clone
+  WordStorage snapshot = storage.snapshot();
+  snapshot.makeImmutable();
+  return new BitHolder(snapshot, size);
+}
 
-    this.bitSet = toClone.bitSet;
-    this.size = toClone.size;
+/**
+ @return True if this BitHolder can't be modified. */
+public boolean isImmutable() {
+  return storage.isImmutable();
+}
 
-  }
+/**
+ A BitHolder on the heap changes how it stores its bits as their density changes, without changing how it behaves.
+ Big BitHolders with few high bits are stored sparsely, ones with their high bits grouped together are stored as runs, & the rest are stored densely.
+ @return The current way the bits are stored & about how much memory they use. */
+public @NotNull StorageStats storageStats() {
+  return new StorageStats(storage.representation(), storage.sizeInBytes(), storage.representationSwitches());
 }
 
 
@@ -115,12 +178,10 @@ public void add(@NotNull BitHolder bits) throws NullPointerException {
   nullCheck(bits);
 
   int originalSize = size();
-  int newSize = originalSize + bits.size();
-  setSize(newSize);
+  int bitLength = bits.size(); // Stored before resizing in case bits is this BitHolder.
+  setSize(originalSize + bitLength);
 
-  for (int i = 0; i < bits.size(); i++) {
-    set(i + originalSize, bits.get(i));
-  }
+  copyBits(bits, 0, originalSize, bitLength);
 }
 
 
@@ -131,7 +192,7 @@ public void add(@NotNull BitHolder bits) throws NullPointerException {
  @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
 public void set(int index, boolean bit) throws IndexOutOfBoundsException {
   isInBounds(index);
-  bitSet.set(index, bit);
+  setBit(index, bit);
 }
 
 /**
@@ -146,7 +207,7 @@ public void set(int index, boolean[] bits) throws IndexOutOfBoundsException {
   isInBounds(index + bits.length - 1);
 
   for (int i = 0; i < bits.length; i++) {
-    bitSet.set(index + i, bits[i]);
+    setBit(index + i, bits[i]);
   }
 }
 
@@ -161,9 +222,7 @@ public void set(int index, @NotNull BitHolder bits) throws NullPointerException,
   isInBounds(index);
   isInBounds(index + bits.highestIndex());
 
-  for (int i = 0; i < bits.size(); i++) {
-    this.set(index + i, bits.get(i));
-  }
+  copyBits(bits, 0, index, bits.size());
 }
 
 
@@ -184,7 +243,11 @@ public boolean remove() {
  @return The value of the bit that was removed.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
 public boolean remove(int index) throws IndexOutOfBoundsException {
-  return remove(index, index).get(0);
+  isInBounds(index);
+
+  boolean bit = getBit(index);
+  deleteBits(index, 1);
+  return bit;
 }
 
 
@@ -197,23 +260,8 @@ public boolean remove(int index) throws IndexOutOfBoundsException {
  @throws IllegalArgumentException  If the endIndex is bigger than the startIndex.
  @throws IndexOutOfBoundsException If either of the given indexes is negative or if they are bigger than the highest index. */
 public @NotNull BitHolder remove(int startIndex, int endIndex) throws IllegalArgumentException, IndexOutOfBoundsException {
-  if (startIndex > endIndex) throw new IllegalArgumentException(startBiggerThanEndIndex(startIndex, endIndex));
-
-  isInBounds(startIndex);
-  isInBounds(endIndex);
-
-  // Edge case coverage. This is because one is added to the endIndex later.
-  if (endIndex == highestIndex()) {
-    BitHolder removedBits = subBits(startIndex, highestIndex());
-    setSize(size() - (size() - startIndex));
-    return removedBits;
-  }
-
   BitHolder removedBits = subBits(startIndex, endIndex);
-  boolean[] subsequentBits = get(endIndex + 1, highestIndex());
-  set(startIndex, subsequentBits);
-  setSize(startIndex + subsequentBits.length);
-
+  deleteBits(startIndex, endIndex - startIndex + 1);
   return removedBits;
 }
 
@@ -224,7 +272,7 @@ public @NotNull BitHolder remove(int startIndex, int endIndex) throws IllegalArg
  @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
 public boolean get(int index) throws IndexOutOfBoundsException {
   isInBounds(index);
-  return bitSet.get(index);
+  return getBit(index);
 }
 
 /**
@@ -256,7 +304,12 @@ public boolean[] get(int startIndex, int endIndex) throws IllegalArgumentExcepti
  @param bit   The bit to insert into the BitHolder at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
 public void insert(int index, boolean bit) throws IndexOutOfBoundsException {
-  insert(index, new boolean[]{bit});
+  isInBounds(index);
+
+  int oldSize = size();
+  setSize(oldSize + 1);
+  copyBits(this, index, index + 1, oldSize - index);
+  setBit(index, bit);
 }
 
 /**
@@ -274,9 +327,17 @@ public void insert(int index, boolean[] bits) throws IndexOutOfBoundsException {
  @param bits  The bits to insert into the BitHolder at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index. */
 public void insert(int index, BitHolder bits) throws IndexOutOfBoundsException {
-  BitHolder bitsToShift = remove(index, highestIndex());
-  add(bits);
-  add(bitsToShift);
+  nullCheck(bits);
+  isInBounds(index);
+
+  // The inserted bits are copied first if they share this storage, as moving the subsequent bits would overwrite them.
+  BitHolder source = bits.storage == this.storage ? new BitHolder(bits, true) : bits;
+  int length = source.size();
+  int oldSize = size();
+
+  setSize(oldSize + length);
+  copyBits(this, index, index + length, oldSize - index);
+  copyBits(source, 0, index, length);
 }
 
 /**
@@ -289,20 +350,23 @@ public void insert(int index, BitHolder bits) throws IndexOutOfBoundsException {
 public @NotNull BitHolder shiftLeft(int amount) throws IllegalArgumentException {
   if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
 
-  BitHolder bitHolderClone = new BitHolder(this, true);
-
-  if (amount == 0) {
-    return bitHolderClone;
-  }
+  BitHolder shifted = newDense(size());
+  shiftWordsLeft(amount, shifted);
+  return shifted;
+}
 
-  if (amount > size()) {
-    bitHolderClone.allLow();
-    return bitHolderClone;
-  }
+/**
+ Shifts the bits in this BitHolder to the left (decreasing the index) by the given amount.<br>
+ This method does not wrap around bits that exit the bounds of the array.<br>
+ Any new bits added will be initially set to false.
+ @param amount The amount to shift the bits by.
+ @return This BitHolder.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder shiftLeftInPlace(int amount) throws IllegalArgumentException {
+  if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
 
-  bitHolderClone.remove(0, amount - 1);
-  bitHolderClone.add(new boolean[amount]);
-  return bitHolderClone;
+  shiftWordsLeft(amount, this);
+  return this;
 }
 
 /**
@@ -315,54 +379,134 @@ public @NotNull BitHolder shiftLeft(int amount) throws IllegalArgumentException
 public @NotNull BitHolder shiftRight(int amount) throws IllegalArgumentException {
   if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
 
-  BitHolder bitHolderClone = new BitHolder(this, true);
+  BitHolder shifted = newDense(size());
+  shiftWordsRight(amount, shifted);
+  return shifted;
+}
 
-  if (amount == 0) {
-    return bitHolderClone;
-  }
+/**
+ Shifts the bits in this BitHolder to the right (increasing the index) by the given amount.<br>
+ This method does not wrap around bits that exit the bounds of the array. <br>
+ Any new bits added will be initially set to false.
+ @param amount The amount to shift the bits by.
+ @return This BitHolder.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder shiftRightInPlace(int amount) throws IllegalArgumentException {
+  if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
 
-  if (amount > highestIndex()) {
-    bitHolderClone.allLow();
-    return bitHolderClone;
-  }
+  shiftWordsRight(amount, this);
+  return this;
+}
 
-  boolean[] shiftedContent = new boolean[size()];
-  System.arraycopy(toBoolArray(), 0, shiftedContent, amount, size() - amount); // Copy the remaining bits to a new bool array offset by the shift amount.
-  bitHolderClone.set(0, shiftedContent); // Replace the contents of this with the new bool array.
-  return bitHolderClone;
+/**
+ Creates a clone of this BitHolder with the bits rotated to the left (decreasing the index) by the given amount.<br>
+ Bits that exit the start of the BitHolder are wrapped around to the end.
+ @param amount The amount to rotate the bits by. Amounts bigger than the size wrap around.
+ @return A modified BitHolder with the bits rotated by the given amount.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder rotateLeft(int amount) throws IllegalArgumentException {
+  return new BitHolder(this, true).rotateLeftInPlace(amount);
+}
+
+/**
+ Rotates the bits in this BitHolder to the left (decreasing the index) by the given amount.<br>
+ Bits that exit the start of the BitHolder are wrapped around to the end.
+ @param amount The amount to rotate the bits by. Amounts bigger than the size wrap around.
+ @return This BitHolder.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder rotateLeftInPlace(int amount) throws IllegalArgumentException {
+  if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
+  if (size() == 0) {return this;}
+
+  int split = amount % size();
+  if (split == 0) {return this;}
+
+  // Reversing both sides of the split & then the whole range moves the first side to the end.
+  reverseBits(0, split);
+  reverseBits(split, size());
+  reverseBits(0, size());
+  return this;
+}
+
+/**
+ Creates a clone of this BitHolder with the bits rotated to the right (increasing the index) by the given amount.<br>
+ Bits that exit the end of the BitHolder are wrapped around to the start.
+ @param amount The amount to rotate the bits by. Amounts bigger than the size wrap around.
+ @return A modified BitHolder with the bits rotated by the given amount.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder rotateRight(int amount) throws IllegalArgumentException {
+  return new BitHolder(this, true).rotateRightInPlace(amount);
+}
+
+/**
+ Rotates the bits in this BitHolder to the right (increasing the index) by the given amount.<br>
+ Bits that exit the end of the BitHolder are wrapped around to the start.
+ @param amount The amount to rotate the bits by. Amounts bigger than the size wrap around.
+ @return This BitHolder.
+ @throws IllegalArgumentException If the given amount is negative. */
+public @NotNull BitHolder rotateRightInPlace(int amount) throws IllegalArgumentException {
+  if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
+  if (size() == 0) {return this;}
+
+  return rotateLeftInPlace(size() - (amount % size()));
 }
 
 
 /**
  Sets all the bits in this BitHolder to high (true). */
 public void allHigh() {
-  boolean[] newContent = new boolean[size()];
-  Arrays.fill(newContent, true);
-  set(0, newContent);
+  int wordCount = WordStorage.wordsFor(size());
+  for (int i = 0; i < wordCount; i++) {
+    storage.setWord(i, -1L);
+  }
+
+  clearUnusedBits();
 }
 
 /**
  Sets all the bits in this BitHolder to low (false). */
 public void allLow() {
-  set(0, new boolean[size()]);
+  clearBits(0, size());
 }
 
 /**
  @return True if all the bits in the BitHolder are high (true); */
 public boolean areAllHigh() {
-  return bitSet.cardinality() >= size();
+  int fullWords = size() >>> 6;
+  boolean fullWordsHigh = WordTasks.allMatch(fullWords, (fromWord, toWord) -> {
+    for (int i = fromWord; i < toWord; i++) {
+      if (storage.getWord(i) != -1L) {return false;}
+    }
+    return true;
+  });
+
+  int usedBits = size() & 63;
+  return fullWordsHigh && (usedBits == 0 || logicalWord(fullWords) == -1L >>> (64 - usedBits));
 }
 
 /**
  @return True if all the bits in the BitHolder are low (false); */
 public boolean areAllLow() {
-  // This method can't check the cardinality of the bitSet as bits that exist above of the tracked "size"
-  // in the set could interfere with the result of that method.
-  for (boolean bit : this) {
-    if (bit) {return false;}
+  // The words are read through a mask, as a shallow clone could have left high bits past the size.
+  return WordTasks.allMatch(WordStorage.wordsFor(size()), (fromWord, toWord) -> {
+    for (int i = fromWord; i < toWord; i++) {
+      if (logicalWord(i) != 0) {return false;}
+    }
+    return true;
+  });
+}
+
+
+/**
+ @return The amount of high (true) bits in this BitHolder. */
+public int highBitCount() {
+  int count = 0;
+  int wordCount = WordStorage.wordsFor(size());
+  for (int i = 0; i < wordCount; i++) {
+    count += Long.bitCount(logicalWord(i));
   }
 
-  return true;
+  return count;
 }
 
 
@@ -383,25 +527,75 @@ public @NotNull BitHolder subBits(int index) throws IndexOutOfBoundsException {
  @throws IllegalArgumentException  If the endIndex is bigger than the startIndex.
  @throws IndexOutOfBoundsException If either of the given indexes is negative or if they are bigger than the highest index. */
 public @NotNull BitHolder subBits(int startIndex, int endIndex) throws IllegalArgumentException, IndexOutOfBoundsException {
-  BitHolder bitHolder = new BitHolder(this, true); // Creates a deep clone of the object.
-  boolean[] subBits = bitHolder.get(startIndex, endIndex);
-  return new BitHolder(subBits);
+  if (startIndex > endIndex) throw new IllegalArgumentException(startBiggerThanEndIndex(startIndex, endIndex));
+
+  isInBounds(startIndex);
+  isInBounds(endIndex);
+
+  int length = endIndex - startIndex + 1;
+  BitHolder subBits = newDense(length);
+  subBits.copyBits(this, startIndex, 0, length);
+  return subBits;
+}
+
+/**
+ Creates a view of the bits between the given indexes without copying them.<br>
+ The view reads the bits from this BitHolder, so any changes to this BitHolder will be seen through the view.
+ Use {@link BitSlice#toBitHolder()} to get a copy that is independent of this BitHolder.
+ @param startIndex Must be lower.
+ @param endIndex   Must be higher.
+ @return A view of the bits between the startIndex (inclusive) & the endIndex (inclusive).
+ @throws IllegalArgumentException  If the endIndex is bigger than the startIndex.
+ @throws IndexOutOfBoundsException If either of the given indexes is negative or if they are bigger than the highest index. */
+public @NotNull BitSlice slice(int startIndex, int endIndex) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (startIndex > endIndex) throw new IllegalArgumentException(startBiggerThanEndIndex(startIndex, endIndex));
+
+  isInBounds(startIndex);
+  isInBounds(endIndex);
+
+  return new BitSlice(this, startIndex, endIndex - startIndex + 1);
 }
 
 
 // Logic operations //
+// The operand of a logic operation is treated as if it was the same size as the BitHolder the operation was called on.
+// Missing bits are read as low & extra bits are ignored. The operand is never modified.
 
 /**
  Performs the NOT logic operation on this BitHolder.
  @return A new BitHolder containing the result of the NOT logic operation on the calling BitHolder. */
 public @NotNull BitHolder NOT() {
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return NOT(newResult(size()));
+}
+
+/**
+ Performs the NOT logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the destination was null. */
+public @NotNull BitHolder NOT(@NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(destination);
+
+  destination.setSize(size());
+  destination.storage.prepareWrite();
+
+  WordTasks.forEachRange(WordStorage.wordsFor(size()), destination.storage, (fromWord, toWord) -> {
+    for (int i = fromWord; i < toWord; i++) {
+      destination.storage.setWord(i, ~storage.getWord(i));
+    }
+  });
+
+  destination.clearUnusedBits();
+  return destination;
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.flip(0, size());
-  return clone;
+/**
+ Performs the NOT logic operation on this BitHolder, replacing its bits with the result.
+ @return This BitHolder. */
+public @NotNull BitHolder notInPlace() {
+  flipAll();
+  return this;
 }
 
 /**
@@ -411,15 +605,30 @@ public @NotNull BitHolder NOT() {
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder AND(@NotNull BitHolder bitsToAND) throws NullPointerException {
   nullCheck(bitsToAND);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.AND, bitsToAND, newResult(size()));
+}
 
-  bitsToAND.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
+/**
+ Performs the AND logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToAND   The BitHolder to preform the AND operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder AND(@NotNull BitHolder bitsToAND, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToAND);
+  nullCheck(destination);
+  return logic(LogicOperation.AND, bitsToAND, destination);
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.and(bitsToAND.bitSet);
-  return clone;
+/**
+ Performs the AND logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToAND The BitHolder to preform the AND operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder andInPlace(@NotNull BitHolder bitsToAND) throws NullPointerException {
+  nullCheck(bitsToAND);
+  return logic(LogicOperation.AND, bitsToAND, this);
 }
 
 /**
@@ -429,15 +638,30 @@ public @NotNull BitHolder AND(@NotNull BitHolder bitsToAND) throws NullPointerEx
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder NAND(@NotNull BitHolder bitsToNAND) throws NullPointerException {
   nullCheck(bitsToNAND);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.NAND, bitsToNAND, newResult(size()));
+}
 
-  bitsToNAND.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
+/**
+ Performs the NAND logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToNAND   The BitHolder to preform the NAND operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder NAND(@NotNull BitHolder bitsToNAND, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToNAND);
+  nullCheck(destination);
+  return logic(LogicOperation.NAND, bitsToNAND, destination);
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.and(bitsToNAND.bitSet);
-  return clone.NOT();
+/**
+ Performs the NAND logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToNAND The BitHolder to preform the NAND operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder nandInPlace(@NotNull BitHolder bitsToNAND) throws NullPointerException {
+  nullCheck(bitsToNAND);
+  return logic(LogicOperation.NAND, bitsToNAND, this);
 }
 
 /**
@@ -447,15 +671,30 @@ public @NotNull BitHolder NAND(@NotNull BitHolder bitsToNAND) throws NullPointer
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder OR(@NotNull BitHolder bitsToOR) throws NullPointerException {
   nullCheck(bitsToOR);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.OR, bitsToOR, newResult(size()));
+}
 
-  bitsToOR.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
+/**
+ Performs the OR logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToOR   The BitHolder to preform the OR operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder OR(@NotNull BitHolder bitsToOR, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToOR);
+  nullCheck(destination);
+  return logic(LogicOperation.OR, bitsToOR, destination);
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.or(bitsToOR.bitSet);
-  return clone;
+/**
+ Performs the OR logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToOR The BitHolder to preform the OR operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder orInPlace(@NotNull BitHolder bitsToOR) throws NullPointerException {
+  nullCheck(bitsToOR);
+  return logic(LogicOperation.OR, bitsToOR, this);
 }
 
 /**
@@ -465,15 +704,30 @@ public @NotNull BitHolder OR(@NotNull BitHolder bitsToOR) throws NullPointerExce
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder NOR(@NotNull BitHolder bitsToNOR) throws NullPointerException {
   nullCheck(bitsToNOR);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.NOR, bitsToNOR, newResult(size()));
+}
 
-  bitsToNOR.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
+/**
+ Performs the NOR logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToNOR   The BitHolder to preform the NOR operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder NOR(@NotNull BitHolder bitsToNOR, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToNOR);
+  nullCheck(destination);
+  return logic(LogicOperation.NOR, bitsToNOR, destination);
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.or(bitsToNOR.bitSet);
-  return clone.NOT();
+/**
+ Performs the NOR logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToNOR The BitHolder to preform the NOR operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder norInPlace(@NotNull BitHolder bitsToNOR) throws NullPointerException {
+  nullCheck(bitsToNOR);
+  return logic(LogicOperation.NOR, bitsToNOR, this);
 }
 
 /**
@@ -483,15 +737,30 @@ public @NotNull BitHolder NOR(@NotNull BitHolder bitsToNOR) throws NullPointerEx
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder XOR(@NotNull BitHolder bitsToXOR) throws NullPointerException {
   nullCheck(bitsToXOR);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.XOR, bitsToXOR, newResult(size()));
+}
 
-  bitsToXOR.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
+/**
+ Performs the XOR logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToXOR   The BitHolder to preform the XOR operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder XOR(@NotNull BitHolder bitsToXOR, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToXOR);
+  nullCheck(destination);
+  return logic(LogicOperation.XOR, bitsToXOR, destination);
+}
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.xor(bitsToXOR.bitSet);
-  return clone;
+/**
+ Performs the XOR logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToXOR The BitHolder to preform the XOR operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder xorInPlace(@NotNull BitHolder bitsToXOR) throws NullPointerException {
+  nullCheck(bitsToXOR);
+  return logic(LogicOperation.XOR, bitsToXOR, this);
 }
 
 /**
@@ -501,15 +770,48 @@ public @NotNull BitHolder XOR(@NotNull BitHolder bitsToXOR) throws NullPointerEx
  @throws NullPointerException If the given BitHolder was null. */
 public @NotNull BitHolder XNOR(@NotNull BitHolder bitsToXNOR) throws NullPointerException {
   nullCheck(bitsToXNOR);
-  if (size() == 0) {
-    return new BitHolder(); // Handles edge case of a logic operation on an empty BitHolder.
-  }
+  return logic(LogicOperation.XNOR, bitsToXNOR, newResult(size()));
+}
+
+/**
+ Performs the XNOR logic operation on this BitHolder & writes the result into the given destination.<br>
+ The destination is resized to the size of this BitHolder. It can be this BitHolder or the operand.
+ @param bitsToXNOR   The BitHolder to preform the XNOR operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination.
+ @throws NullPointerException If the given BitHolder or the destination was null. */
+public @NotNull BitHolder XNOR(@NotNull BitHolder bitsToXNOR, @NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(bitsToXNOR);
+  nullCheck(destination);
+  return logic(LogicOperation.XNOR, bitsToXNOR, destination);
+}
+
+/**
+ Performs the XNOR logic operation on this BitHolder, replacing its bits with the result.
+ @param bitsToXNOR The BitHolder to preform the XNOR operation with.
+ @return This BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+public @NotNull BitHolder xnorInPlace(@NotNull BitHolder bitsToXNOR) throws NullPointerException {
+  nullCheck(bitsToXNOR);
+  return logic(LogicOperation.XNOR, bitsToXNOR, this);
+}
 
-  bitsToXNOR.setSize(this.size()); // Ensures that the bitHolders are the same size for consistency.
 
-  BitHolder clone = new BitHolder(this, true);
-  clone.bitSet.xor(bitsToXNOR.bitSet);
-  return clone.NOT();
+/**
+ Sets how big a BitHolder has to be before the logic operations, {@link #NOT()}, {@link #areAllLow()}, {@link #areAllHigh()},
+ {@link #toByteArray()} & {@link #toHexString()} split their words into ranges that are processed on the common {@link java.util.concurrent.ForkJoinPool}.<br>
+ The results are the same whether the work is split or not. The default is 16,777,216 bits.
+ @param bitCount The amount of bits. Use {@link Integer#MAX_VALUE} to never split the work.
+ @throws IllegalArgumentException If the bitCount is negative. */
+public static void setParallelThreshold(int bitCount) throws IllegalArgumentException {
+  if (bitCount < 0) {throw new IllegalArgumentException(amountBellowZero(bitCount));}
+  WordTasks.parallelThreshold(bitCount);
+}
+
+/**
+ @return The amount of bits a BitHolder needs before its work is split across threads. See {@link #setParallelThreshold(int)}. */
+public static int getParallelThreshold() {
+  return WordTasks.parallelThreshold();
 }
 
 
@@ -521,19 +823,21 @@ public int size() {
 
 /**
  Sets the size of the bits that are contained within the BitHolder. The size is the {@link #highestIndex()} + 1<br>
- Any bits that exist within the inner bitSet that are above the highestIndex wil be false.<br>
+ Any bits that exist within the inner storage that are above the highestIndex wil be false.<br>
  If any new bits are created they will default to false.
  @param newSize The new size of the BitHolder. This value must be 0 or above.
  @throws IllegalArgumentException If the given size was negative. */
-private void setSize(int newSize) throws IllegalArgumentException {
+void setSize(int newSize) throws IllegalArgumentException {
   if (newSize < 0) {throw new IllegalArgumentException(amountBellowZero(newSize));}
+  if (newSize != size() && storage.isImmutable()) {throw new UnsupportedOperationException(immutableBitHolder());}
 
   if (newSize > size()) {
+    storage.ensureCapacity(newSize);
     this.size = newSize;
     return;
   }
 
-  bitSet.set(newSize, size() + 1, false); // Resets all out of bounds bits to false.
+  clearBits(newSize, size()); // Resets all out of bounds bits to false.
   this.size = newSize;
 }
 
@@ -546,7 +850,7 @@ public int highestIndex() {
 
 /**
  Sets the size of the bits that are contained within the BitHolder based on the highestIndex. The highest index is the size – 1. <br>
- Any bits that exist within the inner bitSet that are above the highestIndex wil be false.<br>
+ Any bits that exist within the inner storage that are above the highestIndex wil be false.<br>
  If any new bits are created they will default to false.
  @param newHighestIndex The new highestIndex of the BitHolder. This value must be 0 or above.
  @throws IllegalArgumentException If the given index was negative. */
@@ -554,6 +858,14 @@ public void setHighestIndex(int newHighestIndex) {
   setSize(newHighestIndex + 1);
 }
 
+/**
+ Makes sure the BitHolder can grow to at least the given size without having to reallocate its storage.<br>
+ This doesn't change the size of the BitHolder.
+ @param bitCapacity The amount of bits to make space for. */
+public void ensureCapacity(int bitCapacity) {
+  storage.ensureCapacity(bitCapacity);
+}
+
 /**
  @return True if the BitHolder has a size of 0. False otherwise. */
 public boolean isEmpty() {
@@ -572,7 +884,7 @@ public void clear() {
 // String handling
 
 /**
- If you want to get a BitHolder from a string use {@link #fromBitString(String)}.
+ If you want to get a BitHolder from a string use {@link #fromBitString(CharSequence)}.
  @return An output of the bits this BitHolder contains. */
 @Override
 public @NotNull String toString() {
@@ -596,121 +908,544 @@ public @NotNull String toString() {
 }
 
 /**
+ If the size isn't a multiple of 4 the last hex character is padded with low bits.
  @return A hex string that represents the bits stored in this holder. */
 public @NotNull String toHexString() {
-  StringBuilder hexString = new StringBuilder();
-  int bitsToPad = size() % 4;
-  setSize(size() + bitsToPad);
+  int nibbleCount = (int) ((size() + 3L) / 4);
+  if (nibbleCount == 0) {return "";}
 
-  for (int i = 0; i < size() - 3; i += 4) {
-    if (i % 8 == 0) hexString.append(' '); // Appends a space after every byte.
+  // Each byte is separated by a space.
+  char[] hexString = new char[nibbleCount + ((nibbleCount - 1) / 2)];
 
-    boolean[] nibble = get(i, i + 3);
-    hexString.append(Hex.nibbleToHex(nibble));
-  }
+  WordTasks.forEachRange(WordStorage.wordsFor(size()), (fromWord, toWord) -> {
+    int nibble = fromWord * 16;
+    // Each nibble is preceded by one space for every full byte before it. A range that doesn't start at the first nibble writes the space before it too.
+    int position = nibble == 0 ? 0 : nibble + (nibble / 2) - 1;
+
+    for (int index = fromWord << 6; index < size() && index < toWord << 6; index += 64) {
+      int bitLength = Math.min(64, size() - index);
+      long bits = readBits(index, bitLength) << (64 - bitLength); // Moves the bits to the top of the long so any padding bits are low.
+
+      for (int i = 0; i < (bitLength + 3) / 4; i++, nibble++) {
+        if (nibble != 0 && (nibble & 1) == 0) {hexString[position++] = ' ';}
+
+        hexString[position++] = Hex.nibbleToHex((int) (bits >>> 60));
+        bits <<= 4;
+      }
+    }
+  });
+
+  return new String(hexString);
+}
+
+/**
+ Writes the bits as "1"s & "0"s to the given output. The output is written in chunks, so the whole dump is never held in memory.<br>
+ The output isn't flushed or closed.
+ @param output The output to write to, e.g. a {@link java.io.Writer} or a {@link StringBuilder}.
+ @param format The layout of the dump. {@link DumpFormat#BYTES} gives the same output as {@link #toString()}.
+ @throws NullPointerException If either argument is null.
+ @throws IOException          If the output couldn't be written to. */
+public void writeBinary(@NotNull Appendable output, @NotNull DumpFormat format) throws NullPointerException, IOException {
+  nullCheck(output);
+  nullCheck(format);
+
+  new DumpWriter(output).writeBinary(this, format);
+}
+
+/**
+ Writes the bits as "1"s & "0"s to the given output, with one ASCII byte for each character. The output is written in chunks, so the whole dump is never held in memory.<br>
+ The output isn't flushed or closed.
+ @param output The output to write to.
+ @param format The layout of the dump. {@link DumpFormat#BYTES} gives the same output as {@link #toString()}.
+ @throws NullPointerException If either argument is null.
+ @throws IOException          If the output couldn't be written to. */
+public void writeBinary(@NotNull OutputStream output, @NotNull DumpFormat format) throws NullPointerException, IOException {
+  nullCheck(output);
+  nullCheck(format);
+
+  new DumpWriter(output).writeBinary(this, format);
+}
+
+/**
+ Writes the bits as hex characters to the given output. The output is written in chunks, so the whole dump is never held in memory.<br>
+ If the size isn't a multiple of 4 the last hex character is padded with low bits. The output isn't flushed or closed.
+ @param output The output to write to, e.g. a {@link java.io.Writer} or a {@link StringBuilder}.
+ @param format The layout of the dump. {@link DumpFormat#BYTES} gives the same output as {@link #toHexString()}.
+ @throws NullPointerException     If either argument is null.
+ @throws IllegalArgumentException If the group or line size of the format isn't a multiple of 4.
+ @throws IOException              If the output couldn't be written to. */
+public void writeHex(@NotNull Appendable output, @NotNull DumpFormat format) throws NullPointerException, IllegalArgumentException, IOException {
+  nullCheck(output);
+  nullCheck(format);
+
+  new DumpWriter(output).writeHex(this, format);
+}
+
+/**
+ Writes the bits as hex characters to the given output, with one ASCII byte for each character. The output is written in chunks, so the whole dump is never held in memory.<br>
+ If the size isn't a multiple of 4 the last hex character is padded with low bits. The output isn't flushed or closed.
+ @param output The output to write to.
+ @param format The layout of the dump. {@link DumpFormat#BYTES} gives the same output as {@link #toHexString()}.
+ @throws NullPointerException     If either argument is null.
+ @throws IllegalArgumentException If the group or line size of the format isn't a multiple of 4.
+ @throws IOException              If the output couldn't be written to. */
+public void writeHex(@NotNull OutputStream output, @NotNull DumpFormat format) throws NullPointerException, IllegalArgumentException, IOException {
+  nullCheck(output);
+  nullCheck(format);
 
-  return hexString.toString().trim();
+  new DumpWriter(output).writeHex(this, format);
 }
 
 /**
  Creates a new BitHolder from the given string of bits.<br>
  The given string should only contain "1"'s or "0"'s. However, tabs, spaces, & line breaks are allowed. Any other characters will throw the IllegalArgumentException.<br>
  To get a bit string from a BitHolder in this format use {@link #toString()}.
- @param bitString The string to parse into the BitHolder.
+ @param bitString The string to parse into the BitHolder. Any {@link CharSequence} can be given, the characters are read in place.
  @return The BitHolder parsed from the given string of bits.
  @throws IllegalArgumentException If the given string contained a character that wasn't "1", "0", tab, space, or a line break.
  @throws NullPointerException     If the given bitString was null. */
-public static @NotNull BitHolder fromBitString(@NotNull String bitString) throws IllegalArgumentException, NullPointerException {
+public static @NotNull BitHolder fromBitString(@NotNull CharSequence bitString) throws IllegalArgumentException, NullPointerException {
   nullCheck(bitString);
+  return TextParser.parse(bitString, 1);
+}
 
-  BitHolder bits = new BitHolder();
-  char[] charArray = bitString.toCharArray();
-
-  for (char bit : charArray) {
-    switch (bit) {
-    // Ignores whitespaces & returns.
-    case ' ':
-    case '\t':
-    case '\r':
-    case '\n': {
-      continue;
+/**
+ Creates a new BitHolder from the string of bits read from the given reader. The reader is read in chunks until it ends, but isn't closed.<br>
+ The string should only contain "1"'s or "0"'s. However, tabs, spaces, & line breaks are allowed. Any other characters will throw the IllegalArgumentException.<br>
+ To write a bit string from a BitHolder in this format use {@link #writeBinary(Appendable, DumpFormat)}.
+ @param reader The reader to get the string of bits from.
+ @return The BitHolder parsed from the string of bits.
+ @throws IllegalArgumentException If the string contained a character that wasn't "1", "0", tab, space, or a line break.
+ @throws NullPointerException     If the given reader was null.
+ @throws IOException              If the reader couldn't be read from. */
+public static @NotNull BitHolder fromBitString(@NotNull Reader reader) throws IllegalArgumentException, NullPointerException, IOException {
+  nullCheck(reader);
+  return TextParser.parse(reader, 1);
+}
+
+/**
+ Creates a new BitHolder from the given string of hex characters.<br>
+ The given string should only contain valid hex characters (either upper or lower case).
+ However, tabs, spaces, & line breaks are allowed. Any other characters will throw the IllegalArgumentException.<br>
+ To get a bit string from a BitHolder in this format use {@link #toHexString()}.<br>
+ @param hexString The string to parse into the BitHolder. Any {@link CharSequence} can be given, the characters are read in place.
+ @return The BitHolder parsed from the given string of hex values.
+ @throws IllegalArgumentException If the given string contained a character that wasn't a hex character, tab, space, or a line break.
+ @throws NullPointerException     If the given hex string was null. */
+public static @NotNull BitHolder fromHexString(@NotNull CharSequence hexString) throws IllegalArgumentException, NullPointerException {
+  nullCheck(hexString);
+  return TextParser.parse(hexString, 4);
+}
+
+/**
+ Creates a new BitHolder from the string of hex characters read from the given reader. The reader is read in chunks until it ends, but isn't closed.<br>
+ The string should only contain valid hex characters (either upper or lower case).
+ However, tabs, spaces, & line breaks are allowed. Any other characters will throw the IllegalArgumentException.<br>
+ To write a hex string from a BitHolder in this format use {@link #writeHex(Appendable, DumpFormat)}.
+ @param reader The reader to get the string of hex characters from.
+ @return The BitHolder parsed from the string of hex characters.
+ @throws IllegalArgumentException If the string contained a character that wasn't a hex character, tab, space, or a line break.
+ @throws NullPointerException     If the given reader was null.
+ @throws IOException              If the reader couldn't be read from. */
+public static @NotNull BitHolder fromHexString(@NotNull Reader reader) throws IllegalArgumentException, NullPointerException, IOException {
+  nullCheck(reader);
+  return TextParser.parse(reader, 4);
+}
+
+
+/**
+ Concatenates this BitHolder with the given holders. They are concatenated in the order they were given.<br>
+ This method has no effect on the instance it was called on.
+ @param holders An array of BitHolders to concatenate together.
+ @return The BitHolder that is result of the concatenation.
+ @throws NullPointerException If any of the given BitHolders are null. */
+public @NotNull BitHolder concat(@NotNull BitHolder... holders) {
+  nullCheck(holders);
+  for (BitHolder holder : holders) {
+    nullCheck(holder);
+  }
+
+  BitHolder holder = new BitHolder(this, true);
+  holder.add(holder.toBoolArray());
+
+  for (BitHolder otherHolder : holders) {
+    holder.add(otherHolder.toBoolArray());
+  }
+
+  return holder;
+}
+
+
+// Word access
+
+/**
+ Gets up to 64 bits starting at the given index packed into a long.<br>
+ The bit at the given index is the most significant of the returned bits, which is the same order the primitive getters use.
+ The bits are returned in the lowest positions of the long & any unused higher positions are 0.
+ @param index     The index of the first bit to get.
+ @param bitLength The amount of bits to get. Must be between 0 & 64.
+ @return The bits packed into a long.
+ @throws IllegalArgumentException  If the bitLength is negative or bigger than 64.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bitLength is bigger than the highest index. */
+public long getBits(int index, int bitLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isValidBitLength(bitLength);
+  if (bitLength == 0) {return 0;}
+
+  isInBounds(index);
+  isInBounds(index + bitLength - 1);
+
+  return readBits(index, bitLength);
+}
+
+/**
+ Sets up to 64 bits starting at the given index from the bits packed into a long.<br>
+ The most significant of the given bits is written to the given index, which is the same order the primitive setters use.
+ Only the lowest bitLength bits of the long are used.
+ @param index     The index to start setting the bits at.
+ @param bits      The bits packed into a long.
+ @param bitLength The amount of bits to set. Must be between 0 & 64.
+ @throws IllegalArgumentException  If the bitLength is negative or bigger than 64.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bitLength is bigger than the highest index. */
+public void setBits(int index, long bits, int bitLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isValidBitLength(bitLength);
+  if (bitLength == 0) {return;}
+
+  isInBounds(index);
+  isInBounds(index + bitLength - 1);
+
+  writeBits(index, bits, bitLength);
+}
+
+/**
+ Adds up to 64 bits packed into a long to the end of the BitHolder.<br>
+ The most significant of the given bits is added first. Only the lowest bitLength bits of the long are used.
+ @param bits      The bits packed into a long.
+ @param bitLength The amount of bits to add. Must be between 0 & 64.
+ @throws IllegalArgumentException If the bitLength is negative or bigger than 64. */
+public void addBits(long bits, int bitLength) throws IllegalArgumentException {
+  isValidBitLength(bitLength);
+  if (bitLength == 0) {return;}
+
+  int index = size();
+  setSize(index + bitLength);
+  writeBits(index, bits, bitLength);
+}
+
+/**
+ Gets the bits packed into a long without bounds checking.
+ @param index     The index of the first bit to get.
+ @param bitLength The amount of bits to get. Must be between 1 & 64.
+ @return The bits in primitive order, the bit at the given index is the most significant of the returned bits. */
+private long readBits(int index, int bitLength) {
+  // The words store the lowest index in the least significant bit, so the bits are reversed into the primitive order.
+  return Long.reverse(readWordBits(index, bitLength)) >>> (64 - bitLength);
+}
+
+/**
+ Sets the bits packed into a long without bounds checking.
+ @param index     The index to start setting the bits at.
+ @param bits      The bits in primitive order, the most significant of the given bits is set at the given index.
+ @param bitLength The amount of bits to set. Must be between 1 & 64. */
+private void writeBits(int index, long bits, int bitLength) {
+  writeWordBits(index, bitLength, Long.reverse(bits) >>> (64 - bitLength));
+}
+
+/**
+ Reads the bits in the storage without bounds checking.
+ @param index     The index of the first bit to read.
+ @param bitLength The amount of bits to read. Must be between 1 & 64.
+ @return The bits in storage order, the bit at the given index is the least significant bit of the returned long. */
+long readWordBits(int index, int bitLength) {
+  int wordIndex = index >>> 6;
+  int offset = index & 63;
+
+  long bits = storage.getWord(wordIndex) >>> offset;
+  // Takes the remaining bits from the next word if the bits cross a word boundary.
+  if (offset + bitLength > 64) {
+    bits |= storage.getWord(wordIndex + 1) << (64 - offset);
+  }
+
+  return bits & (-1L >>> (64 - bitLength));
+}
+
+/**
+ Writes the bits to the storage without bounds checking.
+ @param index     The index of the first bit to write.
+ @param bitLength The amount of bits to write. Must be between 1 & 64.
+ @param bits      The bits in storage order, the least significant bit is written to the given index. */
+private void writeWordBits(int index, int bitLength, long bits) {
+  int wordIndex = index >>> 6;
+  int offset = index & 63;
+  long mask = -1L >>> (64 - bitLength);
+  bits &= mask;
+
+  storage.setWord(wordIndex, (storage.getWord(wordIndex) & ~(mask << offset)) | (bits << offset));
+  // Writes the remaining bits to the next word if the bits cross a word boundary.
+  if (offset + bitLength > 64) {
+    int written = 64 - offset;
+    storage.setWord(wordIndex + 1, (storage.getWord(wordIndex + 1) & ~(mask >>> written)) | (bits >>> written));
+  }
+}
+
+/**
+ Copies the bits from the source BitHolder into this BitHolder a word at a time without bounds checking.<br>
+ The source may be this BitHolder, the ranges are allowed to overlap.
+ @param source      The BitHolder to copy the bits from.
+ @param sourceIndex The index of the first bit to copy.
+ @param index       The index to copy the first bit to.
+ @param bitLength   The amount of bits to copy. */
+void copyBits(@NotNull BitHolder source, int sourceIndex, int index, int bitLength) {
+  // Copies from the end when the bits move to a higher index in the same storage, so no bit is overwritten before it's read.
+  if (source.storage == this.storage && index > sourceIndex) {
+    int remaining = bitLength;
+    while (remaining > 0) {
+      int length = Math.min(64, remaining);
+      remaining -= length;
+      writeWordBits(index + remaining, length, source.readWordBits(sourceIndex + remaining, length));
     }
+    return;
+  }
+
+  for (int copied = 0; copied < bitLength; copied += 64) {
+    int length = Math.min(64, bitLength - copied);
+    writeWordBits(index + copied, length, source.readWordBits(sourceIndex + copied, length));
+  }
+}
+
+/**
+ @param index The index of the bit. This isn't bounds checked.
+ @return The value of the bit at the given index. */
+private boolean getBit(int index) {
+  return (storage.getWord(index >>> 6) & (1L << index)) != 0;
+}
 
-    // Converts the chars to boolean values.
-    case '0': {
-      bits.add(false);
-      continue;
+/**
+ Sets the bit at the given index without bounds checking.
+ @param index The index of the bit.
+ @param bit   The value to set the bit to. */
+private void setBit(int index, boolean bit) {
+  int wordIndex = index >>> 6;
+  long word = storage.getWord(wordIndex);
+
+  if (bit) {
+    storage.setWord(wordIndex, word | (1L << index));
+  }
+  else {
+    storage.setWord(wordIndex, word & ~(1L << index));
+  }
+}
+
+/**
+ Sets the bits between the fromIndex (inclusive) & the toIndex (exclusive) to low (false) without bounds checking.
+ @param fromIndex The index of the first bit to clear.
+ @param toIndex   The index after the last bit to clear. */
+private void clearBits(int fromIndex, int toIndex) {
+  if (fromIndex >= toIndex) {return;}
+
+  int startWord = fromIndex >>> 6;
+  int endWord = (toIndex - 1) >>> 6;
+  long startMask = -1L << fromIndex;
+  long endMask = -1L >>> -toIndex;
+
+  if (startWord == endWord) {
+    storage.setWord(startWord, storage.getWord(startWord) & ~(startMask & endMask));
+    return;
+  }
+
+  storage.setWord(startWord, storage.getWord(startWord) & ~startMask);
+  for (int i = startWord + 1; i < endWord; i++) {
+    storage.setWord(i, 0);
+  }
+  storage.setWord(endWord, storage.getWord(endWord) & ~endMask);
+}
+
+/**
+ Sets any bits in the last word that are above the highest index to low (false). */
+private void clearUnusedBits() {
+  int usedBits = size() & 63;
+  if (usedBits == 0) {return;}
+
+  int lastWord = size() >>> 6;
+  storage.setWord(lastWord, storage.getWord(lastWord) & (-1L >>> (64 - usedBits)));
+}
+
+/**
+ Inverts all the bits in this BitHolder. */
+private void flipAll() {
+  NOT(this);
+}
+
+/**
+ @param size The size of the result.
+ @return A new BitHolder of the given size to hold the result of a logic operation on this BitHolder. */
+@NotNull BitHolder newResult(int size) {
+  return newDense(size);
+}
+
+/**
+ Performs a logic operation on this BitHolder & the operand a word at a time, writing the result into the destination.<br>
+ The destination is resized to the size of this BitHolder first. Each word is read from both sides before the result is written, so the destination can be either of them.
+ @param operation   The operation to perform.
+ @param operand     The BitHolder to perform the operation with.
+ @param destination The BitHolder to write the result into.
+ @return The destination. */
+@NotNull BitHolder logic(@NotNull LogicOperation operation, @NotNull BitHolder operand, @NotNull BitHolder destination) {
+  // The operand's size is read before the destination is resized, in case they're the same BitHolder.
+  int operandSize = operand.size();
+  destination.setSize(size());
+
+  destination.storage.prepareWrite();
+
+  int wordCount = WordStorage.wordsFor(size());
+  // The words the operand fully holds are read directly, the rest are read through a mask.
+  int fullWords = Math.min(wordCount, operandSize >>> 6);
+
+  WordTasks.forEachRange(wordCount, destination.storage, (fromWord, toWord) -> {
+    int fullEnd = Math.min(toWord, Math.max(fromWord, fullWords));
+    for (int i = fromWord; i < fullEnd; i++) {
+      destination.storage.setWord(i, operation.apply(storage.getWord(i), operand.storage.getWord(i)));
     }
-    case '1': {
-      bits.add(true);
-      continue;
+    for (int i = fullEnd; i < toWord; i++) {
+      destination.storage.setWord(i, operation.apply(storage.getWord(i), operand.wordBelow(i, operandSize)));
     }
+  });
+
+  destination.clearUnusedBits();
+  return destination;
+}
+
+/**
+ @param wordIndex The index of the word.
+ @param limit     The index of the first bit to read as low.
+ @return The word at the given index with every bit at or above the limit set to low. */
+private long wordBelow(int wordIndex, int limit) {
+  int firstBit = wordIndex << 6;
+  if (firstBit >= limit || wordIndex >= storage.wordCapacity()) {return 0;}
+
+  int usedBits = limit - firstBit;
+  long word = storage.getWord(wordIndex);
+  return usedBits >= 64 ? word : word & (-1L >>> (64 - usedBits));
+}
+
+/**
+ Removes bits without bounds checking, moving the subsequent bits down a word at a time to fill the space.
+ @param index  The index of the first bit to remove.
+ @param length The amount of bits to remove. */
+private void deleteBits(int index, int length) {
+  int end = index + length;
+  copyBits(this, end, index, size() - end);
+  setSize(size() - length);
+}
+
+/**
+ Writes the bits of this BitHolder shifted to a lower index into the destination a word at a time.<br>
+ The words are written from the lowest index up & each word is only read from a higher index, so the destination can be this BitHolder.
+ @param amount      The amount to shift by. Must be 0 or above.
+ @param destination A BitHolder of the same size to write the shifted bits into. */
+private void shiftWordsLeft(int amount, @NotNull BitHolder destination) {
+  int wordCount = WordStorage.wordsFor(size());
+  int wordShift = amount >>> 6;
+  int bitShift = amount & 63;
+
+  for (int i = 0; i < wordCount; i++) {
+    int source = i + wordShift;
+    // The words past the end shift in low bits. The last word is masked, as a shallow clone can share it with a bigger BitHolder.
+    long low = source < wordCount ? logicalWord(source) : 0;
+    long high = source + 1 < wordCount ? logicalWord(source + 1) : 0;
+
+    destination.storage.setWord(i, bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift)));
+  }
+}
+
+/**
+ Writes the bits of this BitHolder shifted to a higher index into the destination a word at a time.<br>
+ The words are written from the highest index down & each word is only read from a lower index, so the destination can be this BitHolder.
+ @param amount      The amount to shift by. Must be 0 or above.
+ @param destination A BitHolder of the same size to write the shifted bits into. */
+private void shiftWordsRight(int amount, @NotNull BitHolder destination) {
+  int wordCount = WordStorage.wordsFor(size());
+  int wordShift = amount >>> 6;
+  int bitShift = amount & 63;
+
+  for (int i = wordCount - 1; i >= 0; i--) {
+    int source = i - wordShift;
+    long high = source >= 0 ? logicalWord(source) : 0;
+    long low = source - 1 >= 0 ? logicalWord(source - 1) : 0;
+
+    destination.storage.setWord(i, bitShift == 0 ? high : (high << bitShift) | (low >>> (64 - bitShift)));
+  }
+
+  destination.clearUnusedBits(); // Clears the bits that were shifted past the size.
+}
+
+/**
+ Reverses the order of the bits in the given range, swapping up to 64 bits from each end at a time.
+ @param fromIndex The index of the first bit to reverse.
+ @param toIndex   The index after the last bit to reverse. */
+private void reverseBits(int fromIndex, int toIndex) {
+  while (toIndex - fromIndex > 1) {
+    int length = Math.min(64, (toIndex - fromIndex) / 2);
+    long start = readWordBits(fromIndex, length);
+    long end = readWordBits(toIndex - length, length);
+
+    writeWordBits(fromIndex, length, Long.reverse(end) >>> (64 - length));
+    writeWordBits(toIndex - length, length, Long.reverse(start) >>> (64 - length));
 
-    // Invalid chars will case an exception.
-    default: {
-      throw new IllegalArgumentException(containedInvalidBinaryChars(bit));
-    }
-    }
+    fromIndex += length;
+    toIndex -= length;
   }
+}
 
-  return bits;
+/**
+ @param wordIndex The index of the word. Must be below the amount of words needed for the size.
+ @return The word at the given index with any bits at or above the size set to low. */
+long logicalWord(int wordIndex) {
+  long word = storage.getWord(wordIndex);
+  int usedBits = size() - (wordIndex << 6);
+  return usedBits >= 64 ? word : word & (-1L >>> (64 - usedBits));
 }
 
 /**
- Creates a new BitHolder from the given string of hex characters.<br>
- The given string should only contain valid hex characters (either upper or lower case).
- However, tabs, spaces, & line breaks are allowed. Any other characters will throw the IllegalArgumentException.<br>
- To get a bit string from a BitHolder in this format use {@link #toHexString()}.<br>
- @param hexString The string to parse into the BitHolder
- @return The BitHolder parsed from the given string of hex values.
- @throws IllegalArgumentException If the given string contained a character that wasn't a hex character, tab, space, or a line break.
- @throws NullPointerException     If the given hex string was null. */
-public static @NotNull BitHolder fromHexString(@NotNull String hexString) throws IllegalArgumentException, NullPointerException {
-  nullCheck(hexString);
+ Finds the next high bit by skipping over low words & using the trailing zeros of the first word that isn't low.
+ @param fromIndex The index to start searching at. Must be 0 or above.
+ @return The index of the first high bit at or after the given index, or -1 if there isn't one. */
+private int nextHighIndex(int fromIndex) {
+  if (fromIndex >= size()) {return -1;}
 
-  BitHolder bits = new BitHolder();
-  char[] charArray = hexString.toCharArray();
-
-  for (char hex : charArray) {
-    switch (hex) {
-    // Ignores whitespaces & returns.
-    case ' ':
-    case '\t':
-    case '\r':
-    case '\n': {
-      continue;
-    }
+  int wordCount = WordStorage.wordsFor(size());
+  int wordIndex = fromIndex >>> 6;
+  long word = logicalWord(wordIndex) & (-1L << (fromIndex & 63));
 
-    default: {
-      bits.add(Hex.hexToNibble(hex));
-    }
-    }
+  while (word == 0) {
+    if (++wordIndex == wordCount) {return -1;}
+    word = logicalWord(wordIndex);
   }
 
-  return bits;
+  return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
 }
 
-
 /**
- Concatenates this BitHolder with the given holders. They are concatenated in the order they were given.<br>
- This method has no effect on the instance it was called on.
- @param holders An array of BitHolders to concatenate together.
- @return The BitHolder that is result of the concatenation.
- @throws NullPointerException If any of the given BitHolders are null. */
-public @NotNull BitHolder concat(@NotNull BitHolder... holders) {
-  nullCheck(holders);
-  for (BitHolder holder : holders) {
-    nullCheck(holder);
-  }
-
-  BitHolder holder = new BitHolder(this, true);
-  holder.add(holder.toBoolArray());
+ Compares ranges of bits from two BitHolders in lexicographic order, 64 bits at a time.
+ @param left       The first BitHolder.
+ @param leftIndex  The index of the first bit to compare in the first BitHolder.
+ @param right      The second BitHolder.
+ @param rightIndex The index of the first bit to compare in the second BitHolder.
+ @param length     The amount of bits to compare. Both ranges must be inside their BitHolders.
+ @return -1, 0 or 1 if the first range comes before, is equal to or comes after the second range. */
+private static int compareBits(@NotNull BitHolder left, int leftIndex, @NotNull BitHolder right, int rightIndex, int length) {
+  for (int compared = 0; compared < length; compared += 64) {
+    int chunk = Math.min(64, length - compared);
+    long leftBits = left.readWordBits(leftIndex + compared, chunk);
+    long rightBits = right.readWordBits(rightIndex + compared, chunk);
 
-  for (BitHolder otherHolder : holders) {
-    holder.add(otherHolder.toBoolArray());
+    // The lowest differing bit is the first differing index, & the side with the high bit there comes after.
+    long difference = leftBits ^ rightBits;
+    if (difference != 0) {
+      return (leftBits & Long.lowestOneBit(difference)) != 0 ? 1 : -1;
+    }
   }
 
-  return holder;
+  return 0;
 }
 
 
@@ -726,10 +1461,25 @@ private void isInBounds(int index) throws IndexOutOfBoundsException {
 }
 
 /**
- @throws NullPointerException If the given argument is null. */
-@Contract (value="null -> fail; !null -> _")
-private static void nullCheck(Object object) throws NullPointerException {
-  if (object == null) {throw new NullPointerException(isNull());}
+ Tests if the range of bits starting at the given index is inside the range of the BitHolder.
+ @param index     The index of the first bit in the range.
+ @param bitLength The amount of bits in the range.
+ @throws IllegalArgumentException  If the given bitLength is negative.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bitLength is bigger than the highest index. */
+private void isRangeInBounds(int index, long bitLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (bitLength < 0) {throw new IllegalArgumentException(amountBellowZero(bitLength));}
+
+  isInBounds(index);
+  long lastIndex = index + bitLength - 1;
+  if (bitLength > 0 && highestIndex() < lastIndex) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(highestIndex(), lastIndex));}
+}
+
+/**
+ Tests if the given amount of bits can be packed into a long.
+ @param bitLength The given amount of bits to check.
+ @throws IllegalArgumentException If the given bitLength is negative or bigger than 64. */
+private static void isValidBitLength(int bitLength) throws IllegalArgumentException {
+  if (bitLength < 0 || bitLength > 64) {throw new IllegalArgumentException(bitLengthOutOfRange(bitLength));}
 }
 
 
@@ -744,15 +1494,120 @@ public static @NotNull BitHolder fromByteStream(@NotNull ByteArrayOutputStream b
   nullCheck(byteOutputStream);
 
   byte[] byteArray = byteOutputStream.toByteArray();
-  return Primitive.toBitHolder(byteArray);
+  return from(byteArray);
 }
 
 /**
  Converts the BitHolder into a byte stream.
  @return A {@link ByteArrayInputStream} that contains the content of the BitHolder. */
 public @NotNull ByteArrayInputStream toByteStream() {
-  byte[] byteArray = Primitive.toPrimitive(this, byte[].class);
-  return new ByteArrayInputStream(byteArray);
+  return new ByteArrayInputStream(toByteArray());
+}
+
+
+// Byte buffers
+// The bits are moved between the words & the buffer as longs with the bulk getLong & putLong methods.
+// With big endian order the bytes in the buffer are the same as the bytes from toByteArray().
+// With little endian order each whole group of 8 bytes is reversed, as if the longs from getLong were put into the buffer one after another.
+
+/**
+ Constructs a new BitHolder with the bytes from the given buffer. The buffer can be a heap or a direct buffer.<br>
+ The position, limit & order of the buffer aren't changed.
+ @param buffer   The buffer to get the bytes from.
+ @param position The index in the buffer of the first byte.
+ @param length   The amount of bytes to get.
+ @param order    The byte order of the longs in the buffer.
+ @return A BitHolder filled with the bytes from the buffer.
+ @throws NullPointerException      If the buffer or order is null.
+ @throws IllegalArgumentException  If the length is negative or if the bits wouldn't fit into a BitHolder.
+ @throws IndexOutOfBoundsException If the position is negative or if the buffer's limit is before the position plus the length. */
+public static @NotNull BitHolder from(@NotNull ByteBuffer buffer, int position, int length, @NotNull ByteOrder order) throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
+  BitHolder bits = new BitHolder();
+  bits.add(buffer, position, length, order);
+  return bits;
+}
+
+/**
+ Adds the bytes from the given buffer to the end of this BitHolder. The buffer can be a heap or a direct buffer.<br>
+ The position, limit & order of the buffer aren't changed.
+ @param buffer   The buffer to get the bytes from.
+ @param position The index in the buffer of the first byte.
+ @param length   The amount of bytes to add.
+ @param order    The byte order of the longs in the buffer.
+ @throws NullPointerException      If the buffer or order is null.
+ @throws IllegalArgumentException  If the length is negative or if the bits wouldn't fit into a BitHolder.
+ @throws IndexOutOfBoundsException If the position is negative or if the buffer's limit is before the position plus the length. */
+public void add(@NotNull ByteBuffer buffer, int position, int length, @NotNull ByteOrder order) throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
+  nullCheck(buffer);
+  nullCheck(order);
+  if (length < 0) {throw new IllegalArgumentException(amountBellowZero(length));}
+  isInBuffer(buffer, position, length);
+
+  int index = size();
+  long newSize = index + ((long) length * BYTE.bitSize);
+  if (newSize > Integer.MAX_VALUE) {throw new IllegalArgumentException(amountLargerThanIndexed(Integer.MAX_VALUE, newSize));}
+  setSize((int) newSize);
+
+  boolean reverse = buffer.order() != order;
+  int end = position + length;
+
+  for (; position + 8 <= end; position += 8, index += 64) {
+    long packed = buffer.getLong(position);
+    writeBits(index, reverse ? Long.reverseBytes(packed) : packed, 64);
+  }
+
+  for (; position < end; position++, index += BYTE.bitSize) {
+    writeBits(index, buffer.get(position), BYTE.bitSize);
+  }
+}
+
+/**
+ Writes the bits contained by this BitHolder into the given buffer. The buffer can be a heap or a direct buffer.<br>
+ If the size isn't a multiple of 8 the last byte is padded with low bits. The position, limit & order of the buffer aren't changed.
+ @param buffer   The buffer to write the bytes into.
+ @param position The index in the buffer to write the first byte at.
+ @param order    The byte order to write the longs in.
+ @return The amount of bytes that were written.
+ @throws NullPointerException      If the buffer or order is null.
+ @throws IndexOutOfBoundsException If the position is negative or if the buffer doesn't have room for all the bytes before its limit.
+ @throws java.nio.ReadOnlyBufferException If the buffer is read only. */
+public int toByteBuffer(@NotNull ByteBuffer buffer, int position, @NotNull ByteOrder order) throws NullPointerException, IndexOutOfBoundsException {
+  nullCheck(buffer);
+  nullCheck(order);
+
+  int byteLength = byteLength();
+  isInBuffer(buffer, position, byteLength);
+
+  boolean reverse = buffer.order() != order;
+  int index = 0;
+  int fullBytesEnd = position + (size() / BYTE.bitSize);
+
+  for (; position + 8 <= fullBytesEnd; position += 8, index += 64) {
+    long packed = readBits(index, 64);
+    buffer.putLong(position, reverse ? Long.reverseBytes(packed) : packed);
+  }
+
+  for (; position < fullBytesEnd; position++, index += BYTE.bitSize) {
+    buffer.put(position, (byte) readBits(index, BYTE.bitSize));
+  }
+
+  int remainingBits = size() - index;
+  if (remainingBits != 0) {
+    buffer.put(position, (byte) (readBits(index, remainingBits) << (BYTE.bitSize - remainingBits)));
+  }
+
+  return byteLength;
+}
+
+/**
+ Tests if the given range of bytes is inside the given buffer.
+ @param buffer   The buffer to check.
+ @param position The index of the first byte in the range.
+ @param length   The amount of bytes in the range.
+ @throws IndexOutOfBoundsException If the position is negative or if the range ends after the limit of the buffer. */
+private static void isInBuffer(@NotNull ByteBuffer buffer, int position, int length) throws IndexOutOfBoundsException {
+  if (position < 0) {throw new IndexOutOfBoundsException(amountBellowZero(position));}
+  if ((long) position + length > buffer.limit()) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(buffer.limit(), (long) position + length));}
 }
 
 
@@ -774,34 +1629,51 @@ public boolean[] toBoolArray() {
 }
 
 /**
+ If the size isn't a multiple of 8 the last byte is padded with low bits.
  @return A byte array that represents the bits contained by this BitHolder. */
 public byte[] toByteArray() {
-  // Pads the BitHolder
-  int amountOfBitsToPad = size() % BYTE.bitSize;
-  setSize(size() + amountOfBitsToPad);
-
-  int byteSize = size() / 8;
-  byte[] bytes = new byte[byteSize];
-
-  // Iterates over the bytes in the created array
-  for (int byteInArray = 0; byteInArray < byteSize; byteInArray++) {
-    byte byteBeingModified = 0;
-
-    // Iterates over the bits within a byte
-    for (int internalByteIndex = 0; internalByteIndex < 8; internalByteIndex++) {
-      // Finds the correlating bit in the BitHolder
-      boolean bit = get((byteInArray * 8) + internalByteIndex);
-      if (!bit) {continue;}
+  byte[] bytes = new byte[byteLength()];
+  toByteArray(bytes, 0);
+  return bytes;
+}
 
-      byte bitToSet = (byte) (128 >> internalByteIndex); // Sets the bit in the correct position within the byte
-      byteBeingModified = (byte) (byteBeingModified | bitToSet); // "Adds" the bit to the byte
+/**
+ Writes the bits contained by this BitHolder into the given byte array, so no new array has to be allocated.<br>
+ If the size isn't a multiple of 8 the last byte is padded with low bits.
+ @param destination The array to write the bytes into.
+ @param offset      The index in the array to write the first byte at.
+ @return The amount of bytes that were written.
+ @throws NullPointerException      If the destination is null.
+ @throws IndexOutOfBoundsException If the offset is negative or if the destination doesn't have room for all the bytes after the offset. */
+public int toByteArray(@NotNull byte[] destination, int offset) throws NullPointerException, IndexOutOfBoundsException {
+  nullCheck(destination);
+
+  int byteLength = byteLength();
+  if (offset < 0) {throw new IndexOutOfBoundsException(amountBellowZero(offset));}
+  if (offset + byteLength > destination.length) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(destination.length, offset + byteLength));}
+
+  int fullBytes = size() / BYTE.bitSize;
+  // Each range of words becomes its own run of bytes, so the ranges can be read in parallel.
+  WordTasks.forEachRange(WordStorage.wordsFor(size()), (fromWord, toWord) -> {
+    int fromByte = fromWord * 8;
+    int toByte = (int) Math.min((long) toWord * 8, fullBytes);
+    if (toByte > fromByte) {
+      readBytes(fromByte * BYTE.bitSize, destination, offset + fromByte, toByte - fromByte);
     }
+  });
 
-    bytes[byteInArray] = byteBeingModified; //Sets the byte in the array to the correct value.
+  int remainingBits = size() - (fullBytes * BYTE.bitSize);
+  if (remainingBits != 0) {
+    destination[offset + fullBytes] = (byte) (readBits(fullBytes * BYTE.bitSize, remainingBits) << (BYTE.bitSize - remainingBits));
   }
 
-  setSize(size() - amountOfBitsToPad); // Removes the padding bits to keep this method pure.
-  return bytes;
+  return byteLength;
+}
+
+/**
+ @return The amount of bytes needed to hold the bits in this BitHolder. */
+private int byteLength() {
+  return (int) ((size() + 7L) / BYTE.bitSize);
 }
 
 
@@ -962,105 +1834,119 @@ public static @NotNull BitHolder from(double[] doubles) {
 public void add(@NotNull Object primitive) throws NullPointerException, IllegalArgumentException {
   nullCheck(primitive);
 
-  add(Primitive.toBitHolder(primitive));
+  Primitive.addTo(this, primitive);
 }
 
 /**
  Adds the bits from the byte to this BitHolder.
  @param byte_ The given byte. */
 public void add(byte byte_) {
-  add(Primitive.toBitHolder(byte_));
+  addBits(byte_, BYTE.bitSize);
 }
 
 /**
  Adds the bits from the short to this BitHolder.
  @param short_ The given short. */
 public void add(short short_) {
-  add(Primitive.toBitHolder(short_));
+  addBits(short_, SHORT.bitSize);
 }
 
 /**
  Adds the bits from the char to this BitHolder.
  @param char_ The given char. */
 public void add(char char_) {
-  add(Primitive.toBitHolder(char_));
+  addBits(char_, CHAR.bitSize);
 }
 
 /**
  Adds the bits from the int to this BitHolder.
  @param int_ The given int. */
 public void add(int int_) {
-  add(Primitive.toBitHolder(int_));
+  addBits(int_, INT.bitSize);
 }
 
 /**
  Adds the bits from the long to this BitHolder.
  @param long_ The given long. */
 public void add(long long_) {
-  add(Primitive.toBitHolder(long_));
+  addBits(long_, LONG.bitSize);
 }
 
 /**
  Adds the bits from the float to this BitHolder.
  @param float_ The given float. */
 public void add(float float_) {
-  add(Primitive.toBitHolder(float_));
+  addBits(Float.floatToRawIntBits(float_), FLOAT.bitSize);
 }
 
 /**
  Adds the bits from the double to this BitHolder.
  @param double_ The given double. */
 public void add(double double_) {
-  add(Primitive.toBitHolder(double_));
+  addBits(Double.doubleToRawLongBits(double_), DOUBLE.bitSize);
 }
 
 /**
  Adds the bits from the byte array to this BitHolder.
  @param bytes The given byte array. */
 public void add(byte[] bytes) {
-  add(Primitive.toBitHolder(bytes));
+  int index = size();
+  setSize(index + bytes.length * BYTE.bitSize);
+  writeByteArray(index, bytes);
 }
 
 /**
  Adds the bits from the short array to this BitHolder.
  @param shorts The given short array. */
 public void add(short[] shorts) {
-  add(Primitive.toBitHolder(shorts));
+  int index = size();
+  setSize(index + shorts.length * SHORT.bitSize);
+  writeShortArray(index, shorts);
 }
 
 /**
  Adds the bits from the chars array to this BitHolder.
  @param chars The given chars array. */
 public void add(char[] chars) {
-  add(Primitive.toBitHolder(chars));
+  int index = size();
+  setSize(index + chars.length * CHAR.bitSize);
+  writeCharArray(index, chars);
 }
 
 /**
  Adds the bits from the int array to this BitHolder.
  @param ints The given int array. */
 public void add(int[] ints) {
-  add(Primitive.toBitHolder(ints));
+  int index = size();
+  setSize(index + ints.length * INT.bitSize);
+  writeIntArray(index, ints);
 }
 
 /**
  Adds the bits from the long array to this BitHolder.
  @param longs The given long array. */
 public void add(long[] longs) {
-  add(Primitive.toBitHolder(longs));
+  int index = size();
+  setSize(index + longs.length * LONG.bitSize);
+  writeLongArray(index, longs);
 }
 
 /**
  Adds the bits from the float array to this BitHolder.
  @param floats The given float array. */
 public void add(float[] floats) {
-  add(Primitive.toBitHolder(floats));
+  int index = size();
+  setSize(index + floats.length * FLOAT.bitSize);
+  writeFloatArray(index, floats);
 }
 
 /**
  Adds the bits from the double array to this BitHolder.
  @param doubles The given double array. */
 public void add(double[] doubles) {
-  add(Primitive.toBitHolder(doubles));
+  int index = size();
+  setSize(index + doubles.length * DOUBLE.bitSize);
+  writeDoubleArray(index, doubles);
 }
 
 
@@ -1085,7 +1971,7 @@ public void set(int index, @NotNull Object primitive) throws NullPointerExceptio
  @param byte_ The byte to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, byte byte_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(byte_));
+  setBits(index, byte_, BYTE.bitSize);
 }
 
 /**
@@ -1095,7 +1981,7 @@ public void set(int index, byte byte_) throws IndexOutOfBoundsException {
  @param short_ The short to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, short short_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(short_));
+  setBits(index, short_, SHORT.bitSize);
 }
 
 /**
@@ -1105,7 +1991,7 @@ public void set(int index, short short_) throws IndexOutOfBoundsException {
  @param char_ The char to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, char char_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(char_));
+  setBits(index, char_, CHAR.bitSize);
 }
 
 /**
@@ -1115,7 +2001,7 @@ public void set(int index, char char_) throws IndexOutOfBoundsException {
  @param int_  The int to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, int int_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(int_));
+  setBits(index, int_, INT.bitSize);
 }
 
 /**
@@ -1125,7 +2011,7 @@ public void set(int index, int int_) throws IndexOutOfBoundsException {
  @param long_ The long to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, long long_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(long_));
+  setBits(index, long_, LONG.bitSize);
 }
 
 /**
@@ -1135,7 +2021,7 @@ public void set(int index, long long_) throws IndexOutOfBoundsException {
  @param float_ The float to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, float float_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(float_));
+  setBits(index, Float.floatToRawIntBits(float_), FLOAT.bitSize);
 }
 
 /**
@@ -1145,7 +2031,7 @@ public void set(int index, float float_) throws IndexOutOfBoundsException {
  @param double_ The double to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus the given primitive size is bigger than the highest index. */
 public void set(int index, double double_) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(double_));
+  setBits(index, Double.doubleToRawLongBits(double_), DOUBLE.bitSize);
 }
 
 
@@ -1156,7 +2042,8 @@ public void set(int index, double double_) throws IndexOutOfBoundsException {
  @param bytes The bytes to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, byte[] bytes) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(bytes));
+  isRangeInBounds(index, (long) bytes.length * BYTE.bitSize);
+  writeByteArray(index, bytes);
 }
 
 /**
@@ -1166,7 +2053,8 @@ public void set(int index, byte[] bytes) throws IndexOutOfBoundsException {
  @param shorts The shorts to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, short[] shorts) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(shorts));
+  isRangeInBounds(index, (long) shorts.length * SHORT.bitSize);
+  writeShortArray(index, shorts);
 }
 
 /**
@@ -1176,7 +2064,8 @@ public void set(int index, short[] shorts) throws IndexOutOfBoundsException {
  @param chars The chars to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, char[] chars) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(chars));
+  isRangeInBounds(index, (long) chars.length * CHAR.bitSize);
+  writeCharArray(index, chars);
 }
 
 /**
@@ -1186,7 +2075,8 @@ public void set(int index, char[] chars) throws IndexOutOfBoundsException {
  @param ints  The ints to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, int[] ints) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(ints));
+  isRangeInBounds(index, (long) ints.length * INT.bitSize);
+  writeIntArray(index, ints);
 }
 
 /**
@@ -1196,7 +2086,8 @@ public void set(int index, int[] ints) throws IndexOutOfBoundsException {
  @param longs The longs to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, long[] longs) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(longs));
+  isRangeInBounds(index, (long) longs.length * LONG.bitSize);
+  writeLongArray(index, longs);
 }
 
 /**
@@ -1206,7 +2097,8 @@ public void set(int index, long[] longs) throws IndexOutOfBoundsException {
  @param floats The floats to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, float[] floats) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(floats));
+  isRangeInBounds(index, (long) floats.length * FLOAT.bitSize);
+  writeFloatArray(index, floats);
 }
 
 /**
@@ -1216,7 +2108,8 @@ public void set(int index, float[] floats) throws IndexOutOfBoundsException {
  @param doubles The doubles to set the bits to.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index plus primitive array bits are bigger than the highest index. */
 public void set(int index, double[] doubles) throws IndexOutOfBoundsException {
-  set(index, Primitive.toBitHolder(doubles));
+  isRangeInBounds(index, (long) doubles.length * DOUBLE.bitSize);
+  writeDoubleArray(index, doubles);
 }
 
 
@@ -1231,14 +2124,59 @@ public void set(int index, double[] doubles) throws IndexOutOfBoundsException {
  @throws NullPointerException      If the primitiveClass is null.
  @throws IllegalArgumentException  If the given primitive class isn't a primitive, primitive array or a wrapper for either.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the primitive bit length is bigger than the highest index. */
+@SuppressWarnings ("unchecked") // JVM warns about casts to T
 public <T> T get(int index, @NotNull Class<T> primitiveClass) throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
   nullCheck(primitiveClass);
 
   if (!isPrimitive(primitiveClass)) {throw new IllegalArgumentException(notPrimitive(primitiveClass.getName()));}
   isInBounds(index);
 
-  int bitSize = fromClass(primitiveClass).getIndexSize();
-  return Primitive.toPrimitive(subBits(index, index + bitSize), primitiveClass);
+  Primitive primitive = fromClass(primitiveClass);
+  if (primitiveClass.isArray()) {
+    return Primitive.toPrimitive(subBits(index, index + primitive.getIndexSize()), primitiveClass);
+  }
+
+  // Reads single primitives straight from the words.
+  Object value;
+  switch (primitive) {
+  case BOOLEAN: {
+    value = get(index);
+    break;
+  }
+  case BYTE: {
+    value = getByte(index);
+    break;
+  }
+  case SHORT: {
+    value = getShort(index);
+    break;
+  }
+  case CHAR: {
+    value = getChar(index);
+    break;
+  }
+  case INT: {
+    value = getInt(index);
+    break;
+  }
+  case FLOAT: {
+    value = getFloat(index);
+    break;
+  }
+  case LONG: {
+    value = getLong(index);
+    break;
+  }
+  case DOUBLE: {
+    value = getDouble(index);
+    break;
+  }
+  default: {
+    throw new IllegalArgumentException(notPrimitive(primitiveClass.getName()));
+  }
+  }
+
+  return (T) value;
 }
 
 /**
@@ -1248,7 +2186,7 @@ public <T> T get(int index, @NotNull Class<T> primitiveClass) throws NullPointer
  @return A byte representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public byte getByte(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + BYTE.getIndexSize()), byte.class);
+  return (byte) getBits(index, BYTE.bitSize);
 }
 
 /**
@@ -1258,7 +2196,7 @@ public byte getByte(int index) throws IndexOutOfBoundsException {
  @return A short representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public short getShort(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + SHORT.getIndexSize()), short.class);
+  return (short) getBits(index, SHORT.bitSize);
 }
 
 /**
@@ -1268,7 +2206,7 @@ public short getShort(int index) throws IndexOutOfBoundsException {
  @return A char representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public char getChar(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + CHAR.getIndexSize()), char.class);
+  return (char) getBits(index, CHAR.bitSize);
 }
 
 /**
@@ -1278,7 +2216,7 @@ public char getChar(int index) throws IndexOutOfBoundsException {
  @return A int representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public int getInt(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + INT.getIndexSize()), int.class);
+  return (int) getBits(index, INT.bitSize);
 }
 
 /**
@@ -1288,7 +2226,7 @@ public int getInt(int index) throws IndexOutOfBoundsException {
  @return A long representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public long getLong(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + LONG.getIndexSize()), long.class);
+  return getBits(index, LONG.bitSize);
 }
 
 /**
@@ -1298,7 +2236,7 @@ public long getLong(int index) throws IndexOutOfBoundsException {
  @return A float representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public float getFloat(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + FLOAT.getIndexSize()), float.class);
+  return Float.intBitsToFloat((int) getBits(index, FLOAT.bitSize));
 }
 
 /**
@@ -1308,7 +2246,7 @@ public float getFloat(int index) throws IndexOutOfBoundsException {
  @return A double representing the bits at the given index.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of the BitHolder. */
 public double getDouble(int index) throws IndexOutOfBoundsException {
-  return Primitive.toPrimitive(subBits(index, index + DOUBLE.getIndexSize()), double.class);
+  return Double.longBitsToDouble(getBits(index, DOUBLE.bitSize));
 }
 
 /**
@@ -1317,10 +2255,11 @@ public double getDouble(int index) throws IndexOutOfBoundsException {
  @param bitHolderIndex The index to get the byte array at.
  @param arrayLength    The length of the byte array to get.
  @return A byte array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public byte[] getByteArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * BYTE.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), byte[].class);
+public byte[] getByteArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * BYTE.bitSize);
+  return readByteArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1329,10 +2268,11 @@ public byte[] getByteArray(int bitHolderIndex, int arrayLength) throws IndexOutO
  @param bitHolderIndex The index to get the short array at.
  @param arrayLength    The length of the short array to get.
  @return A short array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public short[] getShortArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * SHORT.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), short[].class);
+public short[] getShortArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * SHORT.bitSize);
+  return readShortArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1341,10 +2281,11 @@ public short[] getShortArray(int bitHolderIndex, int arrayLength) throws IndexOu
  @param bitHolderIndex The index to get the char array at.
  @param arrayLength    The length of the char array to get.
  @return A char array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public char[] getCharArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * CHAR.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), char[].class);
+public char[] getCharArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * CHAR.bitSize);
+  return readCharArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1353,10 +2294,11 @@ public char[] getCharArray(int bitHolderIndex, int arrayLength) throws IndexOutO
  @param bitHolderIndex The index to get the int array at.
  @param arrayLength    The length of the int array to get.
  @return A int array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public int[] getIntArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * INT.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), int[].class);
+public int[] getIntArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * INT.bitSize);
+  return readIntArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1365,10 +2307,11 @@ public int[] getIntArray(int bitHolderIndex, int arrayLength) throws IndexOutOfB
  @param bitHolderIndex The index to get the long array at.
  @param arrayLength    The length of the long array to get.
  @return A long array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public long[] getLongArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * LONG.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), long[].class);
+public long[] getLongArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * LONG.bitSize);
+  return readLongArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1377,10 +2320,11 @@ public long[] getLongArray(int bitHolderIndex, int arrayLength) throws IndexOutO
  @param bitHolderIndex The index to get the float array at.
  @param arrayLength    The length of the float array to get.
  @return A float array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public float[] getFloatArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * FLOAT.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), float[].class);
+public float[] getFloatArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * FLOAT.bitSize);
+  return readFloatArray(bitHolderIndex, arrayLength);
 }
 
 /**
@@ -1389,10 +2333,286 @@ public float[] getFloatArray(int bitHolderIndex, int arrayLength) throws IndexOu
  @param bitHolderIndex The index to get the double array at.
  @param arrayLength    The length of the double array to get.
  @return A double array representing the bits at the given index.
+ @throws IllegalArgumentException  If the given arrayLength is negative.
  @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length of the array is bigger than the highest index of the BitHolder. */
-public double[] getDoubleArray(int bitHolderIndex, int arrayLength) throws IndexOutOfBoundsException {
-  int arrayBitLength = arrayLength * DOUBLE.bitSize;
-  return Primitive.toPrimitive(subBits(bitHolderIndex, bitHolderIndex + arrayBitLength - 1), double[].class);
+public double[] getDoubleArray(int bitHolderIndex, int arrayLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  isRangeInBounds(bitHolderIndex, (long) arrayLength * DOUBLE.bitSize);
+  return readDoubleArray(bitHolderIndex, arrayLength);
+}
+
+
+// Packing primitive arrays.
+// The elements are packed into longs so the words are read & written 64 bits at a time instead of an element at a time.
+
+/**
+ Writes the bytes to the words without bounds checking.
+ @param index The index to write the first byte at.
+ @param bytes The bytes to write. */
+private void writeByteArray(int index, byte[] bytes) {
+  writeBytes(index, bytes, 0, bytes.length);
+}
+
+/**
+ Writes part of a byte array to the words without bounds checking.<br>
+ The bytes are packed into longs big endian, so the bit order within each byte is reversed when the longs are written to the words.
+ @param index  The index to write the first byte at.
+ @param bytes  The array to get the bytes from.
+ @param offset The index in the array of the first byte to write.
+ @param length The amount of bytes to write. */
+private void writeBytes(int index, byte[] bytes, int offset, int length) {
+  int i = offset;
+  int end = offset + length;
+
+  for (; i + 8 <= end; i += 8, index += 64) {
+    long packed = 0;
+    for (int b = 0; b < 8; b++) {
+      packed = (packed << 8) | (bytes[i + b] & 0xFFL);
+    }
+    writeBits(index, packed, 64);
+  }
+
+  for (; i < end; i++, index += BYTE.bitSize) {
+    writeBits(index, bytes[i], BYTE.bitSize);
+  }
+}
+
+/**
+ Writes the shorts to the words without bounds checking.
+ @param index  The index to write the first short at.
+ @param shorts The shorts to write. */
+private void writeShortArray(int index, short[] shorts) {
+  int i = 0;
+  for (; i + 4 <= shorts.length; i += 4, index += 64) {
+    long packed = ((shorts[i] & 0xFFFFL) << 48) | ((shorts[i + 1] & 0xFFFFL) << 32) | ((shorts[i + 2] & 0xFFFFL) << 16) | (shorts[i + 3] & 0xFFFFL);
+    writeBits(index, packed, 64);
+  }
+
+  for (; i < shorts.length; i++, index += SHORT.bitSize) {
+    writeBits(index, shorts[i], SHORT.bitSize);
+  }
+}
+
+/**
+ Writes the chars to the words without bounds checking.
+ @param index The index to write the first char at.
+ @param chars The chars to write. */
+private void writeCharArray(int index, char[] chars) {
+  int i = 0;
+  for (; i + 4 <= chars.length; i += 4, index += 64) {
+    long packed = ((long) chars[i] << 48) | ((long) chars[i + 1] << 32) | ((long) chars[i + 2] << 16) | chars[i + 3];
+    writeBits(index, packed, 64);
+  }
+
+  for (; i < chars.length; i++, index += CHAR.bitSize) {
+    writeBits(index, chars[i], CHAR.bitSize);
+  }
+}
+
+/**
+ Writes the ints to the words without bounds checking.
+ @param index The index to write the first int at.
+ @param ints  The ints to write. */
+private void writeIntArray(int index, int[] ints) {
+  int i = 0;
+  for (; i + 2 <= ints.length; i += 2, index += 64) {
+    writeBits(index, ((long) ints[i] << 32) | (ints[i + 1] & 0xFFFFFFFFL), 64);
+  }
+
+  if (i < ints.length) {
+    writeBits(index, ints[i], INT.bitSize);
+  }
+}
+
+/**
+ Writes the longs to the words without bounds checking.
+ @param index The index to write the first long at.
+ @param longs The longs to write. */
+private void writeLongArray(int index, long[] longs) {
+  for (int i = 0; i < longs.length; i++, index += 64) {
+    writeBits(index, longs[i], 64);
+  }
+}
+
+/**
+ Writes the floats to the words without bounds checking.
+ @param index  The index to write the first float at.
+ @param floats The floats to write. */
+private void writeFloatArray(int index, float[] floats) {
+  int i = 0;
+  for (; i + 2 <= floats.length; i += 2, index += 64) {
+    long packed = ((long) Float.floatToRawIntBits(floats[i]) << 32) | (Float.floatToRawIntBits(floats[i + 1]) & 0xFFFFFFFFL);
+    writeBits(index, packed, 64);
+  }
+
+  if (i < floats.length) {
+    writeBits(index, Float.floatToRawIntBits(floats[i]), FLOAT.bitSize);
+  }
+}
+
+/**
+ Writes the doubles to the words without bounds checking.
+ @param index   The index to write the first double at.
+ @param doubles The doubles to write. */
+private void writeDoubleArray(int index, double[] doubles) {
+  for (int i = 0; i < doubles.length; i++, index += 64) {
+    writeBits(index, Double.doubleToRawLongBits(doubles[i]), 64);
+  }
+}
+
+/**
+ Reads bytes from the words without bounds checking.
+ @param index       The index of the first byte.
+ @param arrayLength The amount of bytes to read.
+ @return The read bytes. */
+private byte[] readByteArray(int index, int arrayLength) {
+  byte[] bytes = new byte[arrayLength];
+  readBytes(index, bytes, 0, arrayLength);
+  return bytes;
+}
+
+/**
+ Reads bytes from the words into part of a byte array without bounds checking.<br>
+ Each long read from the words is unpacked big endian, so the bit order within each byte is reversed from the order in the words.
+ @param index  The index of the first byte.
+ @param bytes  The array to read the bytes into.
+ @param offset The index in the array to read the first byte into.
+ @param length The amount of bytes to read. */
+private void readBytes(int index, byte[] bytes, int offset, int length) {
+  int i = offset;
+  int end = offset + length;
+
+  for (; i + 8 <= end; i += 8, index += 64) {
+    long packed = readBits(index, 64);
+    for (int b = 0; b < 8; b++) {
+      bytes[i + b] = (byte) (packed >>> (56 - (b * 8)));
+    }
+  }
+
+  for (; i < end; i++, index += BYTE.bitSize) {
+    bytes[i] = (byte) readBits(index, BYTE.bitSize);
+  }
+}
+
+/**
+ Reads shorts from the words without bounds checking.
+ @param index       The index of the first short.
+ @param arrayLength The amount of shorts to read.
+ @return The read shorts. */
+private short[] readShortArray(int index, int arrayLength) {
+  short[] shorts = new short[arrayLength];
+
+  int i = 0;
+  for (; i + 4 <= arrayLength; i += 4, index += 64) {
+    long packed = readBits(index, 64);
+    shorts[i] = (short) (packed >>> 48);
+    shorts[i + 1] = (short) (packed >>> 32);
+    shorts[i + 2] = (short) (packed >>> 16);
+    shorts[i + 3] = (short) packed;
+  }
+
+  for (; i < arrayLength; i++, index += SHORT.bitSize) {
+    shorts[i] = (short) readBits(index, SHORT.bitSize);
+  }
+
+  return shorts;
+}
+
+/**
+ Reads chars from the words without bounds checking.
+ @param index       The index of the first char.
+ @param arrayLength The amount of chars to read.
+ @return The read chars. */
+private char[] readCharArray(int index, int arrayLength) {
+  char[] chars = new char[arrayLength];
+
+  int i = 0;
+  for (; i + 4 <= arrayLength; i += 4, index += 64) {
+    long packed = readBits(index, 64);
+    chars[i] = (char) (packed >>> 48);
+    chars[i + 1] = (char) (packed >>> 32);
+    chars[i + 2] = (char) (packed >>> 16);
+    chars[i + 3] = (char) packed;
+  }
+
+  for (; i < arrayLength; i++, index += CHAR.bitSize) {
+    chars[i] = (char) readBits(index, CHAR.bitSize);
+  }
+
+  return chars;
+}
+
+/**
+ Reads ints from the words without bounds checking.
+ @param index       The index of the first int.
+ @param arrayLength The amount of ints to read.
+ @return The read ints. */
+private int[] readIntArray(int index, int arrayLength) {
+  int[] ints = new int[arrayLength];
+
+  int i = 0;
+  for (; i + 2 <= arrayLength; i += 2, index += 64) {
+    long packed = readBits(index, 64);
+    ints[i] = (int) (packed >>> 32);
+    ints[i + 1] = (int) packed;
+  }
+
+  if (i < arrayLength) {
+    ints[i] = (int) readBits(index, INT.bitSize);
+  }
+
+  return ints;
+}
+
+/**
+ Reads longs from the words without bounds checking.
+ @param index       The index of the first long.
+ @param arrayLength The amount of longs to read.
+ @return The read longs. */
+private long[] readLongArray(int index, int arrayLength) {
+  long[] longs = new long[arrayLength];
+
+  for (int i = 0; i < arrayLength; i++, index += 64) {
+    longs[i] = readBits(index, 64);
+  }
+
+  return longs;
+}
+
+/**
+ Reads floats from the words without bounds checking.
+ @param index       The index of the first float.
+ @param arrayLength The amount of floats to read.
+ @return The read floats. */
+private float[] readFloatArray(int index, int arrayLength) {
+  float[] floats = new float[arrayLength];
+
+  int i = 0;
+  for (; i + 2 <= arrayLength; i += 2, index += 64) {
+    long packed = readBits(index, 64);
+    floats[i] = Float.intBitsToFloat((int) (packed >>> 32));
+    floats[i + 1] = Float.intBitsToFloat((int) packed);
+  }
+
+  if (i < arrayLength) {
+    floats[i] = Float.intBitsToFloat((int) readBits(index, FLOAT.bitSize));
+  }
+
+  return floats;
+}
+
+/**
+ Reads doubles from the words without bounds checking.
+ @param index       The index of the first double.
+ @param arrayLength The amount of doubles to read.
+ @return The read doubles. */
+private double[] readDoubleArray(int index, int arrayLength) {
+  double[] doubles = new double[arrayLength];
+
+  for (int i = 0; i < arrayLength; i++, index += 64) {
+    doubles[i] = Double.longBitsToDouble(readBits(index, 64));
+  }
+
+  return doubles;
 }
 
 
@@ -1401,22 +2621,92 @@ public double[] getDoubleArray(int bitHolderIndex, int arrayLength) throws Index
 @Override
 public boolean equals(@Nullable Object obj) {
   if (this == obj) {return true;}
-  if (obj == null || getClass() != obj.getClass()) {return false;}
+  // BitHolders are equal if they hold the same bits, no matter where the bits are stored.
+  if (!(obj instanceof BitHolder)) {return false;}
 
   BitHolder bits = (BitHolder) obj;
-  return this.size == bits.size && Objects.equals(this.toString(), bits.toString());
+  if (this.size != bits.size) {return false;}
+
+  int wordCount = WordStorage.wordsFor(size());
+  for (int i = 0; i < wordCount; i++) {
+    if (logicalWord(i) != bits.logicalWord(i)) {return false;}
+  }
+
+  return true;
 }
 
 @Override
 public int hashCode() {
-  return Objects.hash(this.size, bitSet);
+  int cached = this.hash;
+  if (cached != 0) {return cached;}
+
+  // Hashes the words the same way BitSet does.
+  long wordHash = 1234;
+  for (int i = WordStorage.wordsFor(size()); --i >= 0; ) {
+    wordHash ^= logicalWord(i) * (i + 1);
+  }
+
+  int hash = Objects.hash(this.size, (int) ((wordHash >> 32) ^ wordHash));
+  // A hash of 0 can't be told apart from one that hasn't been calculated, so it's calculated every time.
+  if (isImmutable()) {this.hash = hash;}
+
+  return hash;
+}
+
+/**
+ Compares the bits of the BitHolders in lexicographic order, 64 bits at a time.<br>
+ The bits are compared from index 0 upwards, where a low bit comes before a high bit.
+ If one BitHolder is the start of the other, the shorter one comes first. This is the same order the bit strings of the BitHolders would have.<br>
+ For the order of the bits as unsigned numbers see {@link #compareUnsigned(BitHolder)}.
+ @param other The BitHolder to compare to.
+ @return A negative number, 0 or a positive number if this BitHolder comes before, is equal to or comes after the given BitHolder.
+ @throws NullPointerException If the given BitHolder is null. */
+@Override
+public int compareTo(@NotNull BitHolder other) throws NullPointerException {
+  nullCheck(other);
+
+  int compared = compareBits(this, 0, other, 0, Math.min(size(), other.size()));
+  if (compared != 0) {return compared;}
+
+  return Integer.compare(size(), other.size());
+}
+
+/**
+ Compares the bits of the BitHolders as unsigned numbers, 64 bits at a time.<br>
+ The bit at index 0 is the most significant bit, the same order the primitive getters use, so leading low bits don't change the value.
+ BitHolders with the same value are ordered by their size, so this is only 0 if the BitHolders are equal.
+ @param other The BitHolder to compare to.
+ @return A negative number, 0 or a positive number if this BitHolder is smaller than, equal to or bigger than the given BitHolder.
+ @throws NullPointerException If the given BitHolder is null. */
+public int compareUnsigned(@NotNull BitHolder other) throws NullPointerException {
+  nullCheck(other);
+
+  // Skips the leading low bits, so only the significant bits of each value are compared.
+  int start = nextHighIndex(0);
+  int otherStart = other.nextHighIndex(0);
+  int length = start == -1 ? 0 : size() - start;
+  int otherLength = otherStart == -1 ? 0 : other.size() - otherStart;
+
+  if (length != otherLength) {return Integer.compare(length, otherLength);}
+
+  int compared = compareBits(this, start, other, otherStart, length);
+  if (compared != 0) {return compared;}
+
+  return Integer.compare(size(), other.size());
+}
+
+/**
+ @return A comparator that orders BitHolders with {@link #compareUnsigned(BitHolder)}. */
+public static @NotNull Comparator<BitHolder> unsignedOrder() {
+  return BitHolder::compareUnsigned;
 }
 
 
 // Iterator override
 
 /**
- Iterates over the bits in this BitHolder.
+ Iterates over the bits in this BitHolder.<br>
+ Each bit is boxed, so for large BitHolders {@link #forEachBit(IntBooleanConsumer)} or {@link #highBitIterator()} are much faster.
  @return An {@link Iterator} that iterates over the bits that the BitHolder contains. */
 @Override
 public @NotNull Iterator<Boolean> iterator() {
@@ -1425,14 +2715,120 @@ public @NotNull Iterator<Boolean> iterator() {
 
     @Override
     public boolean hasNext() {
-      return index < highestIndex();
+      return index + 1 < size();
     }
 
     @Override
     public Boolean next() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+
       index++;
-      return bitSet.get(index);
+      return getBit(index);
+    }
+  };
+}
+
+/**
+ Iterates over the indexes of the high (true) bits in this BitHolder in increasing order.<br>
+ Words with no high bits are skipped & the next high bit in a word is found with its trailing zeros, so low bits cost almost nothing.
+ If the BitHolder is modified while iterating, the iterator might not see the changes.
+ @return An iterator over the indexes of the high bits. */
+public @NotNull PrimitiveIterator.OfInt highBitIterator() {
+  return new PrimitiveIterator.OfInt() {
+    private final int wordCount = WordStorage.wordsFor(size());
+    private int wordIndex = 0;
+    /**
+     The high bits of the current word that haven't been returned yet. */
+    private long word = wordCount == 0 ? 0 : logicalWord(0);
+
+    @Override
+    public boolean hasNext() {
+      while (word == 0) {
+        if (++wordIndex >= wordCount) {return false;}
+        word = logicalWord(wordIndex);
+      }
+      return true;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+
+      int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+      word &= word - 1; // Clears the lowest high bit.
+      return index;
     }
   };
 }
-}
\ No newline at end of file
+
+/**
+ Streams the indexes of the high (true) bits in this BitHolder in increasing order.<br>
+ The stream splits the bits on word boundaries & knows its exact size, so parallel streams divide the work evenly.
+ The BitHolder shouldn't be modified while the stream is being used.
+ @return A stream of the indexes of the high bits. */
+public @NotNull IntStream highBits() {
+  return StreamSupport.intStream(new BitSpliterator(this, true, 0, size()), false);
+}
+
+/**
+ Streams the indexes of the low (false) bits in this BitHolder in increasing order.<br>
+ The stream splits the bits on word boundaries & knows its exact size, so parallel streams divide the work evenly.
+ The BitHolder shouldn't be modified while the stream is being used.
+ @return A stream of the indexes of the low bits. */
+public @NotNull IntStream lowBits() {
+  return StreamSupport.intStream(new BitSpliterator(this, false, 0, size()), false);
+}
+
+/**
+ Passes the index & the value of every bit in this BitHolder to the given action in increasing order, without boxing them.
+ @param action The action to perform on each bit.
+ @throws NullPointerException If the action is null. */
+public void forEachBit(@NotNull IntBooleanConsumer action) throws NullPointerException {
+  nullCheck(action);
+
+  int wordCount = WordStorage.wordsFor(size());
+  for (int wordIndex = 0; wordIndex < wordCount; wordIndex++) {
+    long word = storage.getWord(wordIndex);
+    int firstIndex = wordIndex << 6;
+    int bitCount = Math.min(64, size() - firstIndex);
+
+    for (int i = 0; i < bitCount; i++) {
+      action.accept(firstIndex + i, ((word >>> i) & 1) != 0);
+    }
+  }
+}
+
+/**
+ Passes the bits in this BitHolder to the given action 64 at a time, in the same order as {@link #getBits(int, int)}.<br>
+ The last chunk has fewer bits if the size isn't a multiple of 64.
+ @param action The action to perform on each chunk of bits.
+ @throws NullPointerException If the action is null. */
+public void forEachWord(@NotNull BitChunkConsumer action) throws NullPointerException {
+  nullCheck(action);
+
+  for (int index = 0; index < size(); index += 64) {
+    int bitLength = Math.min(64, size() - index);
+    action.accept(index, readBits(index, bitLength), bitLength);
+  }
+}
+
+/**
+ Passes the bits in this BitHolder to the given action 8 at a time, in the same order as {@link #getBits(int, int)}.<br>
+ The last chunk has fewer bits if the size isn't a multiple of 8.
+ @param action The action to perform on each chunk of bits.
+ @throws NullPointerException If the action is null. */
+public void forEachByte(@NotNull BitChunkConsumer action) throws NullPointerException {
+  nullCheck(action);
+
+  // Reads a word at a time & splits it into bytes, rather than reading each byte from the storage.
+  for (int index = 0; index < size(); index += 64) {
+    int wordLength = Math.min(64, size() - index);
+    long word = readBits(index, wordLength) << (64 - wordLength);
+
+    for (int offset = 0; offset < wordLength; offset += BYTE.bitSize) {
+      int bitLength = Math.min(BYTE.bitSize, wordLength - offset);
+      action.accept(index + offset, (word << offset) >>> (64 - bitLength), bitLength);
+    }
+  }
+}
+}
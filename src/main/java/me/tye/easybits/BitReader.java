@@ -0,0 +1,292 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ Reads bit fields one after another from a {@link BitHolder}, a byte array or a {@link ByteBuffer}.<br>
+ The next 64 bits of the source are cached in a window, so most reads are a single shift & mask.<br>
+ Bytes are read with their most significant bit first, the same order {@link BitHolder#from(byte[])} uses.
+ If the source is modified while it's being read, the changes might not be seen by the reader. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class BitReader {
+
+/**
+ The BitHolder being read. Null if the source isn't a BitHolder. */
+private final @Nullable BitHolder holder;
+/**
+ The byte array being read. Null if the source isn't a byte array. */
+private final @Nullable byte[] bytes;
+/**
+ The buffer being read. Null if the source isn't a buffer. */
+private final @Nullable ByteBuffer buffer;
+
+/**
+ The index of the first byte of the source. Not used for BitHolders. */
+private final int byteOffset;
+/**
+ The amount of bits in the source. */
+private final long sourceBitLength;
+
+/**
+ The bits that have been loaded from the source but not read yet. The next bit to be read is the most significant bit. */
+private long window = 0;
+/**
+ The amount of bits in the window. */
+private int windowBits = 0;
+/**
+ The amount of bits that have been loaded from the source into the window. */
+private long loaded = 0;
+
+
+/**
+ Creates a reader over the bits in the given BitHolder.
+ @param bits The BitHolder to read.
+ @throws NullPointerException If the given BitHolder is null. */
+public BitReader(@NotNull BitHolder bits) throws NullPointerException {
+  nullCheck(bits);
+
+  this.holder = bits;
+  this.bytes = null;
+  this.buffer = null;
+  this.byteOffset = 0;
+  this.sourceBitLength = bits.size();
+}
+
+/**
+ Creates a reader over the bits in the given byte array.
+ @param bytes The bytes to read.
+ @throws NullPointerException If the given array is null. */
+public BitReader(@NotNull byte[] bytes) throws NullPointerException {
+  this(bytes, 0, nullCheck(bytes).length);
+}
+
+/**
+ Creates a reader over the bits in part of the given byte array.
+ @param bytes  The bytes to read.
+ @param offset The index of the first byte to read.
+ @param length The amount of bytes to read.
+ @throws NullPointerException      If the given array is null.
+ @throws IndexOutOfBoundsException If the offset or length is negative or if the range goes past the end of the array. */
+public BitReader(@NotNull byte[] bytes, int offset, int length) throws NullPointerException, IndexOutOfBoundsException {
+  nullCheck(bytes);
+  if (offset < 0) {throw new IndexOutOfBoundsException(amountBellowZero(offset));}
+  if (length < 0) {throw new IndexOutOfBoundsException(amountBellowZero(length));}
+  if ((long) offset + length > bytes.length) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(bytes.length, (long) offset + length));}
+
+  this.holder = null;
+  this.bytes = bytes;
+  this.buffer = null;
+  this.byteOffset = offset;
+  this.sourceBitLength = (long) length * 8;
+}
+
+/**
+ Creates a reader over the bytes between the position & the limit of the given buffer.<br>
+ The position, limit & order of the buffer aren't changed.
+ @param buffer The buffer to read. Can be a heap or a direct buffer.
+ @throws NullPointerException If the given buffer is null. */
+public BitReader(@NotNull ByteBuffer buffer) throws NullPointerException {
+  nullCheck(buffer);
+
+  this.holder = null;
+  this.bytes = null;
+  this.buffer = buffer;
+  this.byteOffset = buffer.position();
+  this.sourceBitLength = (long) buffer.remaining() * 8;
+}
+
+
+/**
+ Reads the next bits packed into a long. The first bit read is the most significant of the returned bits.
+ @param bitLength The amount of bits to read. Must be between 0 & 64.
+ @return The bits in the lowest positions of the long. Any unused higher positions are 0.
+ @throws IllegalArgumentException  If the bitLength is negative or bigger than 64.
+ @throws IndexOutOfBoundsException If there are fewer bits remaining than the bitLength. */
+public long readBits(int bitLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (bitLength < 0 || bitLength > 64) {throw new IllegalArgumentException(bitLengthOutOfRange(bitLength));}
+  if (bitLength > remaining()) {throw new IndexOutOfBoundsException(amountLargerThanIndexed((int) Math.min(Integer.MAX_VALUE, remaining()), bitLength));}
+  if (bitLength == 0) {return 0;}
+
+  if (bitLength <= windowBits) {
+    return take(bitLength);
+  }
+
+  // Takes what's left in the window & gets the rest after refilling it.
+  // A byte source that isn't on a byte boundary loads fewer than 64 bits, so the window might have to be refilled twice.
+  long bits = 0;
+  int needed = bitLength;
+  while (needed > 0) {
+    if (windowBits == 0) {refill();}
+
+    int amount = Math.min(needed, windowBits);
+    bits = amount == 64 ? take(64) : (bits << amount) | take(amount);
+    needed -= amount;
+  }
+  return bits;
+}
+
+/**
+ @return The value of the next bit.
+ @throws IndexOutOfBoundsException If there are no bits remaining. */
+public boolean readBoolean() throws IndexOutOfBoundsException {
+  return readBits(1) != 0;
+}
+
+/**
+ @return The next 8 bits as a byte.
+ @throws IndexOutOfBoundsException If there are fewer than 8 bits remaining. */
+public byte readByte() throws IndexOutOfBoundsException {
+  return (byte) readBits(Primitive.BYTE.bitSize);
+}
+
+/**
+ @return The next 16 bits as a short.
+ @throws IndexOutOfBoundsException If there are fewer than 16 bits remaining. */
+public short readShort() throws IndexOutOfBoundsException {
+  return (short) readBits(Primitive.SHORT.bitSize);
+}
+
+/**
+ @return The next 16 bits as a char.
+ @throws IndexOutOfBoundsException If there are fewer than 16 bits remaining. */
+public char readChar() throws IndexOutOfBoundsException {
+  return (char) readBits(Primitive.CHAR.bitSize);
+}
+
+/**
+ @return The next 32 bits as an int.
+ @throws IndexOutOfBoundsException If there are fewer than 32 bits remaining. */
+public int readInt() throws IndexOutOfBoundsException {
+  return (int) readBits(Primitive.INT.bitSize);
+}
+
+/**
+ @return The next 64 bits as a long.
+ @throws IndexOutOfBoundsException If there are fewer than 64 bits remaining. */
+public long readLong() throws IndexOutOfBoundsException {
+  return readBits(Primitive.LONG.bitSize);
+}
+
+/**
+ @return The next 32 bits as a float.
+ @throws IndexOutOfBoundsException If there are fewer than 32 bits remaining. */
+public float readFloat() throws IndexOutOfBoundsException {
+  return Float.intBitsToFloat(readInt());
+}
+
+/**
+ @return The next 64 bits as a double.
+ @throws IndexOutOfBoundsException If there are fewer than 64 bits remaining. */
+public double readDouble() throws IndexOutOfBoundsException {
+  return Double.longBitsToDouble(readLong());
+}
+
+/**
+ Skips over the given amount of bits without reading them.
+ @param amount The amount of bits to skip.
+ @throws IllegalArgumentException  If the amount is negative.
+ @throws IndexOutOfBoundsException If there are fewer bits remaining than the amount. */
+public void skip(long amount) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (amount < 0) {throw new IllegalArgumentException(amountBellowZero(amount));}
+  if (amount > remaining()) {throw new IndexOutOfBoundsException(amountLargerThanIndexed((int) Math.min(Integer.MAX_VALUE, remaining()), amount));}
+
+  if (amount <= windowBits) {
+    take((int) amount);
+    return;
+  }
+
+  // Drops the window & moves past the rest of the bits without loading them.
+  loaded += amount - windowBits;
+  window = 0;
+  windowBits = 0;
+}
+
+/**
+ @return The amount of bits that have been read or skipped. */
+public long position() {
+  return loaded - windowBits;
+}
+
+/**
+ @return The amount of bits that can still be read. */
+public long remaining() {
+  return sourceBitLength - position();
+}
+
+/**
+ @return True if there is at least one bit that can still be read. */
+public boolean hasRemaining() {
+  return remaining() > 0;
+}
+
+
+/**
+ Removes bits from the top of the window.
+ @param amount The amount of bits to remove. Must be between 1 & the amount of bits in the window.
+ @return The removed bits in the lowest positions of the long. */
+private long take(int amount) {
+  long bits = window >>> (64 - amount);
+  window = amount == 64 ? 0 : window << amount;
+  windowBits -= amount;
+  return bits;
+}
+
+/**
+ Loads the next bits from the source into the window. The window must be empty. */
+private void refill() {
+  long remainingInSource = sourceBitLength - loaded;
+
+  if (holder != null) {
+    int amount = (int) Math.min(64, remainingInSource);
+    window = holder.getBits((int) loaded, amount) << (64 - amount);
+    windowBits = amount;
+    loaded += amount;
+    return;
+  }
+
+  // Byte sources are loaded from the byte containing the next bit, so the bits before it in that byte are shifted out.
+  int bitOffset = (int) (loaded & 7);
+  int byteIndex = byteOffset + (int) (loaded >>> 3);
+  int amount = (int) Math.min(64 - bitOffset, remainingInSource);
+
+  window = loadBytes(byteIndex, (amount + bitOffset + 7) >>> 3) << bitOffset;
+  windowBits = amount;
+  loaded += amount;
+}
+
+/**
+ Packs up to 8 bytes from the source into a long, with the first byte in the most significant position.
+ @param byteIndex The index of the first byte in the array or buffer.
+ @param count     The amount of bytes to load. Must be between 1 & 8.
+ @return The bytes packed into the top of a long. Any unused lower positions are 0. */
+private long loadBytes(int byteIndex, int count) {
+  if (count == 8) {
+    if (buffer != null) {
+      long packed = buffer.getLong(byteIndex);
+      return buffer.order() == ByteOrder.BIG_ENDIAN ? packed : Long.reverseBytes(packed);
+    }
+
+    if (bytes != null) {
+      long packed = 0;
+      for (int i = 0; i < 8; i++) {
+        packed = (packed << 8) | (bytes[byteIndex + i] & 0xFFL);
+      }
+      return packed;
+    }
+  }
+
+  long packed = 0;
+  for (int i = 0; i < count; i++) {
+    byte byte_ = buffer != null ? buffer.get(byteIndex + i) : nullCheck(bytes)[byteIndex + i];
+    packed |= (byte_ & 0xFFL) << (56 - (i * 8));
+  }
+  return packed;
+}
+
+}
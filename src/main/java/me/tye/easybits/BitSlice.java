@@ -0,0 +1,343 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import static me.tye.easybits.ErrorMessages.*;
+import static me.tye.easybits.Primitive.*;
+
+/**
+ A read only view of a range of bits in a {@link BitHolder}, created with {@link BitHolder#slice(int, int)}.<br>
+ The view doesn't copy any bits, it reads them from the parent BitHolder at an offset. So creating a view takes constant time
+ & any changes to the parent are seen through the view.<br>
+ If the parent is shrunk so it no longer holds the whole range, the missing bits are read as low by the logic operations
+ & the getters throw an {@link IndexOutOfBoundsException}.<br>
+ Use {@link #toBitHolder()} to get a copy of the bits that is independent of the parent. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class BitSlice {
+
+/**
+ The BitHolder the bits are read from. */
+private final @NotNull BitHolder parent;
+/**
+ The index in the parent of the first bit of this view. */
+private final int offset;
+/**
+ The amount of bits in this view. */
+private final int size;
+
+
+/**
+ @param parent The BitHolder to read the bits from.
+ @param offset The index in the parent of the first bit of the view.
+ @param size   The amount of bits in the view. The range must be inside the parent. */
+BitSlice(@NotNull BitHolder parent, int offset, int size) {
+  this.parent = parent;
+  this.offset = offset;
+  this.size = size;
+}
+
+
+/**
+ @return The amount of bits in this view. */
+public int size() {
+  return size;
+}
+
+/**
+ @return True if this view has a size of 0. False otherwise. */
+public boolean isEmpty() {
+  return size == 0;
+}
+
+/**
+ @return The index in the parent BitHolder of the first bit of this view. */
+public int offset() {
+  return offset;
+}
+
+/**
+ @param index The index in this view.
+ @return The bit value at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index of this view. */
+public boolean get(int index) throws IndexOutOfBoundsException {
+  isInBounds(index);
+  return parent.get(offset + index);
+}
+
+/**
+ Gets up to 64 bits starting at the given index packed into a long, in the same order as {@link BitHolder#getBits(int, int)}.
+ @param index     The index of the first bit to get.
+ @param bitLength The amount of bits to get. Must be between 0 & 64.
+ @return The bits packed into a long.
+ @throws IllegalArgumentException  If the bitLength is negative or bigger than 64.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bitLength is bigger than the highest index of this view. */
+public long getBits(int index, int bitLength) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (bitLength < 0 || bitLength > 64) {throw new IllegalArgumentException(bitLengthOutOfRange(bitLength));}
+  if (bitLength == 0) {return 0;}
+
+  isInBounds(index);
+  isInBounds(index + bitLength - 1);
+  return parent.getBits(offset + index, bitLength);
+}
+
+/**
+ @param index The index to get the byte at.
+ @return A byte representing the 8 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public byte getByte(int index) throws IndexOutOfBoundsException {
+  return (byte) getBits(index, BYTE.bitSize);
+}
+
+/**
+ @param index The index to get the short at.
+ @return A short representing the 16 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public short getShort(int index) throws IndexOutOfBoundsException {
+  return (short) getBits(index, SHORT.bitSize);
+}
+
+/**
+ @param index The index to get the char at.
+ @return A char representing the 16 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public char getChar(int index) throws IndexOutOfBoundsException {
+  return (char) getBits(index, CHAR.bitSize);
+}
+
+/**
+ @param index The index to get the int at.
+ @return An int representing the 32 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public int getInt(int index) throws IndexOutOfBoundsException {
+  return (int) getBits(index, INT.bitSize);
+}
+
+/**
+ @param index The index to get the long at.
+ @return A long representing the 64 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public long getLong(int index) throws IndexOutOfBoundsException {
+  return getBits(index, LONG.bitSize);
+}
+
+/**
+ @param index The index to get the float at.
+ @return A float representing the 32 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public float getFloat(int index) throws IndexOutOfBoundsException {
+  return Float.intBitsToFloat((int) getBits(index, FLOAT.bitSize));
+}
+
+/**
+ @param index The index to get the double at.
+ @return A double representing the 64 bits at the given index.
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index summed with the bit length is bigger than the highest index of this view. */
+public double getDouble(int index) throws IndexOutOfBoundsException {
+  return Double.longBitsToDouble(getBits(index, DOUBLE.bitSize));
+}
+
+/**
+ Creates a view of part of this view, which reads from the same parent without copying.
+ @param startIndex Must be lower.
+ @param endIndex   Must be higher.
+ @return A view of the bits between the startIndex (inclusive) & the endIndex (inclusive) of this view.
+ @throws IllegalArgumentException  If the endIndex is bigger than the startIndex.
+ @throws IndexOutOfBoundsException If either of the given indexes is negative or if they are bigger than the highest index of this view. */
+public @NotNull BitSlice slice(int startIndex, int endIndex) throws IllegalArgumentException, IndexOutOfBoundsException {
+  if (startIndex > endIndex) {throw new IllegalArgumentException(startBiggerThanEndIndex(startIndex, endIndex));}
+  isInBounds(startIndex);
+  isInBounds(endIndex);
+
+  return new BitSlice(parent, offset + startIndex, endIndex - startIndex + 1);
+}
+
+/**
+ Copies the bits in this view into a new BitHolder, a word at a time.
+ @return A new BitHolder that is independent of the parent. */
+public @NotNull BitHolder toBitHolder() {
+  BitHolder bits = BitHolder.newDense(size);
+  int wordCount = WordStorage.wordsFor(size);
+  for (int i = 0; i < wordCount; i++) {
+    bits.storage().setWord(i, word(i));
+  }
+
+  return bits;
+}
+
+
+// Logic operations //
+// These follow the same rules as the logic operations of BitHolder. The result has the size of this view.
+
+/**
+ Performs the NOT logic operation on this view.
+ @return A new BitHolder containing the result of the NOT logic operation. */
+public @NotNull BitHolder NOT() {
+  BitHolder result = BitHolder.newDense(size);
+  int wordCount = WordStorage.wordsFor(size);
+  for (int i = 0; i < wordCount; i++) {
+    result.storage().setWord(i, ~word(i) & usedMask(i));
+  }
+
+  return result;
+}
+
+/**
+ @param bitsToAND The bits to preform the AND operation with.
+ @return A new BitHolder containing the result of the AND logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder AND(@NotNull BitSlice bitsToAND) throws NullPointerException {
+  return logic(LogicOperation.AND, bitsToAND);
+}
+
+/**
+ @param bitsToAND The bits to preform the AND operation with.
+ @return A new BitHolder containing the result of the AND logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder AND(@NotNull BitHolder bitsToAND) throws NullPointerException {
+  return logic(LogicOperation.AND, whole(bitsToAND));
+}
+
+/**
+ @param bitsToNAND The bits to preform the NAND operation with.
+ @return A new BitHolder containing the result of the NAND logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder NAND(@NotNull BitSlice bitsToNAND) throws NullPointerException {
+  return logic(LogicOperation.NAND, bitsToNAND);
+}
+
+/**
+ @param bitsToNAND The bits to preform the NAND operation with.
+ @return A new BitHolder containing the result of the NAND logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder NAND(@NotNull BitHolder bitsToNAND) throws NullPointerException {
+  return logic(LogicOperation.NAND, whole(bitsToNAND));
+}
+
+/**
+ @param bitsToOR The bits to preform the OR operation with.
+ @return A new BitHolder containing the result of the OR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder OR(@NotNull BitSlice bitsToOR) throws NullPointerException {
+  return logic(LogicOperation.OR, bitsToOR);
+}
+
+/**
+ @param bitsToOR The bits to preform the OR operation with.
+ @return A new BitHolder containing the result of the OR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder OR(@NotNull BitHolder bitsToOR) throws NullPointerException {
+  return logic(LogicOperation.OR, whole(bitsToOR));
+}
+
+/**
+ @param bitsToNOR The bits to preform the NOR operation with.
+ @return A new BitHolder containing the result of the NOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder NOR(@NotNull BitSlice bitsToNOR) throws NullPointerException {
+  return logic(LogicOperation.NOR, bitsToNOR);
+}
+
+/**
+ @param bitsToNOR The bits to preform the NOR operation with.
+ @return A new BitHolder containing the result of the NOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder NOR(@NotNull BitHolder bitsToNOR) throws NullPointerException {
+  return logic(LogicOperation.NOR, whole(bitsToNOR));
+}
+
+/**
+ @param bitsToXOR The bits to preform the XOR operation with.
+ @return A new BitHolder containing the result of the XOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder XOR(@NotNull BitSlice bitsToXOR) throws NullPointerException {
+  return logic(LogicOperation.XOR, bitsToXOR);
+}
+
+/**
+ @param bitsToXOR The bits to preform the XOR operation with.
+ @return A new BitHolder containing the result of the XOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder XOR(@NotNull BitHolder bitsToXOR) throws NullPointerException {
+  return logic(LogicOperation.XOR, whole(bitsToXOR));
+}
+
+/**
+ @param bitsToXNOR The bits to preform the XNOR operation with.
+ @return A new BitHolder containing the result of the XNOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder XNOR(@NotNull BitSlice bitsToXNOR) throws NullPointerException {
+  return logic(LogicOperation.XNOR, bitsToXNOR);
+}
+
+/**
+ @param bitsToXNOR The bits to preform the XNOR operation with.
+ @return A new BitHolder containing the result of the XNOR logic operation on this view.
+ @throws NullPointerException If the given bits were null. */
+public @NotNull BitHolder XNOR(@NotNull BitHolder bitsToXNOR) throws NullPointerException {
+  return logic(LogicOperation.XNOR, whole(bitsToXNOR));
+}
+
+
+@Override
+public @NotNull String toString() {
+  return toBitHolder().toString();
+}
+
+
+/**
+ Performs a logic operation with this view & the operand a word at a time.
+ @param operation The operation to perform.
+ @param operand   The bits to perform the operation with.
+ @return A new BitHolder with the size of this view holding the result.
+ @throws NullPointerException If the operand was null. */
+private @NotNull BitHolder logic(@NotNull LogicOperation operation, @NotNull BitSlice operand) throws NullPointerException {
+  nullCheck(operand);
+
+  BitHolder result = BitHolder.newDense(size);
+  int wordCount = WordStorage.wordsFor(size);
+  for (int i = 0; i < wordCount; i++) {
+    result.storage().setWord(i, operation.apply(word(i), operand.word(i)) & usedMask(i));
+  }
+
+  return result;
+}
+
+/**
+ @param wordIndex The index of the word, counting from the start of this view.
+ @return The 64 bits of this view starting at the given word, in storage order. Any bits past the end of the view or the parent are 0. */
+private long word(int wordIndex) {
+  long firstBit = (long) wordIndex << 6;
+  if (firstBit >= size) {return 0;}
+
+  int index = offset + (int) firstBit;
+  int length = (int) Math.min(64, Math.min(size, parent.size() - offset) - firstBit);
+  if (length <= 0) {return 0;}
+
+  return parent.readWordBits(index, length);
+}
+
+/**
+ @param wordIndex The index of the word, counting from the start of this view.
+ @return A mask with the bits of the word that are inside this view set. */
+private long usedMask(int wordIndex) {
+  long remaining = size - ((long) wordIndex << 6);
+  return remaining >= 64 ? -1L : -1L >>> (64 - remaining);
+}
+
+/**
+ @param bits The BitHolder to view.
+ @return A view of the whole BitHolder.
+ @throws NullPointerException If the given BitHolder was null. */
+private static @NotNull BitSlice whole(@NotNull BitHolder bits) throws NullPointerException {
+  nullCheck(bits);
+  return new BitSlice(bits, 0, bits.size());
+}
+
+/**
+ @throws IndexOutOfBoundsException If the given index is negative or if the given index is bigger than the highest index of this view. */
+private void isInBounds(int index) throws IndexOutOfBoundsException {
+  if (index < 0) {throw new IndexOutOfBoundsException(amountBellowZero(index));}
+  if (index >= size) {throw new IndexOutOfBoundsException(amountLargerThanIndexed(size - 1, index));}
+}
+
+}
@@ -0,0 +1,155 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ Splits the indexes of the high or the low bits in a range of a {@link BitHolder}, for {@link BitHolder#highBits()} & {@link BitHolder#lowBits()}.<br>
+ The range is always split on a word boundary, so no word is shared between two spliterators.
+ The exact amount of indexes is counted with {@link Long#bitCount(long)} when it's first needed, so the spliterator is sized. */
+class BitSpliterator implements Spliterator.OfInt {
+
+/**
+ The BitHolder the bits are read from. */
+private final @NotNull BitHolder bits;
+/**
+ True if the indexes of the high bits are returned, false for the low bits. */
+private final boolean high;
+
+/**
+ The index of the next bit to check. */
+private int index;
+/**
+ The index after the last bit to check. */
+private final int end;
+/**
+ The amount of indexes that haven't been returned yet, or -1 if they haven't been counted. */
+private long remaining = -1;
+
+
+/**
+ @param bits  The BitHolder to read the bits from.
+ @param high  True to return the indexes of the high bits, false for the low bits.
+ @param index The index of the first bit to check.
+ @param end   The index after the last bit to check. Must not be bigger than the size of the BitHolder. */
+BitSpliterator(@NotNull BitHolder bits, boolean high, int index, int end) {
+  this.bits = bits;
+  this.high = high;
+  this.index = index;
+  this.end = end;
+}
+
+
+@Override
+public boolean tryAdvance(@NotNull IntConsumer action) {
+  if (index >= end) {return false;}
+
+  int lastWord = (end - 1) >>> 6;
+  for (int wordIndex = index >>> 6; wordIndex <= lastWord; wordIndex++) {
+    long word = matchingBits(wordIndex, index);
+    if (word == 0) {continue;}
+
+    int found = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    index = found + 1;
+    if (remaining > 0) {remaining--;}
+
+    action.accept(found);
+    return true;
+  }
+
+  index = end;
+  remaining = 0;
+  return false;
+}
+
+@Override
+public void forEachRemaining(@NotNull IntConsumer action) {
+  if (index >= end) {return;}
+
+  int start = index;
+  int lastWord = (end - 1) >>> 6;
+  // The state is updated before the action is called, in case the action throws.
+  index = end;
+  remaining = 0;
+
+  for (int wordIndex = start >>> 6; wordIndex <= lastWord; wordIndex++) {
+    long word = matchingBits(wordIndex, start);
+    int firstIndex = wordIndex << 6;
+
+    while (word != 0) {
+      action.accept(firstIndex + Long.numberOfTrailingZeros(word));
+      word &= word - 1;
+    }
+  }
+}
+
+@Override
+public @Nullable Spliterator.OfInt trySplit() {
+  // Splits in the middle, rounded down to a word boundary.
+  int middle = (int) (((long) index + end) >>> 1) & ~63;
+  if (middle <= index || middle >= end) {return null;}
+
+  BitSpliterator prefix = new BitSpliterator(bits, high, index, middle);
+  // If the indexes have been counted, only the prefix is counted again & the rest of the count is kept, so each split doesn't recount the whole range.
+  if (remaining >= 0) {
+    prefix.remaining = prefix.count();
+    remaining -= prefix.remaining;
+  }
+  index = middle;
+  return prefix;
+}
+
+@Override
+public long estimateSize() {
+  if (remaining < 0) {remaining = count();}
+  return remaining;
+}
+
+@Override
+public int characteristics() {
+  return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL;
+}
+
+@Override
+public @Nullable Comparator<? super Integer> getComparator() {
+  return null; // The indexes are in their natural order.
+}
+
+
+/**
+ @return The amount of indexes between the index & the end that are being looked for. */
+private long count() {
+  if (index >= end) {return 0;}
+
+  long count = 0;
+  int lastWord = (end - 1) >>> 6;
+  for (int wordIndex = index >>> 6; wordIndex <= lastWord; wordIndex++) {
+    count += Long.bitCount(matchingBits(wordIndex, index));
+  }
+  return count;
+}
+
+/**
+ @param wordIndex The index of the word.
+ @param start     The index of the first bit in the range.
+ @return The bits of the word that are being looked for & that are between the start & the end, set to high. */
+private long matchingBits(int wordIndex, int start) {
+  long word = bits.logicalWord(wordIndex);
+  if (!high) {word = ~word;}
+
+  int firstIndex = wordIndex << 6;
+  if (firstIndex < start) {
+    word &= -1L << (start - firstIndex);
+  }
+  if (firstIndex + 64 > end) {
+    word &= -1L >>> (64 - (end - firstIndex));
+  }
+
+  return word;
+}
+
+}
@@ -0,0 +1,226 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ Writes bit fields one after another into a growable buffer.<br>
+ Bits are collected in a 64 bit accumulator & only whole words are flushed to the buffer, so most writes are a single shift & or.<br>
+ The written bits can be taken out as a {@link BitHolder}, a byte array or written to an {@link OutputStream}, each of which copies the bits once. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class BitWriter {
+
+/**
+ The size of the chunks used when writing to an {@link OutputStream}. */
+private static final int CHUNK_SIZE = 8192;
+
+/**
+ The words that have been flushed from the accumulator. They use the same layout as {@link WordStorage}. */
+private @NotNull long[] words;
+/**
+ The amount of words that have been flushed. */
+private int wordCount = 0;
+
+/**
+ The bits that haven't been flushed yet, in the same layout as a word in {@link WordStorage}. Any unused positions are 0. */
+private long accumulator = 0;
+/**
+ The amount of bits in the accumulator. Always less than 64. */
+private int accumulatorBits = 0;
+
+
+/**
+ Creates a new writer with space for 1024 bits before it has to grow. */
+public BitWriter() {
+  this(1024);
+}
+
+/**
+ Creates a new writer with space for the given amount of bits before it has to grow.
+ @param bitCapacity The amount of bits to allocate space for.
+ @throws IllegalArgumentException If the bitCapacity is negative. */
+public BitWriter(int bitCapacity) throws IllegalArgumentException {
+  if (bitCapacity < 0) {throw new IllegalArgumentException(amountBellowZero(bitCapacity));}
+  this.words = new long[WordStorage.wordsFor(bitCapacity)];
+}
+
+
+/**
+ Writes up to 64 bits packed into a long. The most significant of the given bits is written first.<br>
+ Only the lowest bitLength bits of the long are used.
+ @param bits      The bits packed into a long.
+ @param bitLength The amount of bits to write. Must be between 0 & 64.
+ @throws IllegalArgumentException If the bitLength is negative or bigger than 64, or if the writer would hold more than {@link Integer#MAX_VALUE} bits. */
+public void writeBits(long bits, int bitLength) throws IllegalArgumentException {
+  if (bitLength < 0 || bitLength > 64) {throw new IllegalArgumentException(bitLengthOutOfRange(bitLength));}
+  if (bitLength == 0) {return;}
+  if ((long) size() + bitLength > Integer.MAX_VALUE) {throw new IllegalArgumentException(amountLargerThanIndexed(Integer.MAX_VALUE, (long) size() + bitLength));}
+
+  // The first bit written is stored in the lowest position, so the bits are reversed into the word order.
+  long reversed = Long.reverse(bits) >>> (64 - bitLength);
+  accumulator |= reversed << accumulatorBits;
+
+  int total = accumulatorBits + bitLength;
+  if (total < 64) {
+    accumulatorBits = total;
+    return;
+  }
+
+  flush(accumulator);
+  // Keeps the bits that didn't fit into the flushed word.
+  accumulatorBits = total - 64;
+  accumulator = accumulatorBits == 0 ? 0 : reversed >>> (bitLength - accumulatorBits);
+}
+
+/**
+ @param bit The bit to write. */
+public void writeBoolean(boolean bit) {
+  writeBits(bit ? 1 : 0, 1);
+}
+
+/**
+ @param byte_ The byte to write as 8 bits. */
+public void writeByte(byte byte_) {
+  writeBits(byte_, Primitive.BYTE.bitSize);
+}
+
+/**
+ @param short_ The short to write as 16 bits. */
+public void writeShort(short short_) {
+  writeBits(short_, Primitive.SHORT.bitSize);
+}
+
+/**
+ @param char_ The char to write as 16 bits. */
+public void writeChar(char char_) {
+  writeBits(char_, Primitive.CHAR.bitSize);
+}
+
+/**
+ @param int_ The int to write as 32 bits. */
+public void writeInt(int int_) {
+  writeBits(int_, Primitive.INT.bitSize);
+}
+
+/**
+ @param long_ The long to write as 64 bits. */
+public void writeLong(long long_) {
+  writeBits(long_, Primitive.LONG.bitSize);
+}
+
+/**
+ @param float_ The float to write as 32 bits. */
+public void writeFloat(float float_) {
+  writeInt(Float.floatToRawIntBits(float_));
+}
+
+/**
+ @param double_ The double to write as 64 bits. */
+public void writeDouble(double double_) {
+  writeLong(Double.doubleToRawLongBits(double_));
+}
+
+/**
+ @return The amount of bits that have been written. */
+public int size() {
+  return (wordCount << 6) + accumulatorBits;
+}
+
+/**
+ Removes all the written bits. The allocated space is kept so the writer can be reused. */
+public void clear() {
+  Arrays.fill(words, 0, wordCount, 0);
+  wordCount = 0;
+  accumulator = 0;
+  accumulatorBits = 0;
+}
+
+
+/**
+ The writer can still be used after this is called & further writes won't change the returned BitHolder.
+ @return A new BitHolder containing the written bits. */
+public @NotNull BitHolder toBitHolder() {
+  int size = size();
+  long[] copy = Arrays.copyOf(words, WordStorage.wordsFor(size));
+  if (accumulatorBits != 0) {
+    copy[wordCount] = accumulator;
+  }
+
+  return new BitHolder(new HeapWordStorage(copy), size);
+}
+
+/**
+ If the amount of written bits isn't a multiple of 8 the last byte is padded with low bits.
+ @return A byte array containing the written bits, in the same format as {@link BitHolder#toByteArray()}. */
+public byte[] toByteArray() {
+  byte[] bytes = new byte[byteLength()];
+  writeBytes(0, bytes, 0, bytes.length);
+  return bytes;
+}
+
+/**
+ Writes the written bits to the given stream in the same format as {@link #toByteArray()}.<br>
+ The bytes are written in chunks, so the whole output doesn't have to be held in a separate array.
+ @param output The stream to write to. The stream isn't flushed or closed.
+ @throws NullPointerException If the given stream is null.
+ @throws IOException          If the stream throws an IOException. */
+public void writeTo(@NotNull OutputStream output) throws NullPointerException, IOException {
+  nullCheck(output);
+
+  int byteLength = byteLength();
+  byte[] chunk = new byte[Math.min(CHUNK_SIZE, byteLength)];
+
+  for (int written = 0; written < byteLength; written += chunk.length) {
+    int length = Math.min(chunk.length, byteLength - written);
+    writeBytes(written, chunk, 0, length);
+    output.write(chunk, 0, length);
+  }
+}
+
+
+/**
+ Adds a full word to the buffer, growing it if needed.
+ @param word The word to add. */
+private void flush(long word) {
+  if (wordCount == words.length) {
+    // Grows by at least double to keep repeated writes amortized.
+    words = Arrays.copyOf(words, Math.max(words.length * 2, 16));
+  }
+
+  words[wordCount++] = word;
+}
+
+/**
+ Copies the written bits into the given array as bytes, with the most significant bit of each byte written first.
+ @param byteIndex   The index of the first byte of the written bits to copy.
+ @param destination The array to copy into.
+ @param offset      The index in the array to copy the first byte to.
+ @param length      The amount of bytes to copy. */
+private void writeBytes(int byteIndex, byte[] destination, int offset, int length) {
+  long word = 0;
+  for (int i = 0; i < length; i++) {
+    int index = byteIndex + i;
+    int byteInWord = index & 7;
+
+    // Reverses the word once so its bytes can be taken from the top in order.
+    if (i == 0 || byteInWord == 0) {
+      int wordIndex = index >>> 3;
+      word = Long.reverse(wordIndex < wordCount ? words[wordIndex] : accumulator);
+    }
+
+    destination[offset + i] = (byte) (word >>> (56 - (byteInWord * 8)));
+  }
+}
+
+/**
+ @return The amount of bytes needed to hold the written bits. */
+private int byteLength() {
+  return (int) ((size() + 7L) / Primitive.BYTE.bitSize);
+}
+
+}
@@ -0,0 +1,125 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ A {@link Container} that holds every bit of its chunk as words. Used for chunks with many high bits that aren't grouped into runs. */
+final class BitmapContainer extends Container {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 2925839165427924318L;
+
+/**
+ The words of the chunk. */
+private final long[] words;
+/**
+ The amount of high bits in the words. */
+private int cardinality;
+
+
+/**
+ @param words The words of the chunk. The array is used directly. */
+BitmapContainer(long[] words) {
+  this.words = words;
+  for (long word : words) {
+    cardinality += Long.bitCount(word);
+  }
+}
+
+
+@Override
+int cardinality() {
+  return cardinality;
+}
+
+@Override
+int runCount() {
+  int runs = 0;
+  long previous = 0;
+  for (long word : words) {
+    // A run starts at each high bit whose lower neighbour is low. The top bit of the previous word is the lower neighbour of bit 0.
+    runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+    previous = word;
+  }
+  return runs;
+}
+
+@Override
+boolean contains(int value) {
+  return (words[value >>> 6] & (1L << value)) != 0;
+}
+
+@Override
+long getWord(int wordIndex) {
+  return words[wordIndex];
+}
+
+@Override
+@NotNull Container setWord(int wordIndex, long word) {
+  cardinality += Long.bitCount(word) - Long.bitCount(words[wordIndex]);
+  words[wordIndex] = word;
+
+  // Only goes back to an array well below the array limit, so bits set & cleared around the limit don't convert the chunk back & forth.
+  if (cardinality <= ARRAY_MAX / 2) {return ArrayContainer.fromIterator(iterator(), cardinality);}
+  return this;
+}
+
+@Override
+@NotNull PrimitiveIterator.OfInt iterator() {
+  return new PrimitiveIterator.OfInt() {
+    private int wordIndex = 0;
+    /**
+     The high bits of the current word that haven't been returned yet. */
+    private long word = words[0];
+
+    @Override
+    public boolean hasNext() {
+      while (word == 0) {
+        if (++wordIndex >= CHUNK_WORDS) {return false;}
+        word = words[wordIndex];
+      }
+      return true;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+
+      int value = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+      word &= word - 1; // Clears the lowest high bit.
+      return value;
+    }
+  };
+}
+
+@Override
+int sizeInBytes() {
+  return words.length * 8;
+}
+
+@Override
+@NotNull Container copy() {
+  return new BitmapContainer(words.clone());
+}
+
+@Override
+long[] words() {
+  return words;
+}
+
+@Override
+int countBelow(int limit) {
+  int count = 0;
+  int fullWords = limit >>> 6;
+  for (int i = 0; i < fullWords; i++) {
+    count += Long.bitCount(words[i]);
+  }
+  if (fullWords < CHUNK_WORDS) {count += Long.bitCount(words[fullWords] & ~(-1L << limit));}
+  return count;
+}
+
+}
@@ -0,0 +1,227 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A {@link BitHolder} that compresses its bits, for bits where the high bits are sparse or grouped into runs.<br>
+ The bits are split into chunks of 65,536 bits. Chunks with no high bits take no space, & every other chunk is stored as whichever is smallest of
+ a sorted array of the indexes of its high bits, a bitmap of all of its bits or a list of its runs of high bits.<br>
+ The logic operations, {@link #highBitCount()} & the iteration over high bits work on the chunks directly, so chunks with no high bits are skipped
+ & sparse chunks cost about the amount of their high bits rather than the amount of their bits.
+ Any other method works on the bits as words, the same as any BitHolder, so it costs about the same as it would on the heap.<br>
+ The logic operations return a CompressedBitHolder, & they use the compressed form whenever the destination is a CompressedBitHolder.
+ Other methods that return a new BitHolder, such as {@link #subBits(int, int)}, return a BitHolder on the heap.<br>
+ Writing words can leave a chunk in a form that is no longer the smallest, which {@link #optimize()} fixes.
+ The words of a CompressedBitHolder are never written from more than one thread at once, so it doesn't use the parallel threshold for writes. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class CompressedBitHolder extends BitHolder {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -1927718069802426419L;
+
+
+/**
+ Constructs a new empty compressed bit holder. */
+public CompressedBitHolder() {
+  this(0);
+}
+
+/**
+ Constructs a new compressed bit holder with the given starting size.<br>
+ The bits will be initialized to 0, which takes no space.
+ @param startingSize The starting size of the BitHolder.
+ @throws IllegalArgumentException If the starting size is negative. */
+public CompressedBitHolder(int startingSize) throws IllegalArgumentException {
+  super(new CompressedWordStorage(sizeCheck(startingSize)), startingSize);
+}
+
+/**
+ Constructs a new compressed bit holder holding a copy of the given bits.
+ @param bits The bits to copy.
+ @throws NullPointerException If the given BitHolder is null. */
+public CompressedBitHolder(@NotNull BitHolder bits) throws NullPointerException {
+  this(nullCheck(bits).size());
+
+  Container[] chunks = new Container[chunkCount()];
+  for (int i = 0; i < chunks.length; i++) {
+    Container chunk = chunkOf(bits, i);
+    chunks[i] = chunk == null ? null : chunk.copy().optimize();
+  }
+  compressedStorage().replaceChunks(chunks);
+}
+
+
+/**
+ Changes each chunk into the smallest form for its bits. The logic operations already do this for their results,
+ so this is only needed after the bits have been changed in other ways, such as with {@link #set(int, boolean)}. */
+public void optimize() {
+  compressedStorage().optimize();
+}
+
+/**
+ @return The approximate amount of bytes used to store the bits. */
+public long sizeInBytes() {
+  return compressedStorage().sizeInBytes();
+}
+
+/**
+ Counts the high bits chunk by chunk, without reading any words. */
+@Override
+public int highBitCount() {
+  int count = 0;
+  for (int i = 0; i < chunkCount(); i++) {
+    Container chunk = compressedStorage().chunk(i);
+    if (chunk != null) {count += chunk.countBelow(chunkLimit(i, size()));}
+  }
+
+  return count;
+}
+
+@Override
+public boolean areAllHigh() {
+  return highBitCount() == size();
+}
+
+@Override
+public boolean areAllLow() {
+  return highBitCount() == 0;
+}
+
+/**
+ Iterates over the chunks, skipping any chunks with no high bits. */
+@Override
+public @NotNull PrimitiveIterator.OfInt highBitIterator() {
+  return new PrimitiveIterator.OfInt() {
+    private final int chunkCount = chunkCount();
+    private int chunkIndex = -1;
+    private @Nullable PrimitiveIterator.OfInt values = null;
+    private int limit = 0;
+    private int next = -1;
+
+    @Override
+    public boolean hasNext() {
+      while (next < 0) {
+        if (values != null && values.hasNext()) {
+          int value = values.nextInt();
+          if (value < limit) {next = (chunkIndex << 16) + value;}
+          else {values = null;} // Any values past the size are skipped.
+          continue;
+        }
+
+        if (++chunkIndex >= chunkCount) {return false;}
+        Container chunk = compressedStorage().chunk(chunkIndex);
+        values = chunk == null ? null : chunk.iterator();
+        limit = chunkLimit(chunkIndex, size());
+      }
+      return true;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+
+      int index = next;
+      next = -1;
+      return index;
+    }
+  };
+}
+
+@Override
+public @NotNull IntStream highBits() {
+  int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL;
+  return StreamSupport.intStream(Spliterators.spliterator(highBitIterator(), highBitCount(), characteristics), false);
+}
+
+@Override
+public @NotNull BitHolder NOT(@NotNull BitHolder destination) throws NullPointerException {
+  nullCheck(destination);
+
+  // NAND of a chunk with itself is its complement.
+  return logic(LogicOperation.NAND, this, destination);
+}
+
+@Override
+@NotNull BitHolder newResult(int size) {
+  return new CompressedBitHolder(size);
+}
+
+/**
+ Works on the chunks if the destination is compressed, otherwise works on the words like any BitHolder. */
+@Override
+@NotNull BitHolder logic(@NotNull LogicOperation operation, @NotNull BitHolder operand, @NotNull BitHolder destination) {
+  if (!(destination.storage() instanceof CompressedWordStorage)) {return super.logic(operation, operand, destination);}
+
+  // Every chunk is read from both sides before the destination is changed, so the destination can be either of them.
+  Container[] chunks = new Container[chunkCount()];
+  for (int i = 0; i < chunks.length; i++) {
+    chunks[i] = Container.logic(operation, chunkOf(this, i), chunkOf(operand, i), chunkLimit(i, size()));
+  }
+
+  CompressedWordStorage storage = (CompressedWordStorage) destination.storage();
+  storage.prepareWrite();
+  destination.setSize(size());
+  storage.replaceChunks(chunks);
+  return destination;
+}
+
+
+/**
+ @return The amount of chunks needed for the size. */
+private int chunkCount() {
+  return CompressedWordStorage.chunksFor(WordStorage.wordsFor(size()));
+}
+
+/**
+ @return The storage holding the bits. */
+private @NotNull CompressedWordStorage compressedStorage() {
+  return (CompressedWordStorage) storage();
+}
+
+/**
+ @param chunkIndex The index of a chunk.
+ @param size       The size of the BitHolder.
+ @return The amount of bits of the chunk inside the size. */
+private static int chunkLimit(int chunkIndex, int size) {
+  return (int) Math.max(0, Math.min(Container.CHUNK_BITS, size - ((long) chunkIndex << 16)));
+}
+
+/**
+ Reads a chunk from any BitHolder, without any high bits past its size. Chunks of a compressed BitHolder are used directly, & chunks of any other BitHolder are read from its words.
+ @param bits       The BitHolder to read from.
+ @param chunkIndex The index of the chunk.
+ @return The chunk, which must not be modified, or null if it has no high bits. */
+private static @Nullable Container chunkOf(@NotNull BitHolder bits, int chunkIndex) {
+  int limit = chunkLimit(chunkIndex, bits.size());
+  if (limit == 0) {return null;}
+
+  if (bits.storage() instanceof CompressedWordStorage) {
+    Container chunk = ((CompressedWordStorage) bits.storage()).chunk(chunkIndex);
+    return chunk == null ? null : chunk.truncate(limit);
+  }
+
+  int firstWord = chunkIndex << 10;
+  int wordCount = WordStorage.wordsFor(limit);
+  long[] words = new long[Container.CHUNK_WORDS];
+  boolean empty = true;
+
+  for (int i = 0; i < wordCount; i++) {
+    words[i] = bits.logicalWord(firstWord + i);
+    if (words[i] != 0) {empty = false;}
+  }
+
+  return empty ? null : Container.fromWords(words);
+}
+
+}
@@ -0,0 +1,232 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ Stores the words of a {@link BitHolder} compressed into chunks of {@value Container#CHUNK_BITS} bits.<br>
+ Chunks with no high bits aren't stored at all, & every other chunk is held by the smallest {@link Container} for its bits.
+ So the memory used depends on the amount & grouping of the high bits rather than on the size.<br>
+ Changing a word can change the form of its chunk, so the words can't be written to from more than one thread at once. */
+final class CompressedWordStorage extends WordStorage {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 1580946512271843601L;
+
+/**
+ The amount to shift a word index by to get the index of its chunk. */
+private static final int CHUNK_WORD_SHIFT = 10;
+
+/**
+ The containers of the chunks, with null for chunks with no high bits. May be longer than needed for the capacity. */
+private Container[] chunks;
+/**
+ The amount of words the storage can hold without growing. */
+private int wordCapacity;
+
+
+/**
+ Creates a new storage that can hold at least the given amount of bits without growing.
+ @param bitCapacity The amount of bits to allocate space for. */
+CompressedWordStorage(int bitCapacity) {
+  this.wordCapacity = wordsFor(bitCapacity);
+  this.chunks = new Container[chunksFor(wordCapacity)];
+}
+
+/**
+ @param chunks       The containers of the chunks. The array is used directly.
+ @param wordCapacity The amount of words the storage can hold. */
+private CompressedWordStorage(Container[] chunks, int wordCapacity) {
+  this.chunks = chunks;
+  this.wordCapacity = wordCapacity;
+}
+
+/**
+ @param wordCount An amount of words.
+ @return The amount of chunks needed to hold the given amount of words. */
+static int chunksFor(int wordCount) {
+  return (wordCount + Container.CHUNK_WORDS - 1) >>> CHUNK_WORD_SHIFT;
+}
+
+
+@Override
+long getWord(int wordIndex) {
+  Container chunk = chunks[wordIndex >>> CHUNK_WORD_SHIFT];
+  return chunk == null ? 0 : chunk.getWord(wordIndex & (Container.CHUNK_WORDS - 1));
+}
+
+@Override
+void setWord(int wordIndex, long word) {
+  checkMutable();
+
+  int chunkIndex = wordIndex >>> CHUNK_WORD_SHIFT;
+  Container chunk = chunks[chunkIndex];
+  if (chunk == null) {
+    if (word == 0) {return;}
+    chunk = new ArrayContainer();
+  }
+
+  chunk = chunk.setWord(wordIndex & (Container.CHUNK_WORDS - 1), word);
+  chunks[chunkIndex] = chunk.cardinality() == 0 ? null : chunk;
+}
+
+@Override
+void prepareWrite() throws UnsupportedOperationException {
+  checkMutable();
+}
+
+@Override
+boolean parallelWrites() {
+  return false;
+}
+
+@Override
+void getWords(int wordIndex, @NotNull long[] destination, int offset, int length) {
+  for (int i = 0; i < length; i++) {
+    destination[offset + i] = getWord(wordIndex + i);
+  }
+}
+
+@Override
+void setWords(int wordIndex, @NotNull long[] source, int offset, int length) {
+  for (int i = 0; i < length; i++) {
+    setWord(wordIndex + i, source[offset + i]);
+  }
+}
+
+@Override
+int wordCapacity() {
+  return wordCapacity;
+}
+
+/**
+ Empty chunks take no space, so growing only makes room for more chunk references. */
+@Override
+void ensureCapacity(int bitCapacity) {
+  int required = wordsFor(bitCapacity);
+  if (required <= wordCapacity) {return;}
+  checkMutable();
+
+  int requiredChunks = chunksFor(required);
+  if (requiredChunks > chunks.length) {
+    chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, requiredChunks));
+  }
+  wordCapacity = required;
+}
+
+/**
+ Copies the containers, so the snapshot is about the size of the compressed bits rather than the size of the BitHolder. */
+@Override
+@NotNull WordStorage snapshot() {
+  return copyChunks();
+}
+
+
+/**
+ @param chunkIndex The index of the chunk.
+ @return The container of the chunk, or null if it has no high bits or is past the capacity. */
+@Nullable Container chunk(int chunkIndex) {
+  return chunkIndex < chunks.length ? chunks[chunkIndex] : null;
+}
+
+/**
+ Replaces all the chunks. The new chunks must not hold any bits past the capacity of this storage.
+ @param newChunks The new containers. The array is used directly.
+ @throws UnsupportedOperationException If the words can't be changed. */
+void replaceChunks(Container[] newChunks) throws UnsupportedOperationException {
+  checkMutable();
+  chunks = newChunks.length >= chunksFor(wordCapacity) ? newChunks : Arrays.copyOf(newChunks, chunksFor(wordCapacity));
+}
+
+/**
+ @return A new storage holding copies of the containers. */
+@NotNull CompressedWordStorage copyChunks() {
+  Container[] copies = new Container[chunks.length];
+  for (int i = 0; i < chunks.length; i++) {
+    if (chunks[i] != null) {copies[i] = chunks[i].copy();}
+  }
+  return new CompressedWordStorage(copies, wordCapacity);
+}
+
+/**
+ @param wordCount The amount of words to copy. Any words past the capacity of this storage are 0.
+ @return A new storage holding copies of the containers for the first given amount of words. */
+@NotNull CompressedWordStorage copyChunks(int wordCount) {
+  Container[] copies = new Container[chunksFor(wordCount)];
+  for (int i = 0; i < copies.length && i < chunks.length; i++) {
+    if (chunks[i] == null) {continue;}
+
+    // Only the last chunk can be cut by the word count.
+    long limit = Math.min(Container.CHUNK_BITS, ((long) wordCount << 6) - ((long) i << 16));
+    Container copy = chunks[i].truncate((int) limit).copy();
+    copies[i] = copy.cardinality() == 0 ? null : copy;
+  }
+  return new CompressedWordStorage(copies, wordCount);
+}
+
+/**
+ @param words     The words to compress.
+ @param wordCount The amount of words to compress from the array.
+ @return A new storage holding the words, with each chunk stored as sorted values if it has few high bits or as words if it has many. */
+static @NotNull CompressedWordStorage fromWords(long[] words, int wordCount) {
+  Container[] chunks = new Container[chunksFor(wordCount)];
+  for (int i = 0; i < chunks.length; i++) {
+    int firstWord = i << CHUNK_WORD_SHIFT;
+    long[] chunkWords = Arrays.copyOfRange(words, firstWord, firstWord + Container.CHUNK_WORDS);
+    if (firstWord + Container.CHUNK_WORDS > wordCount) {Arrays.fill(chunkWords, wordCount - firstWord, Container.CHUNK_WORDS, 0);}
+
+    BitmapContainer chunk = new BitmapContainer(chunkWords);
+    if (chunk.cardinality() == 0) {continue;}
+    chunks[i] = chunk.cardinality() <= Container.ARRAY_MAX ? ArrayContainer.fromIterator(chunk.iterator(), chunk.cardinality()) : chunk;
+  }
+  return new CompressedWordStorage(chunks, wordCount);
+}
+
+/**
+ Copies all the words into the given array.
+ @param destination The array to copy the words into. Must hold at least the capacity of this storage. */
+void toWords(long[] destination) {
+  for (int i = 0; i < chunks.length; i++) {
+    if (chunks[i] == null) {continue;}
+
+    int firstWord = i << CHUNK_WORD_SHIFT;
+    System.arraycopy(chunks[i].words(), 0, destination, firstWord, Math.min(Container.CHUNK_WORDS, destination.length - firstWord));
+  }
+}
+
+/**
+ Changes any chunks stored as runs into sorted values or words, whichever is smaller. */
+void expandRuns() {
+  for (int i = 0; i < chunks.length; i++) {
+    if (chunks[i] instanceof RunContainer) {chunks[i] = ((RunContainer) chunks[i]).toMutable();}
+  }
+}
+
+/**
+ Changes each chunk into the smallest form of container for its bits. */
+void optimize() {
+  for (int i = 0; i < chunks.length; i++) {
+    if (chunks[i] != null) {chunks[i] = chunks[i].optimize();}
+  }
+}
+
+@Override
+@NotNull StorageStats.Representation representation() {
+  return StorageStats.Representation.COMPRESSED;
+}
+
+/**
+ @return The approximate amount of bytes used by the containers & the references to them. */
+@Override
+long sizeInBytes() {
+  long bytes = (long) chunks.length * 8;
+  for (Container chunk : chunks) {
+    if (chunk != null) {bytes += chunk.sizeInBytes();}
+  }
+  return bytes;
+}
+
+}
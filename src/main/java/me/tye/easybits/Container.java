@@ -0,0 +1,182 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.PrimitiveIterator;
+
+/**
+ Holds the high bits of one chunk of a {@link CompressedWordStorage}. A chunk is {@value #CHUNK_BITS} bits, & the values in a container are the indexes of the high bits within the chunk.<br>
+ There are three forms, & each chunk uses whichever is smallest for its bits:
+ <ul>
+ <li>{@link ArrayContainer} holds the sorted values, for chunks with few high bits.</li>
+ <li>{@link BitmapContainer} holds all the bits of the chunk as words, for chunks with many scattered high bits.</li>
+ <li>{@link RunContainer} holds the starts & lengths of runs of high bits, for chunks where the high bits are grouped together.</li>
+ </ul>
+ The words of a container use the same layout as a {@link WordStorage}: value n is bit n % 64 of word n / 64. */
+abstract class Container implements Serializable {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -5316282418564590876L;
+
+/**
+ The amount of bits in a chunk. */
+static final int CHUNK_BITS = 1 << 16;
+/**
+ The amount of words in a chunk. */
+static final int CHUNK_WORDS = CHUNK_BITS >>> 6;
+/**
+ The most values an {@link ArrayContainer} holds. Past this, a {@link BitmapContainer} is smaller. */
+static final int ARRAY_MAX = 4096;
+/**
+ The size of a {@link BitmapContainer} in bytes. */
+private static final int BITMAP_BYTES = CHUNK_WORDS * 8;
+/**
+ The words of an empty chunk. Never modified. */
+private static final long[] EMPTY_WORDS = new long[CHUNK_WORDS];
+
+
+/**
+ @return The amount of high bits in the chunk. */
+abstract int cardinality();
+
+/**
+ @return The amount of runs of high bits in the chunk. */
+abstract int runCount();
+
+/**
+ @param value A value between 0 & {@value #CHUNK_BITS} - 1.
+ @return True if the bit at the given value is high. */
+abstract boolean contains(int value);
+
+/**
+ @param wordIndex The index of the word in the chunk.
+ @return The word at the given index. */
+abstract long getWord(int wordIndex);
+
+/**
+ Replaces the word at the given index. This container may be modified, & the result may be a different form of container.
+ @param wordIndex The index of the word in the chunk.
+ @param word      The new value of the word.
+ @return The container holding the result. It's empty if the chunk has no high bits left. */
+abstract @NotNull Container setWord(int wordIndex, long word);
+
+/**
+ @return An iterator over the values in increasing order. */
+abstract @NotNull PrimitiveIterator.OfInt iterator();
+
+/**
+ @return The approximate amount of bytes the values take up. */
+abstract int sizeInBytes();
+
+/**
+ @return A copy of this container that can be modified without affecting this one. */
+abstract @NotNull Container copy();
+
+/**
+ @return The words of the chunk. The array must not be modified, as it may be the array of this container. */
+long[] words() {
+  long[] words = new long[CHUNK_WORDS];
+  for (PrimitiveIterator.OfInt values = iterator(); values.hasNext(); ) {
+    int value = values.nextInt();
+    words[value >>> 6] |= 1L << value;
+  }
+  return words;
+}
+
+/**
+ @param limit A value between 0 & {@value #CHUNK_BITS}.
+ @return The amount of values below the given limit. */
+int countBelow(int limit) {
+  int count = 0;
+  for (PrimitiveIterator.OfInt values = iterator(); values.hasNext() && values.nextInt() < limit; ) {
+    count++;
+  }
+  return count;
+}
+
+/**
+ @param limit A value between 0 & {@value #CHUNK_BITS}.
+ @return This container if it has no values at or above the limit, otherwise a new container without them. */
+@NotNull Container truncate(int limit) {
+  if (limit >= CHUNK_BITS || countBelow(limit) == cardinality()) {return this;}
+
+  long[] words = words().clone();
+  clearFrom(words, limit);
+  return fromWords(words);
+}
+
+/**
+ @return The smallest form of container holding the same values. This container is returned if it's already the smallest. */
+@NotNull Container optimize() {
+  int cardinality = cardinality();
+  int arrayBytes = cardinality <= ARRAY_MAX ? cardinality * 2 : Integer.MAX_VALUE;
+  int runBytes = runCount() * 4;
+
+  if (runBytes < arrayBytes && runBytes < BITMAP_BYTES) {return this instanceof RunContainer ? this : RunContainer.fromIterator(iterator());}
+  if (arrayBytes <= BITMAP_BYTES) {return this instanceof ArrayContainer ? this : ArrayContainer.fromIterator(iterator(), cardinality);}
+  return this instanceof BitmapContainer ? this : new BitmapContainer(words());
+}
+
+
+/**
+ Performs a logic operation on two chunks. Neither container is modified.<br>
+ Chunks that are missing from both sides are skipped without allocating anything, & an {@link ArrayContainer} on either side of an AND
+ is filtered instead of expanded, so operations on sparse bits cost about the amount of high bits rather than the amount of bits.
+ @param operation The operation to perform.
+ @param left      The chunk from the BitHolder the operation was called on, or null if it has no high bits.
+ @param right     The chunk from the operand, or null if it has no high bits.
+ @param limit     The amount of bits of the chunk inside the result. Any result bits at or above this are low.
+ @return The result in its smallest form, or null if it has no high bits. */
+static @Nullable Container logic(@NotNull LogicOperation operation, @Nullable Container left, @Nullable Container right, int limit) {
+  if (left == null && right == null) {
+    switch (operation) {
+      case AND: case OR: case XOR: return null;
+      default: return limit == 0 ? null : RunContainer.range(0, limit);
+    }
+  }
+
+  Container result;
+  if (operation == LogicOperation.AND && (left == null || right == null)) {return null;}
+  else if (operation == LogicOperation.AND && left instanceof ArrayContainer) {result = ((ArrayContainer) left).filter(right, true);}
+  else if (operation == LogicOperation.AND && right instanceof ArrayContainer) {result = ((ArrayContainer) right).filter(left, true);}
+  else if ((operation == LogicOperation.OR || operation == LogicOperation.XOR) && (left == null || right == null)) {
+    result = (left == null ? right : left).copy();
+  }
+  else if ((operation == LogicOperation.OR || operation == LogicOperation.XOR) && left instanceof ArrayContainer && right instanceof ArrayContainer) {
+    result = ((ArrayContainer) left).merge((ArrayContainer) right, operation == LogicOperation.OR);
+  }
+  else {
+    long[] words = (left == null ? EMPTY_WORDS : left.words()).clone();
+    operation.apply(words, right == null ? EMPTY_WORDS : right.words(), CHUNK_WORDS);
+    result = fromWords(words);
+  }
+
+  result = result.truncate(limit);
+  return result.cardinality() == 0 ? null : result.optimize();
+}
+
+/**
+ @param words The words of a chunk. The array is used by the result.
+ @return A {@link BitmapContainer} holding the words. */
+static @NotNull Container fromWords(long[] words) {
+  return new BitmapContainer(words);
+}
+
+/**
+ Sets every bit at or above the given limit in the words of a chunk to low.
+ @param words The words of a chunk.
+ @param limit A value between 0 & {@value #CHUNK_BITS}. */
+static void clearFrom(long[] words, int limit) {
+  int wordIndex = limit >>> 6;
+  if (wordIndex >= CHUNK_WORDS) {return;}
+
+  words[wordIndex] &= ~(-1L << limit);
+  for (int i = wordIndex + 1; i < CHUNK_WORDS; i++) {
+    words[i] = 0;
+  }
+}
+
+}
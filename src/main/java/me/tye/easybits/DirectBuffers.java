@@ -0,0 +1,72 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ Frees the memory behind direct & mapped {@link ByteBuffer}s without waiting for the garbage collector.<br>
+ Java has no public way to do this, so the JDK's own cleaners are called through reflection.
+ On Java 9 & above this uses {@code sun.misc.Unsafe#invokeCleaner}, on Java 8 it uses the cleaner of the buffer.
+ If neither can be reached, the memory is left for the garbage collector to free as normal. */
+final class DirectBuffers {
+
+/**
+ The {@code sun.misc.Unsafe} instance, or null if {@link #INVOKE_CLEANER} isn't available. */
+private static final @Nullable Object UNSAFE;
+/**
+ The {@code invokeCleaner(ByteBuffer)} method of {@code sun.misc.Unsafe}, or null on Java 8. */
+private static final @Nullable Method INVOKE_CLEANER;
+
+static {
+  Object unsafe = null;
+  Method invokeCleaner = null;
+
+  try {
+    Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+    invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+    Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+    theUnsafe.setAccessible(true);
+    unsafe = theUnsafe.get(null);
+  } catch (ReflectiveOperationException | RuntimeException ignored) {
+    invokeCleaner = null; // Falls back to the Java 8 cleaner.
+  }
+
+  UNSAFE = unsafe;
+  INVOKE_CLEANER = invokeCleaner;
+}
+
+
+/**
+ This class is a Utility class & not meant to be instantiated. */
+private DirectBuffers() {}
+
+
+/**
+ Frees the memory of the given buffer. The buffer must not be used after this, or by any of its slices or duplicates.<br>
+ Heap buffers, slices & duplicates are ignored, as they don't own their memory.
+ @param buffer The buffer to free. */
+static void release(@NotNull ByteBuffer buffer) {
+  if (!buffer.isDirect()) {return;}
+
+  try {
+    if (INVOKE_CLEANER != null) {
+      INVOKE_CLEANER.invoke(UNSAFE, buffer);
+      return;
+    }
+
+    Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+    cleanerMethod.setAccessible(true);
+    Object cleaner = cleanerMethod.invoke(buffer);
+    // Slices & duplicates have no cleaner.
+    if (cleaner != null) {cleaner.getClass().getMethod("clean").invoke(cleaner);}
+  } catch (ReflectiveOperationException | RuntimeException ignored) {
+    // The memory is freed by the garbage collector once the buffer is unreachable instead.
+  }
+}
+
+}
@@ -0,0 +1,192 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import static me.tye.easybits.ErrorMessages.closedBitHolder;
+
+/**
+ Stores the words of a {@link BitHolder} in direct memory, outside the garbage collected heap.<br>
+ The words are little endian, so byte n of the memory holds the bits from index n * 8, with the lowest index in the least significant bit.<br>
+ The memory is either allocated for this storage alone or taken from a {@link BitArena}. Once closed, any access throws an {@link IllegalStateException}. */
+final class DirectWordStorage extends WordStorage {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -3328215784911542907L;
+
+/**
+ The arena the memory is taken from, or null if the memory is owned by this storage. */
+private final transient @Nullable BitArena arena;
+/**
+ The memory holding the words, or null once closed. */
+private transient @Nullable ByteBuffer buffer;
+/**
+ A view of the buffer as words, or null once closed. */
+private transient @Nullable LongBuffer words;
+
+
+/**
+ Creates a new storage that can hold at least the given amount of bits without growing.
+ @param bitCapacity The amount of bits to allocate space for.
+ @param arena       The arena to take the memory from, or null to allocate the memory for this storage alone.
+ @throws IllegalStateException If the arena has been closed. */
+DirectWordStorage(int bitCapacity, @Nullable BitArena arena) throws IllegalStateException {
+  this.arena = arena;
+  setBuffer(allocate(wordsFor(bitCapacity)));
+  if (arena != null) {arena.register(this);}
+}
+
+
+@Override
+long getWord(int wordIndex) {
+  return words().get(wordIndex);
+}
+
+@Override
+void setWord(int wordIndex, long word) {
+  checkMutable();
+  words().put(wordIndex, word);
+}
+
+@Override
+void prepareWrite() throws UnsupportedOperationException {
+  words(); // Fails before any of the parallel writes if the storage was closed.
+  checkMutable();
+}
+
+@Override
+void getWords(int wordIndex, @NotNull long[] destination, int offset, int length) {
+  LongBuffer words = words();
+  for (int i = 0; i < length; i++) {
+    destination[offset + i] = words.get(wordIndex + i);
+  }
+}
+
+@Override
+void setWords(int wordIndex, @NotNull long[] source, int offset, int length) {
+  checkMutable();
+
+  LongBuffer words = words();
+  for (int i = 0; i < length; i++) {
+    words.put(wordIndex + i, source[offset + i]);
+  }
+}
+
+@Override
+int wordCapacity() {
+  return words().capacity();
+}
+
+@Override
+void ensureCapacity(int bitCapacity) {
+  LongBuffer oldWords = words();
+  int required = wordsFor(bitCapacity);
+  if (required <= oldWords.capacity()) {return;}
+  checkMutable();
+
+  // Grows by at least double to keep repeated appends amortized.
+  int newLength = (int) Math.min(Integer.MAX_VALUE >>> 3, Math.max((long) oldWords.capacity() * 2, required));
+  ByteBuffer oldBuffer = buffer;
+  setBuffer(allocate(newLength));
+
+  LongBuffer newWords = words();
+  for (int i = 0; i < oldWords.capacity(); i++) {
+    newWords.put(i, oldWords.get(i));
+  }
+
+  // Memory from an arena is only freed when the arena is closed.
+  if (arena == null && oldBuffer != null) {DirectBuffers.release(oldBuffer);}
+}
+
+@Override
+@NotNull StorageStats.Representation representation() {
+  return StorageStats.Representation.OFF_HEAP;
+}
+
+@Override
+long sizeInBytes() {
+  return buffer().capacity();
+}
+
+/**
+ Direct memory isn't shared between storages, so the snapshot is a copy of the words on the heap. */
+@Override
+@NotNull WordStorage snapshot() {
+  return copy(wordCapacity());
+}
+
+
+/**
+ @return The memory holding the words. Its position is 0 & its limit is the capacity of this storage.
+ @throws IllegalStateException If the storage has been closed. */
+@NotNull ByteBuffer buffer() throws IllegalStateException {
+  ByteBuffer buffer = this.buffer;
+  if (buffer == null) {throw new IllegalStateException(closedBitHolder());}
+  return buffer;
+}
+
+/**
+ @return True if the storage has been closed. */
+boolean isClosed() {
+  return words == null;
+}
+
+/**
+ Frees the memory if it's owned by this storage, or hands it back to the arena. Closing a closed storage does nothing. */
+void close() {
+  ByteBuffer oldBuffer = buffer;
+  if (oldBuffer == null) {return;}
+
+  detach();
+  if (arena == null) {DirectBuffers.release(oldBuffer);}
+  else {arena.unregister(this);}
+}
+
+/**
+ Stops this storage from using its memory without freeing it. Called by the arena when it frees all of its memory. */
+void detach() {
+  buffer = null;
+  words = null;
+}
+
+
+/**
+ @param wordCount The amount of words to allocate.
+ @return Zeroed memory for the given amount of words.
+ @throws IllegalStateException If the arena has been closed. */
+private @NotNull ByteBuffer allocate(int wordCount) throws IllegalStateException {
+  if (arena != null) {return arena.allocate(wordCount << 3);}
+  return ByteBuffer.allocateDirect(wordCount << 3);
+}
+
+/**
+ @param buffer The new memory holding the words. */
+private void setBuffer(@NotNull ByteBuffer buffer) {
+  this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+  this.words = this.buffer.asLongBuffer();
+}
+
+/**
+ @return The view of the memory as words.
+ @throws IllegalStateException If the storage has been closed. */
+private @NotNull LongBuffer words() throws IllegalStateException {
+  LongBuffer words = this.words;
+  if (words == null) {throw new IllegalStateException(closedBitHolder());}
+  return words;
+}
+
+/**
+ The memory can't be serialized, so a copy of the words on the heap is written instead.
+ @return The storage to serialize in place of this one. */
+private Object writeReplace() {
+  WordStorage copy = copy(wordCapacity());
+  if (isImmutable()) {copy.makeImmutable();}
+  return copy;
+}
+
+}
@@ -0,0 +1,47 @@
+package me.tye.easybits;
+
+import static me.tye.easybits.ErrorMessages.amountBellowZero;
+import static me.tye.easybits.ErrorMessages.notMultipleOf;
+
+/**
+ Describes how the bits are laid out when a {@link BitHolder} is written as a binary or hex dump.<br>
+ Sizes are given in bits, so a hex dump with a group size of 16 has 4 hex characters in each group. */
+public final class DumpFormat {
+
+/**
+ Separates each byte with a space, on a single line. This is the same format as {@link BitHolder#toString()} & {@link BitHolder#toHexString()}. */
+public static final DumpFormat BYTES = new DumpFormat(8, 0, false);
+/**
+ Separates each 32 bits with a space, on a single line. */
+public static final DumpFormat WORDS = new DumpFormat(32, 0, false);
+/**
+ Lays the bits out like the "xxd" tool. Each line holds 16 bytes in groups of 2 bytes & starts with the byte offset of the line. */
+public static final DumpFormat XXD = new DumpFormat(16, 128, true);
+
+/**
+ The amount of bits in each group. Groups are separated by a space. If this is 0 the bits aren't grouped. */
+public final int groupSize;
+/**
+ The amount of bits on each line. Every line ends with a line break. If this is 0 all the bits are written on a single line without a line break. */
+public final int lineSize;
+/**
+ True if each line starts with the offset of its first bit in bytes, written as 8 hex characters followed by ": ". */
+public final boolean offsets;
+
+/**
+ Creates a new format for writing dumps.
+ @param groupSize The amount of bits in each group. If this is 0 the bits aren't grouped.
+ @param lineSize  The amount of bits on each line. If this is 0 all the bits are written on a single line.
+ @param offsets   True if each line should start with its offset in bytes.
+ @throws IllegalArgumentException If either size is negative or if offsets are enabled & the line size isn't a multiple of 8. */
+public DumpFormat(int groupSize, int lineSize, boolean offsets) throws IllegalArgumentException {
+  if (groupSize < 0) {throw new IllegalArgumentException(amountBellowZero(groupSize));}
+  if (lineSize < 0) {throw new IllegalArgumentException(amountBellowZero(lineSize));}
+  if (offsets && lineSize % 8 != 0) {throw new IllegalArgumentException(notMultipleOf(8, lineSize));}
+
+  this.groupSize = groupSize;
+  this.lineSize = lineSize;
+  this.offsets = offsets;
+}
+
+}
@@ -0,0 +1,161 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import static me.tye.easybits.ErrorMessages.notMultipleOf;
+
+/**
+ Writes binary & hex dumps of a {@link BitHolder} in chunks.<br>
+ The characters are collected in a fixed size buffer that is flushed to the output whenever it's full, so the memory used doesn't depend on the size of the BitHolder. */
+class DumpWriter {
+
+/**
+ The amount of characters that are buffered before they're written to the output. */
+private static final int BUFFER_SIZE = 8192;
+
+/**
+ The output when writing characters. Null when writing to an {@link OutputStream}. */
+private final @Nullable Appendable appendable;
+/**
+ The output when writing bytes. Null when writing to an {@link Appendable}. */
+private final @Nullable OutputStream outputStream;
+
+private final char[] buffer = new char[BUFFER_SIZE];
+/**
+ A view of the buffer, used to append it to an {@link Appendable}. */
+private final CharBuffer bufferView = CharBuffer.wrap(buffer);
+/**
+ Holds the buffered characters as ASCII bytes when writing to an {@link OutputStream}. */
+private final @Nullable byte[] byteBuffer;
+private int buffered = 0;
+
+/**
+ @param appendable The output to write the dump characters to. */
+DumpWriter(@NotNull Appendable appendable) {
+  this.appendable = appendable;
+  this.outputStream = null;
+  this.byteBuffer = null;
+}
+
+/**
+ @param outputStream The output to write the dump to. Each character is written as a single ASCII byte. */
+DumpWriter(@NotNull OutputStream outputStream) {
+  this.appendable = null;
+  this.outputStream = outputStream;
+  this.byteBuffer = new byte[BUFFER_SIZE];
+}
+
+
+/**
+ Writes the bits as "1"s & "0"s.
+ @param bits   The bits to write.
+ @param format The layout of the dump.
+ @throws IOException If the output couldn't be written to. */
+void writeBinary(@NotNull BitHolder bits, @NotNull DumpFormat format) throws IOException {
+  write(bits, format, 1);
+}
+
+/**
+ Writes the bits as hex characters. If the size of the BitHolder isn't a multiple of 4 the last character is padded with low bits.
+ @param bits   The bits to write.
+ @param format The layout of the dump.
+ @throws IllegalArgumentException If the group or line size of the format isn't a multiple of 4.
+ @throws IOException              If the output couldn't be written to. */
+void writeHex(@NotNull BitHolder bits, @NotNull DumpFormat format) throws IllegalArgumentException, IOException {
+  if (format.groupSize % 4 != 0) {throw new IllegalArgumentException(notMultipleOf(4, format.groupSize));}
+  if (format.lineSize % 4 != 0) {throw new IllegalArgumentException(notMultipleOf(4, format.lineSize));}
+
+  write(bits, format, 4);
+}
+
+/**
+ Writes the bits, one character for each unit of bits.
+ @param bits     The bits to write.
+ @param format   The layout of the dump.
+ @param unitSize The amount of bits each character represents. Either 1 for binary or 4 for hex.
+ @throws IOException If the output couldn't be written to. */
+private void write(@NotNull BitHolder bits, @NotNull DumpFormat format, int unitSize) throws IOException {
+  int size = bits.size();
+
+  for (int index = 0; index < size; index += 64) {
+    int bitLength = Math.min(64, size - index);
+    long chunk = bits.getBits(index, bitLength) << (64 - bitLength); // Moves the bits to the top of the long so any padding bits are low.
+
+    for (int offset = 0; offset < bitLength; offset += unitSize) {
+      writeSeparator(index + offset, format);
+
+      if (unitSize == 1) {
+        put(chunk < 0 ? '1' : '0');
+      }
+      else {
+        put(Hex.nibbleToHex((int) (chunk >>> 60)));
+      }
+
+      chunk <<= unitSize;
+    }
+  }
+
+  if (format.lineSize > 0 && size > 0) {put('\n');}
+  flush();
+}
+
+/**
+ Writes whatever should come before the character for the bit at the given index.
+ @param index  The index of the bit.
+ @param format The layout of the dump. */
+private void writeSeparator(int index, @NotNull DumpFormat format) throws IOException {
+  boolean lineStart = index == 0 || (format.lineSize > 0 && index % format.lineSize == 0);
+
+  if (!lineStart) {
+    if (format.groupSize > 0 && index % format.groupSize == 0) {put(' ');}
+    return;
+  }
+
+  if (index != 0) {put('\n');}
+
+  if (format.offsets) {
+    int byteOffset = index >>> 3;
+    for (int shift = 28; shift >= 0; shift -= 4) {
+      put(Hex.nibbleToHex(byteOffset >>> shift));
+    }
+    put(':');
+    put(' ');
+  }
+}
+
+/**
+ Adds a character to the buffer, writing the buffer to the output if it's full.
+ @param character The character to add. */
+private void put(char character) throws IOException {
+  if (buffered == buffer.length) {flush();}
+  buffer[buffered++] = character;
+}
+
+/**
+ Writes the buffered characters to the output. */
+private void flush() throws IOException {
+  if (buffered == 0) {return;}
+
+  if (outputStream != null && byteBuffer != null) {
+    for (int i = 0; i < buffered; i++) {
+      byteBuffer[i] = (byte) buffer[i];
+    }
+    outputStream.write(byteBuffer, 0, buffered);
+  }
+  else if (appendable instanceof Writer) {
+    ((Writer) appendable).write(buffer, 0, buffered);
+  }
+  else if (appendable != null) {
+    appendable.append(bufferView, 0, buffered);
+  }
+
+  buffered = 0;
+}
+
+}
@@ -1,9 +1,11 @@
 package me.tye.easybits;
 
-import java.util.Arrays;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- This class contains the error messages for the easy bits software. */
+ This class contains the error messages for the easy bits software, & the argument checks that are shared between its classes. */
 public class ErrorMessages {
 
 /**
@@ -19,6 +21,14 @@ protected static String amountLargerThanIndexed(int largestIndexed, Object actua
   return "Amount > " + largestIndexed + ". Amount was: " + actualValue;
 }
 
+protected static String bitLengthOutOfRange(int bitLength) {
+  return "Expected a bit length between 0 & 64. Bit length was: " + bitLength;
+}
+
+protected static String notMultipleOf(int multiple, Object actualValue) {
+  return "Expected a multiple of " + multiple + ". Value was: " + actualValue;
+}
+
 protected static String notPrimitive(String clazzName) {
   return clazzName + " isn't a primitive class";
 }
@@ -31,15 +41,46 @@ protected static String isNull() {
   return "Value == null";
 }
 
-protected static String containedInvalidBinaryChars(char invalidChar) {
-  return "Expected \"1\" or \"0\". Got: \"" + invalidChar + "\"";
+/**
+ @param object The argument to check.
+ @return The given argument.
+ @throws NullPointerException If the given argument is null. */
+@Contract (value="null -> fail; !null -> param1")
+static <T> @NotNull T nullCheck(@Nullable T object) throws NullPointerException {
+  if (object == null) {throw new NullPointerException(isNull());}
+  return object;
+}
+
+/**
+ @param size The starting size of a BitHolder.
+ @return The given size.
+ @throws IllegalArgumentException If the given size is negative. */
+static int sizeCheck(int size) throws IllegalArgumentException {
+  if (size < 0) {throw new IllegalArgumentException(amountBellowZero(size));}
+  return size;
 }
 
+protected static String immutableBitHolder() {
+  return "The BitHolder is immutable";
+}
+
+protected static String closedBitHolder() {
+  return "The BitHolder has been closed";
+}
+
+protected static String closedArena() {
+  return "The BitArena has been closed";
+}
 
-protected static String expectedNibbleValue(boolean[] nibbleValue) {
-  return "Expected boolean array of length four. Actual length: " + nibbleValue.length + ". Array value: " + Arrays.toString(nibbleValue);
+protected static String notBitHolderFile(Object file) {
+  return "The file doesn't hold a BitHolder. File was: " + file;
 }
 
+protected static String containedInvalidBinaryChars(char invalidChar) {
+  return "Expected \"1\" or \"0\". Got: \"" + invalidChar + "\"";
+}
+
+
 protected static String expectedHexValue(char charValue) {
   return "Expected hex char. Any of \"1, 2, 3, 4, 5, 6, 7, 8, 9, A, B, C, D, E, F\". Instead got: " + charValue;
 }
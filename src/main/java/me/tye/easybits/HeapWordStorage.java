@@ -0,0 +1,347 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+import static me.tye.easybits.StorageStats.Representation.*;
+
+/**
+ Stores the words of a {@link BitHolder} on the heap, changing how they're held as the density of the bits changes.<br>
+ Storages of at least {@value #ADAPTIVE_MIN_WORDS} words are held as one of:
+ <ul>
+ <li>{@link StorageStats.Representation#DENSE} - every word in a long array.</li>
+ <li>{@link StorageStats.Representation#SPARSE} - only the chunks with high bits, as the indexes of their high bits or as words if they have many.</li>
+ <li>{@link StorageStats.Representation#RUNS} - the same as sparse, but with chunks whose high bits are grouped together held as runs.</li>
+ </ul>
+ Every so often after being written to, the size of each representation is estimated & the storage switches if another one is much smaller.
+ A representation has to be a lot smaller to switch to than to stay in, so bits that hover around a threshold don't switch back & forth.<br>
+ Snapshots share the words between two storages until either of them is written to, at which point the written storage copies them. */
+class HeapWordStorage extends WordStorage {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -2713590402167781526L;
+
+/**
+ The amount of words a storage needs before it's held as anything other than dense words. Smaller storages fit into a single chunk, so there's little to save. */
+static final int ADAPTIVE_MIN_WORDS = Container.CHUNK_WORDS;
+/**
+ The least amount of writes between estimating the size of each representation. */
+private static final int MIN_CHECK_WRITES = 1 << 10;
+/**
+ Dense words are only compressed once the compressed chunks would be smaller than this fraction of them. */
+private static final int COMPRESS_DIVISOR = 4;
+/**
+ Compressed chunks are only expanded into dense words once they're bigger than this fraction of the dense words. */
+private static final int EXPAND_DIVISOR = 2;
+
+/**
+ The words that hold the bits while they're dense, otherwise null. */
+private @Nullable long[] words;
+/**
+ The chunks that hold the bits while they're sparse or in runs, otherwise null. */
+private @Nullable CompressedWordStorage chunks;
+/**
+ The current way the words are held. */
+private @NotNull StorageStats.Representation representation;
+/**
+ True if the words might be shared with another storage, in which case they are copied before they are next written to. */
+private boolean copyOnWrite = false;
+/**
+ The amount of times the representation has changed. */
+private int switches = 0;
+
+/**
+ The amount of words written since the storage was created. */
+private transient long writes = 0;
+/**
+ The amount of writes at which the representation will next be checked. */
+private transient long nextCheck = 0;
+/**
+ True while the words are being written to by more than one thread, during which the representation can't change. */
+private transient boolean parallelWriting = false;
+
+
+/**
+ Creates a new storage that holds the given amount of bits as dense words.
+ @param bitCapacity The amount of bits to allocate space for. */
+HeapWordStorage(int bitCapacity) {
+  this(new long[wordsFor(bitCapacity)]);
+}
+
+/**
+ Creates a new storage that uses the given words directly, without copying them.
+ @param words The words that hold the bits. */
+HeapWordStorage(@NotNull long[] words) {
+  this(words, null, DENSE);
+}
+
+/**
+ @param words          The dense words, or null if the bits are held by the chunks.
+ @param chunks         The chunks, or null if the bits are held by the words.
+ @param representation The way the words are held. */
+private HeapWordStorage(@Nullable long[] words, @Nullable CompressedWordStorage chunks, @NotNull StorageStats.Representation representation) {
+  this.words = words;
+  this.chunks = chunks;
+  this.representation = representation;
+  scheduleCheck();
+}
+
+/**
+ @param bitCapacity The amount of bits to allocate space for.
+ @return A new storage with all the bits low. Storages big enough to switch representation start sparse, as they have no high bits. */
+static @NotNull HeapWordStorage empty(int bitCapacity) {
+  if (wordsFor(bitCapacity) < ADAPTIVE_MIN_WORDS) {return new HeapWordStorage(bitCapacity);}
+  return new HeapWordStorage(null, new CompressedWordStorage(bitCapacity), SPARSE);
+}
+
+
+@Override
+long getWord(int wordIndex) {
+  return words != null ? words[wordIndex] : chunks.getWord(wordIndex);
+}
+
+@Override
+void setWord(int wordIndex, long word) {
+  if (copyOnWrite) {unshare();}
+  checkMutable();
+
+  if (words != null) {words[wordIndex] = word;}
+  else {chunks.setWord(wordIndex, word);}
+
+  if (!parallelWriting && ++writes >= nextCheck) {checkRepresentation();}
+}
+
+@Override
+void prepareWrite() throws UnsupportedOperationException {
+  if (copyOnWrite) {unshare();}
+  checkMutable();
+}
+
+/**
+ Only dense words can be written to from more than one thread, as writing to a chunk can change its form. */
+@Override
+boolean parallelWrites() {
+  return words != null;
+}
+
+@Override
+void beginParallelWrites() {
+  parallelWriting = true;
+}
+
+/**
+ The writes aren't counted while they're happening, so they're counted as a write to every word once they're done. */
+@Override
+void endParallelWrites() {
+  parallelWriting = false;
+
+  writes += wordCapacity();
+  if (writes >= nextCheck) {checkRepresentation();}
+}
+
+@Override
+void getWords(int wordIndex, @NotNull long[] destination, int offset, int length) {
+  if (words != null) {System.arraycopy(words, wordIndex, destination, offset, length);}
+  else {chunks.getWords(wordIndex, destination, offset, length);}
+}
+
+@Override
+void setWords(int wordIndex, @NotNull long[] source, int offset, int length) {
+  if (copyOnWrite) {unshare();}
+  checkMutable();
+
+  if (words != null) {System.arraycopy(source, offset, words, wordIndex, length);}
+  else {chunks.setWords(wordIndex, source, offset, length);}
+
+  writes += length;
+  if (!parallelWriting && writes >= nextCheck) {checkRepresentation();}
+}
+
+@Override
+int wordCapacity() {
+  return words != null ? words.length : chunks.wordCapacity();
+}
+
+@Override
+void ensureCapacity(int bitCapacity) {
+  int required = wordsFor(bitCapacity);
+  if (required <= wordCapacity()) {return;}
+  checkMutable();
+
+  if (words != null) {
+    // Grows by at least double to keep repeated appends amortized.
+    int newLength = (int) Math.min(Integer.MAX_VALUE, Math.max((long) words.length * 2, required));
+    words = Arrays.copyOf(words, newLength);
+    copyOnWrite = false; // The grown words are a copy, so they're no longer shared.
+  }
+  else {
+    if (copyOnWrite) {unshare();}
+    chunks.ensureCapacity(bitCapacity);
+  }
+
+  // A storage that was too small to switch representation might not be anymore.
+  if (nextCheck == Long.MAX_VALUE) {scheduleCheck();}
+}
+
+/**
+ Compressed words stay compressed in the copy, unless the copy is too small to switch representation. */
+@Override
+@NotNull WordStorage copy(int wordCount) {
+  if (words != null) {return new HeapWordStorage(Arrays.copyOf(words, wordCount));}
+  if (wordCount < ADAPTIVE_MIN_WORDS) {return super.copy(wordCount);}
+
+  return new HeapWordStorage(null, chunks.copyChunks(wordCount), representation);
+}
+
+@Override
+@NotNull WordStorage snapshot() {
+  copyOnWrite = true;
+
+  HeapWordStorage snapshot = new HeapWordStorage(words, chunks, representation);
+  snapshot.copyOnWrite = true;
+  return snapshot;
+}
+
+@Override
+@NotNull StorageStats.Representation representation() {
+  return representation;
+}
+
+@Override
+long sizeInBytes() {
+  return words != null ? (long) words.length * 8 : chunks.sizeInBytes();
+}
+
+@Override
+int representationSwitches() {
+  return switches;
+}
+
+
+/**
+ Copies the words so they are no longer shared with a snapshot. */
+private void unshare() {
+  if (words != null) {words = words.clone();}
+  else {chunks = chunks.copyChunks();}
+  copyOnWrite = false;
+}
+
+/**
+ Sets when the representation will next be checked. Checking costs about as much as reading every word of the current representation,
+ so it waits for about as many writes as there are words, which keeps the cost of each write constant. */
+private void scheduleCheck() {
+  if (wordCapacity() < ADAPTIVE_MIN_WORDS) {
+    nextCheck = Long.MAX_VALUE;
+    return;
+  }
+
+  nextCheck = writes + Math.max(MIN_CHECK_WRITES, sizeInBytes() / 8);
+}
+
+/**
+ Estimates the size of each representation & switches to another one if the current one is too big compared to it. */
+private void checkRepresentation() {
+  if (parallelWriting || isImmutable()) {return;}
+
+  long[] estimates = estimateCompressed();
+  long sparse = estimates[0];
+  long runs = estimates[1];
+  long dense = (long) wordCapacity() * 8;
+  // The chunks are only worth compressing as runs if that's a lot smaller than compressing them without runs.
+  StorageStats.Representation compressed = runs * 2 < sparse ? RUNS : SPARSE;
+
+  if (representation == DENSE) {
+    if (Math.min(sparse, runs) * COMPRESS_DIVISOR < dense) {switchTo(compressed);}
+  }
+  else if (Math.min(sparse, runs) * EXPAND_DIVISOR > dense) {
+    switchTo(DENSE);
+  }
+  else if (representation == SPARSE && compressed == RUNS) {
+    switchTo(RUNS);
+  }
+  // Runs are kept until they save less than a quarter, so chunks near the threshold don't switch back & forth.
+  else if (representation == RUNS && runs * 4 > sparse * 3) {
+    switchTo(SPARSE);
+  }
+  else if (representation == RUNS) {
+    // Writing to a run turns it back into values or words, so the written chunks are turned back into runs.
+    chunks.optimize();
+  }
+
+  scheduleCheck();
+}
+
+/**
+ Changes the way the words are held.
+ @param newRepresentation The new way to hold the words. */
+private void switchTo(@NotNull StorageStats.Representation newRepresentation) {
+  if (copyOnWrite) {unshare();}
+
+  if (newRepresentation == DENSE) {
+    long[] dense = new long[chunks.wordCapacity()];
+    chunks.toWords(dense);
+    words = dense;
+    chunks = null;
+  }
+  else {
+    if (chunks == null) {
+      chunks = CompressedWordStorage.fromWords(words, words.length);
+      words = null;
+    }
+
+    if (newRepresentation == RUNS) {chunks.optimize();}
+    else {chunks.expandRuns();}
+  }
+
+  representation = newRepresentation;
+  switches++;
+}
+
+/**
+ Estimates the amount of bytes the bits would take up if they were compressed, including the references to the chunks.
+ @return The estimate without runs at index 0, & with runs at index 1. */
+private @NotNull long[] estimateCompressed() {
+  int chunkCount = CompressedWordStorage.chunksFor(wordCapacity());
+  long sparse = (long) chunkCount * 8;
+  long runs = sparse;
+
+  for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+    int cardinality;
+    int runCount;
+
+    if (words != null) {
+      cardinality = 0;
+      runCount = 0;
+      long carry = 0; // The highest bit of the previous word, so runs that cross words are only counted once.
+
+      int end = Math.min(words.length, (chunkIndex + 1) * Container.CHUNK_WORDS);
+      for (int i = chunkIndex * Container.CHUNK_WORDS; i < end; i++) {
+        long word = words[i];
+        cardinality += Long.bitCount(word);
+        runCount += Long.bitCount(word & ~((word << 1) | carry));
+        carry = word >>> 63;
+      }
+    }
+    else {
+      Container chunk = chunks.chunk(chunkIndex);
+      if (chunk == null) {continue;}
+
+      cardinality = chunk.cardinality();
+      runCount = chunk.runCount();
+    }
+
+    if (cardinality == 0) {continue;}
+
+    // The same sizes the containers report: 2 bytes a value, 4 bytes a run, or the words of the whole chunk.
+    long withoutRuns = Math.min(cardinality * 2L, Container.CHUNK_WORDS * 8L);
+    sparse += withoutRuns;
+    runs += Math.min(runCount * 4L, withoutRuns);
+  }
+
+  return new long[] {sparse, runs};
+}
+
+}
@@ -0,0 +1,13 @@
+package me.tye.easybits;
+
+/**
+ Accepts the index & the value of a bit, without boxing either of them. */
+@FunctionalInterface
+public interface IntBooleanConsumer {
+
+/**
+ @param index The index of the bit.
+ @param bit   The value of the bit. */
+void accept(int index, boolean bit);
+
+}
@@ -0,0 +1,48 @@
+package me.tye.easybits;
+
+/**
+ The two input logic operations that can be performed on the words of a {@link BitHolder}. */
+enum LogicOperation {
+AND,
+NAND,
+OR,
+NOR,
+XOR,
+XNOR;
+
+/**
+ Performs this logic operation on two words.
+ @param left  The word from the BitHolder the operation was called on.
+ @param right The word from the operand.
+ @return The result of the operation. */
+long apply(long left, long right) {
+  switch (this) {
+    case AND: return left & right;
+    case NAND: return ~(left & right);
+    case OR: return left | right;
+    case NOR: return ~(left | right);
+    case XOR: return left ^ right;
+    case XNOR: return ~(left ^ right);
+    default: throw new AssertionError(this);
+  }
+}
+
+/**
+ Performs this logic operation on two arrays of words, writing the result into the left array.<br>
+ The operation is chosen once outside the loop, so each loop only does a single word operation.
+ @param left  The words from the BitHolder the operation was called on. These are replaced with the result.
+ @param right The words from the operand.
+ @param count The amount of words to perform the operation on. */
+void apply(long[] left, long[] right, int count) {
+  switch (this) {
+    case AND: for (int i = 0; i < count; i++) {left[i] &= right[i];} break;
+    case NAND: for (int i = 0; i < count; i++) {left[i] = ~(left[i] & right[i]);} break;
+    case OR: for (int i = 0; i < count; i++) {left[i] |= right[i];} break;
+    case NOR: for (int i = 0; i < count; i++) {left[i] = ~(left[i] | right[i]);} break;
+    case XOR: for (int i = 0; i < count; i++) {left[i] ^= right[i];} break;
+    case XNOR: for (int i = 0; i < count; i++) {left[i] = ~(left[i] ^ right[i]);} break;
+    default: throw new AssertionError(this);
+  }
+}
+
+}
@@ -0,0 +1,140 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A {@link BitHolder} that keeps its bits in a file mapped into memory, so it can be bigger than the heap & persists between runs.<br>
+ Opening a file only maps it, so it's close to instant no matter how big the file is. The OS loads the pages of the file as they're read.<br>
+ A file can be opened read only, in which case any method that would modify the BitHolder throws an {@link UnsupportedOperationException},
+ or read write, in which case changes are written to the file by the OS. Use {@link #force()} to make sure the changes have reached the disk.<br>
+ The file should be closed with {@link #close()} once the BitHolder is no longer needed, after which any use of the BitHolder throws an {@link IllegalStateException}.<br>
+ Methods that return a new BitHolder, such as {@link #AND(BitHolder)} or {@link #subBits(int, int)}, return a BitHolder on the heap.
+ Use the forms that take a destination, such as {@link #AND(BitHolder, BitHolder)}, to write the result into a file.<br>
+ Snapshots & serialized copies of a mapped BitHolder are also on the heap. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class MappedBitHolder extends BitHolder implements Closeable {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -4475542542113390532L;
+
+/**
+ Each mapped region holds 2 to the power of this many words, which is 16 MB. */
+static final int DEFAULT_REGION_SHIFT = 21;
+
+
+/**
+ @param storage The mapped storage holding the bits. */
+private MappedBitHolder(@NotNull MappedWordStorage storage) {
+  super(storage, storage.readSize());
+}
+
+/**
+ Creates a new file holding a BitHolder of the given size, replacing the file if it already exists. The file is opened read write.<br>
+ The bits will be initialized to 0.
+ @param file         The file to create.
+ @param startingSize The starting size of the BitHolder.
+ @return The BitHolder backed by the file.
+ @throws NullPointerException     If the file is null.
+ @throws IllegalArgumentException If the starting size is negative.
+ @throws IOException              If the file couldn't be created or mapped. */
+public static @NotNull MappedBitHolder create(@NotNull Path file, int startingSize) throws NullPointerException, IllegalArgumentException, IOException {
+  return create(file, startingSize, DEFAULT_REGION_SHIFT);
+}
+
+/**
+ Opens a file created by {@link #create(Path, int)} for reading & writing.
+ @param file The file to open.
+ @return The BitHolder backed by the file.
+ @throws NullPointerException If the file is null.
+ @throws IOException          If the file couldn't be opened or mapped, or if it doesn't hold a BitHolder. */
+public static @NotNull MappedBitHolder open(@NotNull Path file) throws NullPointerException, IOException {
+  return open(file, true, DEFAULT_REGION_SHIFT);
+}
+
+/**
+ Opens a file created by {@link #create(Path, int)} for reading only.
+ @param file The file to open.
+ @return The BitHolder backed by the file.
+ @throws NullPointerException If the file is null.
+ @throws IOException          If the file couldn't be opened or mapped, or if it doesn't hold a BitHolder. */
+public static @NotNull MappedBitHolder openReadOnly(@NotNull Path file) throws NullPointerException, IOException {
+  return open(file, false, DEFAULT_REGION_SHIFT);
+}
+
+/**
+ Creates a new file holding a BitHolder of the given size, split into regions of the given size.
+ @param regionShift Each mapped region holds 2 to the power of this many words.
+ @see #create(Path, int) */
+static @NotNull MappedBitHolder create(@NotNull Path file, int startingSize, int regionShift) throws NullPointerException, IllegalArgumentException, IOException {
+  nullCheck(file);
+  if (startingSize < 0) {throw new IllegalArgumentException(amountBellowZero(startingSize));}
+
+  MappedBitHolder bits = new MappedBitHolder(new MappedWordStorage(file, true, true, regionShift));
+  bits.setSize(startingSize);
+  return bits;
+}
+
+/**
+ Opens a file created by {@link #create(Path, int)}, split into regions of the given size.
+ @param writable    True to open the file for reading & writing, false to open it for reading only.
+ @param regionShift Each mapped region holds 2 to the power of this many words.
+ @see #open(Path) */
+static @NotNull MappedBitHolder open(@NotNull Path file, boolean writable, int regionShift) throws NullPointerException, IOException {
+  nullCheck(file);
+  return new MappedBitHolder(new MappedWordStorage(file, writable, false, regionShift));
+}
+
+
+/**
+ Makes sure any changes to the bits have been written to the disk. Does nothing if the file was opened read only.
+ @throws IllegalStateException If this BitHolder has been closed. */
+public void force() throws IllegalStateException {
+  mappedStorage().force();
+}
+
+/**
+ @return True if this BitHolder has been closed. */
+public boolean isClosed() {
+  return mappedStorage().isClosed();
+}
+
+/**
+ Unmaps & closes the file. If the file was opened read write, any space past the size of the BitHolder is trimmed from it.
+ Closing a closed BitHolder does nothing.<br>
+ Shallow clones of this BitHolder share its file, so they are closed as well.
+ @throws IOException If the file couldn't be closed. */
+@Override
+public void close() throws IOException {
+  mappedStorage().close();
+}
+
+
+/**
+ Also stores the new size in the file, so it's kept when the file is next opened. */
+@Override
+void setSize(int newSize) throws IllegalArgumentException {
+  super.setSize(newSize);
+  mappedStorage().writeSize(newSize);
+}
+
+/**
+ @return The storage holding the bits. */
+private @NotNull MappedWordStorage mappedStorage() {
+  return (MappedWordStorage) storage();
+}
+
+/**
+ The file can't be serialized, so a copy of the bits on the heap is written instead.
+ @return The BitHolder to serialize in place of this one. */
+private Object writeReplace() {
+  return new BitHolder(this, true);
+}
+
+}
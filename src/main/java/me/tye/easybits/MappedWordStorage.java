@@ -0,0 +1,318 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ Stores the words of a {@link BitHolder} in a file that is mapped into memory, so the OS loads the pages of the file as they're used.<br>
+ The file starts with a {@value #HEADER_BYTES} byte header holding the size of the BitHolder, followed by the words in little endian order.<br>
+ The words are mapped as several regions rather than one buffer, so growing the file only remaps the last region, & no single mapping gets near the 2 GB limit of a buffer.<br>
+ Once closed, any access throws an {@link IllegalStateException}. */
+final class MappedWordStorage extends WordStorage {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 8467193372011906185L;
+
+/**
+ The amount of bytes before the first word in the file. */
+static final int HEADER_BYTES = 16;
+/**
+ The first four bytes of the file, "EBIT" in ASCII. */
+private static final int MAGIC = 0x54494245;
+/**
+ The version of the file layout. */
+private static final int VERSION = 1;
+/**
+ The position of the size in the header. */
+private static final int SIZE_POSITION = 8;
+
+/**
+ The channel of the file. It's kept open so the file can grow. */
+private final transient @NotNull FileChannel channel;
+/**
+ True if the file was opened for writing. */
+private final transient boolean writable;
+/**
+ Each region holds 2 to the power of this many words, except the last region which may hold fewer. */
+private final transient int regionShift;
+
+/**
+ The mapped header of the file, or null once closed. */
+private transient MappedByteBuffer header;
+/**
+ The mapped regions of the file, or null once closed. */
+private transient MappedByteBuffer[] regions;
+/**
+ Views of the regions as words, or null once closed. */
+private transient LongBuffer[] words;
+/**
+ The amount of words the mapped regions hold. */
+private transient int wordCapacity = 0;
+
+
+/**
+ Opens & maps the given file.
+ @param file        The file to map.
+ @param writable    True to map the file for writing.
+ @param create      True to create a new empty BitHolder in the file, replacing anything it held. Only used if the storage is writable.
+ @param regionShift Each region holds 2 to the power of this many words.
+ @throws IOException If the file couldn't be opened or mapped, or if it doesn't hold a BitHolder. */
+MappedWordStorage(@NotNull Path file, boolean writable, boolean create, int regionShift) throws IOException {
+  this.writable = writable;
+  this.regionShift = regionShift;
+  this.regions = new MappedByteBuffer[0];
+  this.words = new LongBuffer[0];
+
+  if (!writable) {this.channel = FileChannel.open(file, StandardOpenOption.READ);}
+  else if (create) {
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+  else {this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);}
+
+  try {
+    if (writable && create) {
+      header = (MappedByteBuffer) channel.map(mapMode(), 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(0, MAGIC);
+      header.putInt(4, VERSION);
+      header.putInt(SIZE_POSITION, 0);
+      return;
+    }
+
+    if (channel.size() < HEADER_BYTES) {throw new IOException(notBitHolderFile(file));}
+    header = (MappedByteBuffer) channel.map(mapMode(), 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    int fileWords = (int) Math.min(Integer.MAX_VALUE >>> 3, (channel.size() - HEADER_BYTES) >>> 3);
+    int size = header.getInt(SIZE_POSITION);
+    if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || size < 0 || wordsFor(size) > fileWords) {
+      throw new IOException(notBitHolderFile(file));
+    }
+
+    map(fileWords);
+    if (!writable) {makeImmutable();}
+  } catch (IOException | RuntimeException e) {
+    channel.close();
+    throw e;
+  }
+}
+
+
+@Override
+long getWord(int wordIndex) {
+  return words()[wordIndex >>> regionShift].get(wordIndex & regionMask());
+}
+
+@Override
+void setWord(int wordIndex, long word) {
+  checkMutable();
+  words()[wordIndex >>> regionShift].put(wordIndex & regionMask(), word);
+}
+
+@Override
+void prepareWrite() throws UnsupportedOperationException {
+  words(); // Fails before any of the parallel writes if the storage was closed.
+  checkMutable();
+}
+
+@Override
+void getWords(int wordIndex, @NotNull long[] destination, int offset, int length) {
+  LongBuffer[] words = words();
+  int mask = regionMask();
+  for (int i = 0; i < length; i++) {
+    int index = wordIndex + i;
+    destination[offset + i] = words[index >>> regionShift].get(index & mask);
+  }
+}
+
+@Override
+void setWords(int wordIndex, @NotNull long[] source, int offset, int length) {
+  checkMutable();
+
+  LongBuffer[] words = words();
+  int mask = regionMask();
+  for (int i = 0; i < length; i++) {
+    int index = wordIndex + i;
+    words[index >>> regionShift].put(index & mask, source[offset + i]);
+  }
+}
+
+@Override
+int wordCapacity() {
+  words();
+  return wordCapacity;
+}
+
+@Override
+void ensureCapacity(int bitCapacity) {
+  words();
+  int required = wordsFor(bitCapacity);
+  if (required <= wordCapacity) {return;}
+  checkMutable();
+
+  // Grows by at least double to keep repeated appends amortized.
+  int newCapacity = (int) Math.min(Integer.MAX_VALUE >>> 3, Math.max((long) wordCapacity * 2, required));
+  try {
+    map(newCapacity);
+  } catch (IOException e) {
+    throw new UncheckedIOException(e);
+  }
+}
+
+@Override
+@NotNull StorageStats.Representation representation() {
+  return StorageStats.Representation.MAPPED;
+}
+
+@Override
+long sizeInBytes() {
+  return HEADER_BYTES + ((long) wordCapacity() << 3);
+}
+
+/**
+ The file isn't shared between storages, so the snapshot is a copy of the used words on the heap. */
+@Override
+@NotNull WordStorage snapshot() {
+  return copy(wordsFor(readSize()));
+}
+
+
+/**
+ @return The size stored in the header of the file.
+ @throws IllegalStateException If the storage has been closed. */
+int readSize() throws IllegalStateException {
+  words();
+  return header.getInt(SIZE_POSITION);
+}
+
+/**
+ Stores the given size in the header of the file. Does nothing if the file isn't writable.
+ @param size The size of the BitHolder.
+ @throws IllegalStateException If the storage has been closed. */
+void writeSize(int size) throws IllegalStateException {
+  words();
+  if (writable) {header.putInt(SIZE_POSITION, size);}
+}
+
+/**
+ Writes any changes to the mapped regions to the file.
+ @throws IllegalStateException If the storage has been closed. */
+void force() throws IllegalStateException {
+  words();
+  if (!writable) {return;}
+
+  for (MappedByteBuffer region : regions) {
+    region.force();
+  }
+  header.force();
+}
+
+/**
+ @return True if the storage has been closed. */
+boolean isClosed() {
+  return words == null;
+}
+
+/**
+ Unmaps the file & closes its channel. If the file is writable, any capacity past the size is trimmed from it. Closing a closed storage does nothing.
+ @throws IOException If the file couldn't be closed. */
+void close() throws IOException {
+  if (words == null) {return;}
+
+  long usedBytes = HEADER_BYTES + ((long) wordsFor(readSize()) << 3);
+  MappedByteBuffer[] oldRegions = regions;
+  MappedByteBuffer oldHeader = header;
+
+  // The storage is marked as closed before the memory is unmapped, so nothing reads unmapped memory.
+  words = null;
+  regions = null;
+  header = null;
+
+  for (MappedByteBuffer region : oldRegions) {
+    DirectBuffers.release(region);
+  }
+  DirectBuffers.release(oldHeader);
+
+  try {
+    if (writable && channel.size() > usedBytes) {channel.truncate(usedBytes);}
+  } catch (IOException ignored) {
+    // Some platforms can't trim a file that's still mapped. The extra capacity is valid, so the file is left as it is.
+  } finally {
+    channel.close();
+  }
+}
+
+
+/**
+ Maps the regions needed to hold the given amount of words. The last region is remapped if it was only partly mapped.
+ @param newCapacity The amount of words to hold. Must be at least the current capacity.
+ @throws IOException If the file couldn't be mapped. */
+private void map(int newCapacity) throws IOException {
+  int regionWords = 1 << regionShift;
+  int regionCount = (int) (((long) newCapacity + regionWords - 1) >>> regionShift);
+
+  MappedByteBuffer[] newRegions = Arrays.copyOf(regions, regionCount);
+  LongBuffer[] newWords = Arrays.copyOf(words, regionCount);
+  MappedByteBuffer replaced = null;
+
+  for (int region = wordCapacity >>> regionShift; region < regionCount; region++) {
+    int regionWordCount = Math.min(regionWords, newCapacity - (region << regionShift));
+    if (newWords[region] != null && newWords[region].capacity() == regionWordCount) {continue;}
+
+    // Only the partly mapped last region can be replaced. Later regions are new, so they mustn't overwrite it.
+    if (newRegions[region] != null) {replaced = newRegions[region];}
+    long position = HEADER_BYTES + ((long) region << (regionShift + 3));
+    // Mapping past the end of a writable file grows the file, & the new bytes are 0.
+    newRegions[region] = (MappedByteBuffer) channel.map(mapMode(), position, (long) regionWordCount << 3).order(ByteOrder.LITTLE_ENDIAN);
+    newWords[region] = newRegions[region].asLongBuffer();
+  }
+
+  regions = newRegions;
+  words = newWords;
+  wordCapacity = newCapacity;
+
+  // The replaced region is unmapped once nothing refers to it.
+  if (replaced != null) {DirectBuffers.release(replaced);}
+}
+
+/**
+ @return The mode to map the file with. */
+private @NotNull FileChannel.MapMode mapMode() {
+  return writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+}
+
+/**
+ @return The mask that gives the index of a word within its region. */
+private int regionMask() {
+  return (1 << regionShift) - 1;
+}
+
+/**
+ @return The views of the regions as words.
+ @throws IllegalStateException If the storage has been closed. */
+private @NotNull LongBuffer[] words() throws IllegalStateException {
+  LongBuffer[] words = this.words;
+  if (words == null) {throw new IllegalStateException(closedBitHolder());}
+  return words;
+}
+
+/**
+ The file can't be serialized, so a copy of the used words on the heap is written instead.
+ @return The storage to serialize in place of this one. */
+private Object writeReplace() {
+  WordStorage copy = snapshot();
+  if (isImmutable()) {copy.makeImmutable();}
+  return copy;
+}
+
+}
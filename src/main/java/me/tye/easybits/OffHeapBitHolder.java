@@ -0,0 +1,113 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static me.tye.easybits.ErrorMessages.*;
+
+/**
+ A {@link BitHolder} that keeps its bits in direct memory instead of on the garbage collected heap.<br>
+ Large off-heap BitHolders don't add to the work of the garbage collector, & their memory can be given to native or NIO code through {@link #buffer()} without copying.<br>
+ The memory is either allocated for the BitHolder alone, or taken from a shared {@link BitArena}.
+ It should be freed with {@link #close()} once the BitHolder is no longer needed, after which any use of the BitHolder throws an {@link IllegalStateException}.<br>
+ Methods that return a new BitHolder, such as {@link #AND(BitHolder)} or {@link #subBits(int, int)}, return a BitHolder on the heap.
+ Use the forms that take a destination, such as {@link #AND(BitHolder, BitHolder)}, to keep the result off the heap.<br>
+ Snapshots & serialized copies of an off-heap BitHolder are also on the heap. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public class OffHeapBitHolder extends BitHolder implements AutoCloseable {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 6911436453785263207L;
+
+
+/**
+ Constructs a new off-heap bit holder with the given starting size, in memory allocated for it alone.<br>
+ The bits will be initialized to 0.
+ @param startingSize The starting size of the BitHolder.
+ @throws IllegalArgumentException If the starting size is negative. */
+public OffHeapBitHolder(int startingSize) throws IllegalArgumentException {
+  this(startingSize, null);
+}
+
+/**
+ Constructs a new off-heap bit holder with the given starting size, in memory taken from the given arena.<br>
+ The bits will be initialized to 0.
+ @param startingSize The starting size of the BitHolder.
+ @param arena        The arena to take the memory from, or null to allocate the memory for this BitHolder alone.
+ @throws IllegalArgumentException If the starting size is negative.
+ @throws IllegalStateException    If the arena has been closed. */
+public OffHeapBitHolder(int startingSize, @Nullable BitArena arena) throws IllegalArgumentException, IllegalStateException {
+  super(new DirectWordStorage(sizeCheck(startingSize), arena), startingSize);
+}
+
+/**
+ Constructs a new off-heap bit holder holding a copy of the given bits, in memory allocated for it alone.
+ @param bits The bits to copy.
+ @throws NullPointerException If the given BitHolder is null. */
+public OffHeapBitHolder(@NotNull BitHolder bits) throws NullPointerException {
+  this(bits, null);
+}
+
+/**
+ Constructs a new off-heap bit holder holding a copy of the given bits, in memory taken from the given arena.
+ @param bits  The bits to copy.
+ @param arena The arena to take the memory from, or null to allocate the memory for this BitHolder alone.
+ @throws NullPointerException  If the given BitHolder is null.
+ @throws IllegalStateException If the arena has been closed. */
+public OffHeapBitHolder(@NotNull BitHolder bits, @Nullable BitArena arena) throws NullPointerException, IllegalStateException {
+  this(nullCheck(bits).size(), arena);
+
+  int wordCount = WordStorage.wordsFor(bits.size());
+  for (int i = 0; i < wordCount; i++) {
+    storage().setWord(i, bits.logicalWord(i));
+  }
+}
+
+
+/**
+ Gets the direct memory holding the bits, without copying it.<br>
+ The buffer is read only, little endian & holds the bits in whole words: byte n holds the bits from index n * 8, with the lowest index in the least significant bit.
+ This is the same layout as {@link java.util.BitSet#toByteArray()}. Any bits past the size in the last word are 0.<br>
+ The buffer must not be used once this BitHolder is closed or has grown, as it may no longer hold the bits.
+ @return A read only view of the memory holding the bits.
+ @throws IllegalStateException If this BitHolder has been closed. */
+public @NotNull ByteBuffer buffer() throws IllegalStateException {
+  ByteBuffer buffer = directStorage().buffer().asReadOnlyBuffer();
+  ((Buffer) buffer).limit(WordStorage.wordsFor(size()) << 3); // Cast to Buffer, as ByteBuffer only overrides limit from Java 9.
+  return buffer.order(ByteOrder.LITTLE_ENDIAN);
+}
+
+/**
+ @return True if this BitHolder has been closed, either directly or by closing its arena. */
+public boolean isClosed() {
+  return directStorage().isClosed();
+}
+
+/**
+ Frees the memory of this BitHolder, or hands it back to its arena. Closing a closed BitHolder does nothing.<br>
+ Shallow clones of this BitHolder share its memory, so they are closed as well. */
+@Override
+public void close() {
+  directStorage().close();
+}
+
+
+/**
+ @return The storage holding the bits. */
+private @NotNull DirectWordStorage directStorage() {
+  return (DirectWordStorage) storage();
+}
+
+/**
+ The memory can't be serialized, so a copy of the bits on the heap is written instead.
+ @return The BitHolder to serialize in place of this one. */
+private Object writeReplace() {
+  return new BitHolder(this, true);
+}
+
+}
@@ -2,7 +2,7 @@ package me.tye.easybits;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Array;
+import java.util.Arrays;
 
 import static me.tye.easybits.ErrorMessages.notPrimitive;
 
@@ -96,122 +96,67 @@ public static boolean isPrimitive(@NotNull Class<?> clazz) {
  @return The bits that make up the primitive represented as a BitHolder.
  @throws IllegalArgumentException If an object that isn't a primitive or primitive array was passed into the method. */
 public static @NotNull BitHolder toBitHolder(@NotNull Object primitive) throws IllegalArgumentException {
+  BitHolder bits = new BitHolder();
+  addTo(bits, primitive);
+  return bits;
+}
+
+/**
+ Adds the bits that make up the given primitive to the end of the given BitHolder.<br>
+ Primitive arrays are added in bulk by the typed methods in {@link BitHolder}, so the elements are never boxed.
+ @param bits      The BitHolder to add the bits to.
+ @param primitive The primitive object to add.
+ @throws IllegalArgumentException If an object that isn't a primitive or primitive array was passed into the method. */
+protected static void addTo(@NotNull BitHolder bits, @NotNull Object primitive) throws IllegalArgumentException {
   Class<?> primitiveClass = primitive.getClass();
 
   // Object must be a primitive or primitive array.
   if (!isPrimitive(primitiveClass)) {throw new IllegalArgumentException(notPrimitive(primitiveClass.getName()));}
 
-  // Converts any primitive into a primitive array.
-  if (!primitiveClass.isArray()) {
-    Object array = Array.newInstance(primitiveClass, 1);
-    Array.set(array, 0, primitive);
-    primitive = array;
-  }
-
-  Primitive primitiveType = fromClass(primitiveClass);
-  int length = Array.getLength(primitive);
-  boolean[] bits = new boolean[length * primitiveType.bitSize];
-
-  for (int primitiveArrayIndex = 0; primitiveArrayIndex < length; primitiveArrayIndex++) {
-    Object primitiveInstance = Array.get(primitive, primitiveArrayIndex);
-
-    switch (primitiveType) {
-    case BOOLEAN: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        bits[primitiveArrayIndex] = (boolean) primitiveInstance;
-      }
-      break;
-    }
-
-    case BYTE: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        // Shifts the int value so that the current bit being evaluated is in the least significant position.
-        byte shifted = (byte) (((byte) primitiveInstance) << i);
-        shifted = (byte) (shifted >>> primitiveType.bitSize - 1);
-
-        int bitIndex = i + (primitiveArrayIndex * primitiveType.bitSize); // Offsets the inserted bits depending on the current array iteration.
-        boolean bitValue = (shifted & 0x1) == 1; // Determines if the bit was high or low.
-
-        bits[bitIndex] = bitValue;
-      }
-      break;
-    }
-    case SHORT: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        // Shifts the int value so that the current bit being evaluated is in the least significant position.
-        short shifted = (short) (((short) primitiveInstance) << i);
-        shifted = (short) (shifted >>> primitiveType.bitSize - 1);
-
-        int bitIndex = i + (primitiveArrayIndex * primitiveType.bitSize); // Offsets the inserted bits depending on the current array iteration.
-        boolean bitValue = (shifted & 0x1) == 1; // Determines if the bit was high or low.
-
-        bits[bitIndex] = bitValue;
-      }
-      break;
-    }
-    case CHAR: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        // Shifts the int value so that the current bit being evaluated is in the least significant position.
-        char shifted = (char) (((char) primitiveInstance) << i);
-        shifted = (char) (shifted >>> primitiveType.bitSize - 1);
-
-        int bitIndex = i + (primitiveArrayIndex * primitiveType.bitSize); // Offsets the inserted bits depending on the current array iteration.
-        boolean bitValue = (shifted & 0x1) == 1; // Determines if the bit was high or low.
-
-        bits[bitIndex] = bitValue;
-      }
-      break;
-    }
-
-    case FLOAT: {
-      // Converts the float value to an int.
-      primitiveInstance = Float.floatToRawIntBits((float) primitiveInstance);
-      // Falls into int handling.
-    }
-    case INT: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        // Shifts the int value so that the current bit being evaluated is in the least significant position.
-        int shifted = (((int) primitiveInstance) << i);
-        shifted = (shifted >>> primitiveType.bitSize - 1);
-
-        int bitIndex = i + (primitiveArrayIndex * primitiveType.bitSize); // Offsets the inserted bits depending on the current array iteration.
-        boolean bitValue = (shifted & 0x1) == 1; // Determines if the bit was high or low.
-
-        bits[bitIndex] = bitValue;
-      }
-      break;
-    }
-
-    case DOUBLE: {
-      // Converts the double value to a long.
-      primitiveInstance = Double.doubleToRawLongBits((double) primitiveInstance);
-      // Falls into long handling
-    }
-    case LONG: {
-      for (int i = 0; i < primitiveType.bitSize; i++) {
-        // Shifts the int value so that the current bit being evaluated is in the least significant position.
-        long shifted = (((long) primitiveInstance) << i);
-        shifted = (shifted >>> primitiveType.bitSize - 1);
-
-        int bitIndex = i + (primitiveArrayIndex * primitiveType.bitSize); // Offsets the inserted bits depending on the current array iteration.
-        boolean bitValue = (shifted & 0x1) == 1; // Determines if the bit was high or low.
-
-        bits[bitIndex] = bitValue;
-      }
-      break;
-    }
+  if (primitive instanceof boolean[]) {bits.add((boolean[]) primitive);}
+  else if (primitive instanceof byte[]) {bits.add((byte[]) primitive);}
+  else if (primitive instanceof short[]) {bits.add((short[]) primitive);}
+  else if (primitive instanceof char[]) {bits.add((char[]) primitive);}
+  else if (primitive instanceof int[]) {bits.add((int[]) primitive);}
+  else if (primitive instanceof long[]) {bits.add((long[]) primitive);}
+  else if (primitive instanceof float[]) {bits.add((float[]) primitive);}
+  else if (primitive instanceof double[]) {bits.add((double[]) primitive);}
+
+  // Arrays of primitive wrappers are added an element at a time.
+  else if (primitive instanceof Object[]) {
+    for (Object element : (Object[]) primitive) {
+      addWrapper(bits, element);
     }
+  }
 
+  else {
+    addWrapper(bits, primitive);
   }
+}
 
-  return new BitHolder(bits);
+/**
+ Adds the bits of the primitive inside the given wrapper to the end of the given BitHolder.
+ @param bits    The BitHolder to add the bits to.
+ @param wrapper The primitive wrapper to add.
+ @throws IllegalArgumentException If the given object wasn't a primitive wrapper. */
+private static void addWrapper(@NotNull BitHolder bits, @NotNull Object wrapper) throws IllegalArgumentException {
+  if (wrapper instanceof Boolean) {bits.add(((Boolean) wrapper).booleanValue());}
+  else if (wrapper instanceof Byte) {bits.add(((Byte) wrapper).byteValue());}
+  else if (wrapper instanceof Short) {bits.add(((Short) wrapper).shortValue());}
+  else if (wrapper instanceof Character) {bits.add(((Character) wrapper).charValue());}
+  else if (wrapper instanceof Integer) {bits.add(((Integer) wrapper).intValue());}
+  else if (wrapper instanceof Long) {bits.add(((Long) wrapper).longValue());}
+  else if (wrapper instanceof Float) {bits.add(((Float) wrapper).floatValue());}
+  else if (wrapper instanceof Double) {bits.add(((Double) wrapper).doubleValue());}
+  else {throw new IllegalArgumentException(notPrimitive(wrapper.getClass().getName()));}
 }
 
 
 /**
  Converts a BitHolder to the given primitive.<br>
- If there are too few bits to make up a primitive extra padding bits will be added to the end of the BitHolder.<br>
- If there are more bits than make up the primitive bits with a higher index will be removed (this doesn't apply to arrays).<br>
+ If there are too few bits to make up a primitive the missing bits with a higher index will be treated as low (false).<br>
+ If there are more bits than make up the primitive bits with a higher index will be ignored (this doesn't apply to arrays).<br>
+ The given BitHolder isn't modified.
  @param bits           The BitHolder to convert.
  @param primitiveClass The primitive class to convert the BitHolder to.
  @param <T>            The primitive class the BitHolder will be returned as.
@@ -219,115 +164,107 @@ public static @NotNull BitHolder toBitHolder(@NotNull Object primitive) throws I
  @throws IllegalArgumentException If the given class isn't a primitive or primitive array. */
 @SuppressWarnings ("unchecked") // JVM warns about casts to T
 public static <T> @NotNull T toPrimitive(@NotNull BitHolder bits, @NotNull Class<T> primitiveClass) throws IllegalArgumentException {
-  Primitive primitive = fromClass(primitiveClass);
-
   // Clazz must be a primitive or primitive array.
   if (!isPrimitive(primitiveClass)) {throw new IllegalArgumentException(notPrimitive(primitiveClass.getName()));}
 
-  // If there are fewer bits than make up the primitive add padding bits.
-  if (bits.size() < primitive.bitSize) {
-    int increaseBy = primitive.bitSize - bits.size();
-    bits.add(new boolean[increaseBy]);
-  }
+  Primitive primitive = fromClass(primitiveClass);
 
-  // If there are more bits than make up the primitive remove the extra bits.
-  // The bits with a higher index will be removed first.
-  if (!primitiveClass.isArray() && bits.size() > primitive.bitSize) {
-    bits = bits.shiftLeft(bits.size() - primitive.bitSize);
-    bits.remove(primitive.bitSize, bits.size());
+  if (!primitiveClass.isArray()) {
+    long primitiveAsLongBits = getPaddedBits(bits, 0, primitive);
+
+    switch (primitive) {
+    case BOOLEAN: return (T) (Boolean) (primitiveAsLongBits != 0);
+    case BYTE: return (T) (Byte) (byte) primitiveAsLongBits;
+    case SHORT: return (T) (Short) (short) primitiveAsLongBits;
+    case CHAR: return (T) (Character) (char) primitiveAsLongBits;
+    case INT: return (T) (Integer) (int) primitiveAsLongBits;
+    case FLOAT: return (T) (Float) Float.intBitsToFloat((int) primitiveAsLongBits);
+    case LONG: return (T) (Long) primitiveAsLongBits;
+    default: return (T) (Double) Double.longBitsToDouble(primitiveAsLongBits);
+    }
   }
 
-  int length = 1;
+  // The full primitives are read in bulk. If the last primitive is missing bits it's padded & added afterwards.
+  int fullLength = bits.size() / primitive.bitSize;
+  int length = (bits.size() + primitive.getIndexSize()) / primitive.bitSize;
+  int paddedIndex = fullLength * primitive.bitSize;
 
-  // If the primitive is an array.
-  // Determines how many elements will be in the returned primitive array.
-  if (primitiveClass.isArray()) {
-    length = bits.highestIndex() / primitive.bitSize;
+  switch (primitive) {
+  case BOOLEAN: {
+    return (T) bits.toBoolArray();
+  }
+  case BYTE: {
+    byte[] bytes = bits.getByteArray(0, fullLength);
+    if (length == fullLength) {return (T) bytes;}
 
-    // Rounds the value up if there is a remainder
-    if (bits.highestIndex() % primitive.bitSize != 0) {
-      length++;
-    }
+    bytes = Arrays.copyOf(bytes, length);
+    bytes[fullLength] = (byte) getPaddedBits(bits, paddedIndex, primitive);
+    return (T) bytes;
   }
+  case SHORT: {
+    short[] shorts = bits.getShortArray(0, fullLength);
+    if (length == fullLength) {return (T) shorts;}
 
-  // Returns early if it's a boolean type since they are easy to parse.
-  if (primitive == BOOLEAN) {
-    if (primitiveClass.isArray()) {
-      return (T) bits.toBoolArray();
-    }
-    else {
-      return (T) (Boolean) bits.get(0);
-    }
+    shorts = Arrays.copyOf(shorts, length);
+    shorts[fullLength] = (short) getPaddedBits(bits, paddedIndex, primitive);
+    return (T) shorts;
   }
+  case CHAR: {
+    char[] chars = bits.getCharArray(0, fullLength);
+    if (length == fullLength) {return (T) chars;}
 
-  Object primitiveArray = Array.newInstance(primitive.primitiveClass, length);
+    chars = Arrays.copyOf(chars, length);
+    chars[fullLength] = (char) getPaddedBits(bits, paddedIndex, primitive);
+    return (T) chars;
+  }
+  case INT: {
+    int[] ints = bits.getIntArray(0, fullLength);
+    if (length == fullLength) {return (T) ints;}
 
-  for (int i = 0; i < length; i++) {
-    long primitiveAsLongBits = getPrimitiveAsLongBits(bits, i, primitive);
+    ints = Arrays.copyOf(ints, length);
+    ints[fullLength] = (int) getPaddedBits(bits, paddedIndex, primitive);
+    return (T) ints;
+  }
+  case FLOAT: {
+    float[] floats = bits.getFloatArray(0, fullLength);
+    if (length == fullLength) {return (T) floats;}
 
-    // Puts the primitive value into the array.
-    switch (primitive) {
-    case BYTE: {
-      Array.setByte(primitiveArray, i, (byte) primitiveAsLongBits);
-      break;
-    }
-    case SHORT: {
-      Array.setShort(primitiveArray, i, (short) primitiveAsLongBits);
-      break;
-    }
-    case CHAR: {
-      Array.setChar(primitiveArray, i, (char) primitiveAsLongBits);
-      break;
-    }
-    case INT: {
-      Array.setInt(primitiveArray, i, (int) primitiveAsLongBits);
-      break;
-    }
-    case FLOAT: {
-      Array.setFloat(primitiveArray, i, Float.intBitsToFloat((int) primitiveAsLongBits));
-      break;
-    }
-    case LONG: {
-      Array.setLong(primitiveArray, i, primitiveAsLongBits);
-      break;
-    }
-    case DOUBLE: {
-      Array.setDouble(primitiveArray, i, Double.longBitsToDouble(primitiveAsLongBits));
-      break;
-    }
-    }
+    floats = Arrays.copyOf(floats, length);
+    floats[fullLength] = Float.intBitsToFloat((int) getPaddedBits(bits, paddedIndex, primitive));
+    return (T) floats;
+  }
+  case LONG: {
+    long[] longs = bits.getLongArray(0, fullLength);
+    if (length == fullLength) {return (T) longs;}
 
+    longs = Arrays.copyOf(longs, length);
+    longs[fullLength] = getPaddedBits(bits, paddedIndex, primitive);
+    return (T) longs;
   }
+  default: {
+    double[] doubles = bits.getDoubleArray(0, fullLength);
+    if (length == fullLength) {return (T) doubles;}
 
-  if (primitiveClass.isArray()) {return (T) primitiveArray;}
-  return (T) Array.get(primitiveArray, 0);
+    doubles = Arrays.copyOf(doubles, length);
+    doubles[fullLength] = Double.longBitsToDouble(getPaddedBits(bits, paddedIndex, primitive));
+    return (T) doubles;
+  }
+  }
 }
 
 /**
- Gets the bits from the primitive at index i within the array & stores them in a long.
+ Gets the bits of a primitive starting at the given index & stores them in a long.<br>
+ If the BitHolder ends before the primitive does the missing bits are treated as low (false).
  @param bits      The bits of the primitive.
- @param i         The index of the primitive within the array.
+ @param index     The index of the first bit of the primitive.
  @param primitive The type of primitive that is being parsed.
- @return The bits from the primitive at index i in a long. */
-private static long getPrimitiveAsLongBits(@NotNull BitHolder bits, int i, @NotNull Primitive primitive) {
-  // Gets the boolean array that represents the primitive bits
-  int primitiveIndex = (i + 1) * primitive.bitSize;
-  primitiveIndex--; // Subtracts one to get the index.
-  boolean[] primitiveBits = bits.get(i * primitive.bitSize, primitiveIndex);
-
-  // Creates a temporary var to hold the primitive value.
-  long primitiveHolder = 0;
-
-  // Iterates over the high bits of the primitive.
-  for (int primitiveBitIndex = 0; primitiveBitIndex < primitive.bitSize; primitiveBitIndex++) {
-    boolean bit = primitiveBits[primitiveBitIndex];
-    if (!bit) {continue;}
-
-    // "Adds" the primitive bit to the temporary var value at the correct offset.
-    primitiveHolder = (primitiveHolder | 1L << (primitive.bitSize - primitiveBitIndex - 1));
-  }
+ @return The bits of the primitive in a long. */
+private static long getPaddedBits(@NotNull BitHolder bits, int index, @NotNull Primitive primitive) {
+  int available = Math.min(primitive.bitSize, bits.size() - index);
+  if (available <= 0) {return 0;}
 
-  return primitiveHolder;
+  // Shifts the available bits up so the missing bits are at the least significant end.
+  return bits.getBits(index, available) << (primitive.bitSize - available);
 }
 
 }
@@ -0,0 +1,213 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ A {@link Container} that holds the runs of high bits in its chunk as a start & a length. Used for chunks where the high bits are grouped together. */
+final class RunContainer extends Container {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -1450914391926785390L;
+
+/**
+ The first value of each run, in increasing order. */
+private final char[] starts;
+/**
+ The amount of values in each run minus one, so a full chunk fits in a char. */
+private final char[] lengths;
+/**
+ The amount of runs. */
+private final int runCount;
+/**
+ The amount of values in all the runs. */
+private final int cardinality;
+
+
+/**
+ @param starts   The first value of each run. The array is used directly.
+ @param lengths  The amount of values in each run minus one. The array is used directly.
+ @param runCount The amount of runs used from the arrays. */
+private RunContainer(char[] starts, char[] lengths, int runCount) {
+  this.starts = starts;
+  this.lengths = lengths;
+  this.runCount = runCount;
+
+  int cardinality = 0;
+  for (int i = 0; i < runCount; i++) {
+    cardinality += lengths[i] + 1;
+  }
+  this.cardinality = cardinality;
+}
+
+/**
+ @param start The first value of the run.
+ @param end   The value after the last value of the run. Must be above the start.
+ @return A container holding a single run. */
+static @NotNull RunContainer range(int start, int end) {
+  return new RunContainer(new char[]{(char) start}, new char[]{(char) (end - start - 1)}, 1);
+}
+
+/**
+ @param values The values in increasing order.
+ @return A container holding the values as runs. */
+static @NotNull RunContainer fromIterator(@NotNull PrimitiveIterator.OfInt values) {
+  char[] starts = new char[4];
+  char[] lengths = new char[4];
+  int runCount = 0;
+  int previous = -2;
+
+  while (values.hasNext()) {
+    int value = values.nextInt();
+    if (value == previous + 1) {
+      lengths[runCount - 1]++;
+    }
+    else {
+      if (runCount == starts.length) {
+        starts = Arrays.copyOf(starts, runCount * 2);
+        lengths = Arrays.copyOf(lengths, runCount * 2);
+      }
+      starts[runCount] = (char) value;
+      lengths[runCount] = 0;
+      runCount++;
+    }
+    previous = value;
+  }
+
+  return new RunContainer(Arrays.copyOf(starts, runCount), Arrays.copyOf(lengths, runCount), runCount);
+}
+
+
+@Override
+int cardinality() {
+  return cardinality;
+}
+
+@Override
+int runCount() {
+  return runCount;
+}
+
+@Override
+boolean contains(int value) {
+  int run = runAtOrBefore(value);
+  return run >= 0 && value <= end(run);
+}
+
+@Override
+long getWord(int wordIndex) {
+  int first = wordIndex << 6;
+  int last = first + 63;
+  long word = 0;
+
+  for (int run = Math.max(0, runAtOrBefore(first)); run < runCount && starts[run] <= last; run++) {
+    int from = Math.max(first, starts[run]);
+    int to = Math.min(last, end(run));
+    if (from > to) {continue;}
+
+    // The bits from "from" to "to" within the word.
+    word |= (-1L >>> (63 - (to - from))) << (from - first);
+  }
+
+  return word;
+}
+
+/**
+ Runs can't be changed in place, so the chunk is first turned into an array or a bitmap. */
+@Override
+@NotNull Container setWord(int wordIndex, long word) {
+  return toMutable().setWord(wordIndex, word);
+}
+
+/**
+ @return A new container holding the same values as an array if there are few of them, or as a bitmap if there are many. */
+@NotNull Container toMutable() {
+  return cardinality <= ARRAY_MAX ? ArrayContainer.fromIterator(iterator(), cardinality) : new BitmapContainer(words());
+}
+
+@Override
+@NotNull PrimitiveIterator.OfInt iterator() {
+  return new PrimitiveIterator.OfInt() {
+    private int run = 0;
+    private int next = runCount == 0 ? 0 : starts[0];
+
+    @Override
+    public boolean hasNext() {
+      return run < runCount;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {throw new NoSuchElementException();}
+
+      int value = next;
+      if (value == end(run)) {
+        run++;
+        if (run < runCount) {next = starts[run];}
+      }
+      else {next++;}
+
+      return value;
+    }
+  };
+}
+
+@Override
+int sizeInBytes() {
+  return runCount * 4;
+}
+
+@Override
+@NotNull Container copy() {
+  return this; // Runs are never changed, so they can be shared.
+}
+
+@Override
+int countBelow(int limit) {
+  int count = 0;
+  for (int run = 0; run < runCount && starts[run] < limit; run++) {
+    count += Math.min(end(run), limit - 1) - starts[run] + 1;
+  }
+  return count;
+}
+
+@Override
+@NotNull Container truncate(int limit) {
+  if (runCount == 0 || end(runCount - 1) < limit) {return this;}
+
+  int kept = 0;
+  while (kept < runCount && starts[kept] < limit) {kept++;}
+
+  char[] newStarts = Arrays.copyOf(starts, kept);
+  char[] newLengths = Arrays.copyOf(lengths, kept);
+  if (kept > 0 && end(kept - 1) >= limit) {newLengths[kept - 1] = (char) (limit - 1 - starts[kept - 1]);}
+  return new RunContainer(newStarts, newLengths, kept);
+}
+
+
+/**
+ @param run The index of a run.
+ @return The last value of the run. */
+private int end(int run) {
+  return starts[run] + lengths[run];
+}
+
+/**
+ @param value A value in the chunk.
+ @return The index of the last run starting at or before the value, or -1 if there isn't one. */
+private int runAtOrBefore(int value) {
+  int low = 0;
+  int high = runCount - 1;
+  while (low <= high) {
+    int middle = (low + high) >>> 1;
+    if (starts[middle] <= value) {low = middle + 1;}
+    else {high = middle - 1;}
+  }
+  return high;
+}
+
+}
@@ -0,0 +1,81 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ Describes how the bits of a {@link BitHolder} are currently stored. Returned by {@link BitHolder#storageStats()}.<br>
+ The stats are a copy taken when they were requested, so they don't change if the BitHolder does. */
+@SuppressWarnings ("unused") // This class contains many methods that are intend for use in projects that depend on easybits.
+public final class StorageStats {
+
+/**
+ The ways the bits of a BitHolder can be stored. */
+public enum Representation {
+  /**
+   Every word is stored in a long array on the heap. */
+  DENSE,
+  /**
+   Only the chunks with high bits are stored on the heap, as the indexes of their high bits or as words if they have many. */
+  SPARSE,
+  /**
+   Only the chunks with high bits are stored on the heap, with chunks whose high bits are grouped together stored as runs. */
+  RUNS,
+  /**
+   Stored by a {@link CompressedBitHolder}, which always uses the smallest form for each chunk. */
+  COMPRESSED,
+  /**
+   Stored in direct memory by an {@link OffHeapBitHolder}. */
+  OFF_HEAP,
+  /**
+   Stored in a memory mapped file by a {@link MappedBitHolder}. */
+  MAPPED
+}
+
+/**
+ The current way the bits are stored. */
+private final @NotNull Representation representation;
+/**
+ The approximate amount of bytes used to store the bits. */
+private final long sizeInBytes;
+/**
+ The amount of times the storage has changed representation. */
+private final int switchCount;
+
+
+/**
+ @param representation The current way the bits are stored.
+ @param sizeInBytes    The approximate amount of bytes used to store the bits.
+ @param switchCount    The amount of times the storage has changed representation. */
+StorageStats(@NotNull Representation representation, long sizeInBytes, int switchCount) {
+  this.representation = representation;
+  this.sizeInBytes = sizeInBytes;
+  this.switchCount = switchCount;
+}
+
+
+/**
+ @return The current way the bits are stored. */
+public @NotNull Representation representation() {
+  return representation;
+}
+
+/**
+ @return The approximate amount of bytes used to store the bits, including any unused capacity. */
+public long sizeInBytes() {
+  return sizeInBytes;
+}
+
+/**
+ A BitHolder on the heap changes between {@link Representation#DENSE}, {@link Representation#SPARSE} & {@link Representation#RUNS}
+ as the density of its bits changes. The other representations never change.
+ @return The amount of times the storage has changed representation. */
+public int switchCount() {
+  return switchCount;
+}
+
+@Override
+public @NotNull String toString() {
+  return "StorageStats{representation=" + representation + ", sizeInBytes=" + sizeInBytes + ", switchCount=" + switchCount + "}";
+}
+
+}
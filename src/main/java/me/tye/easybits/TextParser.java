@@ -0,0 +1,122 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import static me.tye.easybits.ErrorMessages.containedInvalidBinaryChars;
+
+/**
+ Parses bit strings & hex strings into a {@link BitHolder}.<br>
+ The parsed bits are collected in a long & added to the BitHolder 64 bits at a time. Tabs, spaces & line breaks are skipped. */
+class TextParser {
+
+/**
+ The amount of characters read from a {@link Reader} at once. */
+private static final int BUFFER_SIZE = 8192;
+
+private final @NotNull BitHolder bits = new BitHolder();
+/**
+ The amount of bits each character represents. Either 1 for bit strings or 4 for hex strings. */
+private final int bitsPerCharacter;
+
+/**
+ The parsed bits that haven't been added to the BitHolder yet. */
+private long pending = 0;
+private int pendingBits = 0;
+
+/**
+ @param bitsPerCharacter The amount of bits each character represents. Either 1 for bit strings or 4 for hex strings. */
+private TextParser(int bitsPerCharacter) {
+  this.bitsPerCharacter = bitsPerCharacter;
+}
+
+
+/**
+ Parses the given characters.
+ @param text             The characters to parse.
+ @param bitsPerCharacter The amount of bits each character represents. Either 1 for bit strings or 4 for hex strings.
+ @return The parsed bits.
+ @throws IllegalArgumentException If the text contained a character that can't be parsed. */
+static @NotNull BitHolder parse(@NotNull CharSequence text, int bitsPerCharacter) throws IllegalArgumentException {
+  TextParser parser = new TextParser(bitsPerCharacter);
+  // The length is known, so the storage only has to be allocated once.
+  parser.bits.ensureCapacity((int) Math.min(Integer.MAX_VALUE, (long) text.length() * bitsPerCharacter));
+
+  for (int i = 0; i < text.length(); i++) {
+    parser.accept(text.charAt(i));
+  }
+
+  return parser.finish();
+}
+
+/**
+ Parses the characters from the given reader until the end of the reader is reached. The reader isn't closed.
+ @param reader           The reader to get the characters from.
+ @param bitsPerCharacter The amount of bits each character represents. Either 1 for bit strings or 4 for hex strings.
+ @return The parsed bits.
+ @throws IllegalArgumentException If the reader contained a character that can't be parsed.
+ @throws IOException              If the reader couldn't be read from. */
+static @NotNull BitHolder parse(@NotNull Reader reader, int bitsPerCharacter) throws IllegalArgumentException, IOException {
+  TextParser parser = new TextParser(bitsPerCharacter);
+  char[] buffer = new char[BUFFER_SIZE];
+
+  int read;
+  while ((read = reader.read(buffer)) != -1) {
+    for (int i = 0; i < read; i++) {
+      parser.accept(buffer[i]);
+    }
+  }
+
+  return parser.finish();
+}
+
+/**
+ Parses a single character.
+ @param character The character to parse.
+ @throws IllegalArgumentException If the character can't be parsed. */
+private void accept(char character) throws IllegalArgumentException {
+  switch (character) {
+  // Ignores whitespaces & returns.
+  case ' ':
+  case '\t':
+  case '\r':
+  case '\n': {
+    return;
+  }
+  }
+
+  pending = (pending << bitsPerCharacter) | valueOf(character);
+  pendingBits += bitsPerCharacter;
+
+  if (pendingBits == 64) {
+    bits.addBits(pending, 64);
+    pending = 0;
+    pendingBits = 0;
+  }
+}
+
+/**
+ @param character The character to parse.
+ @return The value of the bits the character represents.
+ @throws IllegalArgumentException If the character can't be parsed. */
+private long valueOf(char character) throws IllegalArgumentException {
+  if (bitsPerCharacter == 4) {return Hex.hexToNibble(character);}
+
+  switch (character) {
+  case '0': return 0;
+  case '1': return 1;
+  default: throw new IllegalArgumentException(containedInvalidBinaryChars(character));
+  }
+}
+
+/**
+ Adds any remaining parsed bits to the BitHolder.
+ @return The parsed bits. */
+private @NotNull BitHolder finish() {
+  bits.addBits(pending, pendingBits);
+  return bits;
+}
+
+}
@@ -0,0 +1,135 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+
+import static me.tye.easybits.ErrorMessages.immutableBitHolder;
+
+/**
+ Stores the bits of a {@link BitHolder} in 64 bit words.<br>
+ The bit at index n is stored in the word at index n / 64, at bit position n % 64 within the word. This is the same layout {@link java.util.BitSet} uses.<br>
+ Shallow clones of a BitHolder share the same storage, so the words are kept in this class rather than in the holder itself.<br>
+ Each subclass keeps the words in a different place, such as {@link HeapWordStorage} on the heap or {@link DirectWordStorage} in direct memory. */
+abstract class WordStorage implements Serializable {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 4410930375960385127L;
+
+/**
+ True if the words can't be changed. */
+private boolean immutable = false;
+
+
+/**
+ @param bits An amount of bits.
+ @return The amount of words needed to hold the given amount of bits. */
+static int wordsFor(int bits) {
+  return (int) ((bits + 63L) >>> 6);
+}
+
+/**
+ @param wordIndex The index of the word.
+ @return The word at the given index. */
+abstract long getWord(int wordIndex);
+
+/**
+ Replaces the word at the given index.
+ @param wordIndex The index of the word.
+ @param word      The new value of the word. */
+abstract void setWord(int wordIndex, long word);
+
+/**
+ Makes sure the words can be written to, copying them if they're shared with a snapshot.<br>
+ This must be called before the words are written to from more than one thread, so the copy isn't made by several threads at once.
+ @throws UnsupportedOperationException If the words can't be changed. */
+abstract void prepareWrite() throws UnsupportedOperationException;
+
+/**
+ @return True if different words can be written to from different threads at the same time. */
+boolean parallelWrites() {
+  return true;
+}
+
+/**
+ Called before the words are written to from more than one thread, & {@link #endParallelWrites()} is called once they're all done.
+ Storages that change how they hold the words must not change it in between. */
+void beginParallelWrites() {}
+
+/**
+ Called once the writes started by {@link #beginParallelWrites()} are all done. */
+void endParallelWrites() {}
+
+/**
+ @return The current way the words are stored. */
+abstract @NotNull StorageStats.Representation representation();
+
+/**
+ @return The approximate amount of bytes used to store the words, including any unused capacity. */
+abstract long sizeInBytes();
+
+/**
+ @return The amount of times the storage has changed how it holds the words. */
+int representationSwitches() {
+  return 0;
+}
+
+/**
+ Copies a run of words into the given array.
+ @param wordIndex   The index of the first word to copy.
+ @param destination The array to copy the words into.
+ @param offset      The index in the array to copy the first word to.
+ @param length      The amount of words to copy. */
+abstract void getWords(int wordIndex, @NotNull long[] destination, int offset, int length);
+
+/**
+ Replaces a run of words with the words from the given array.
+ @param wordIndex The index of the first word to replace.
+ @param source    The array to copy the words from.
+ @param offset    The index in the array of the first word to copy.
+ @param length    The amount of words to replace. */
+abstract void setWords(int wordIndex, @NotNull long[] source, int offset, int length);
+
+/**
+ @return The amount of words that have been allocated. */
+abstract int wordCapacity();
+
+/**
+ Grows the storage so that it can hold at least the given amount of bits. Any new words are set to 0.
+ @param bitCapacity The amount of bits to make space for. */
+abstract void ensureCapacity(int bitCapacity);
+
+/**
+ @param wordCount The amount of words to copy. Any words past the capacity of this storage are set to 0.
+ @return A new storage on the heap holding a copy of the first given amount of words. */
+@NotNull WordStorage copy(int wordCount) {
+  long[] words = new long[wordCount];
+  getWords(0, words, 0, Math.min(wordCount, wordCapacity()));
+  return new HeapWordStorage(words);
+}
+
+/**
+ Creates a new storage that shares the words with this storage until either of them is written to.
+ @return The new storage. */
+abstract @NotNull WordStorage snapshot();
+
+/**
+ Stops the words from being changed. Any later writes will throw an {@link UnsupportedOperationException}. */
+void makeImmutable() {
+  immutable = true;
+}
+
+/**
+ @return True if the words can't be changed. */
+boolean isImmutable() {
+  return immutable;
+}
+
+/**
+ @throws UnsupportedOperationException If the words can't be changed. */
+void checkMutable() throws UnsupportedOperationException {
+  if (immutable) {throw new UnsupportedOperationException(immutableBitHolder());}
+}
+
+}
@@ -0,0 +1,219 @@
+package me.tye.easybits;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ Runs work over the words of a {@link BitHolder}, splitting it into ranges of words that are processed on a {@link ForkJoinPool}
+ once the BitHolder is at least {@link #parallelThreshold} bits. The common pool is used unless another one is set with {@link #pool(ForkJoinPool)}.<br>
+ Each range of words is processed by exactly one task, so the results are the same as processing all the words in order on one thread. */
+final class WordTasks {
+
+/**
+ The smallest range of words a task is split into. Smaller ranges cost more to schedule than they save. */
+private static final int MIN_RANGE_WORDS = 1 << 12;
+
+/**
+ The amount of bits a BitHolder needs before its words are processed in parallel. */
+private static volatile int parallelThreshold = 1 << 24;
+/**
+ The pool the ranges of words are processed on. */
+private static volatile @NotNull ForkJoinPool pool = ForkJoinPool.commonPool();
+
+
+/**
+ This class is a Utility class & not meant to be instantiated. */
+private WordTasks() {}
+
+
+/**
+ Processes a range of words. */
+@FunctionalInterface
+interface RangeAction {
+/**
+ @param fromWord The index of the first word in the range.
+ @param toWord   The index after the last word in the range. */
+void run(int fromWord, int toWord);
+}
+
+/**
+ Tests a range of words. */
+@FunctionalInterface
+interface RangePredicate {
+/**
+ @param fromWord The index of the first word in the range.
+ @param toWord   The index after the last word in the range.
+ @return The result of the test for the range. */
+boolean test(int fromWord, int toWord);
+}
+
+
+/**
+ @return The amount of bits a BitHolder needs before its words are processed in parallel. */
+static int parallelThreshold() {
+  return parallelThreshold;
+}
+
+/**
+ @param bitCount The amount of bits a BitHolder needs before its words are processed in parallel. */
+static void parallelThreshold(int bitCount) {
+  parallelThreshold = bitCount;
+}
+
+/**
+ @return The pool the ranges of words are processed on. */
+static @NotNull ForkJoinPool pool() {
+  return pool;
+}
+
+/**
+ Sets the pool the ranges of words are processed on. The words are only split if the pool has a parallelism of more than one.
+ @param newPool The pool to process the ranges of words on. */
+static void pool(@NotNull ForkJoinPool newPool) {
+  pool = newPool;
+}
+
+/**
+ Runs the action over all the words, in parallel ranges if there are enough words.
+ @param wordCount The amount of words.
+ @param action    The action to run on each range. */
+static void forEachRange(int wordCount, @NotNull RangeAction action) {
+  if (!isParallel(wordCount)) {
+    action.run(0, wordCount);
+    return;
+  }
+
+  pool.invoke(new RangeActionTask(action, 0, wordCount, rangeWords(wordCount)));
+}
+
+/**
+ Runs an action that writes to the words of the given storage over all the words, in parallel ranges if there are enough words & the storage allows it.
+ @param wordCount   The amount of words.
+ @param destination The storage the action writes to.
+ @param action      The action to run on each range. */
+static void forEachRange(int wordCount, @NotNull WordStorage destination, @NotNull RangeAction action) {
+  if (!destination.parallelWrites() || !isParallel(wordCount)) {
+    action.run(0, wordCount);
+    return;
+  }
+
+  destination.beginParallelWrites();
+  try {
+    pool.invoke(new RangeActionTask(action, 0, wordCount, rangeWords(wordCount)));
+  } finally {
+    destination.endParallelWrites();
+  }
+}
+
+/**
+ Tests if the predicate is true for all the words, in parallel ranges if there are enough words.<br>
+ Once a range is false, ranges that haven't started yet aren't tested.
+ @param wordCount The amount of words.
+ @param predicate The predicate to test each range with.
+ @return True if the predicate was true for every range. */
+static boolean allMatch(int wordCount, @NotNull RangePredicate predicate) {
+  if (!isParallel(wordCount)) {
+    return predicate.test(0, wordCount);
+  }
+
+  return pool.invoke(new AllMatchTask(predicate, 0, wordCount, rangeWords(wordCount), new boolean[1]));
+}
+
+
+/**
+ @param wordCount The amount of words.
+ @return True if the words should be processed in parallel. */
+private static boolean isParallel(int wordCount) {
+  return ((long) wordCount << 6) >= parallelThreshold
+         && wordCount >= MIN_RANGE_WORDS * 2
+         && pool.getParallelism() > 1;
+}
+
+/**
+ @param wordCount The amount of words.
+ @return The amount of words a task processes without splitting. A few ranges per thread are made, so threads that finish early can take more work. */
+private static int rangeWords(int wordCount) {
+  return Math.max(MIN_RANGE_WORDS, wordCount / (pool.getParallelism() * 4));
+}
+
+
+/**
+ Splits a range of words in half until it's small enough to run the action on. */
+private static class RangeActionTask extends RecursiveAction {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = 4702468227309431858L;
+
+private final @NotNull RangeAction action;
+private final int fromWord;
+private final int toWord;
+private final int rangeWords;
+
+private RangeActionTask(@NotNull RangeAction action, int fromWord, int toWord, int rangeWords) {
+  this.action = action;
+  this.fromWord = fromWord;
+  this.toWord = toWord;
+  this.rangeWords = rangeWords;
+}
+
+@Override
+protected void compute() {
+  if (toWord - fromWord <= rangeWords) {
+    action.run(fromWord, toWord);
+    return;
+  }
+
+  int middle = (fromWord + toWord) >>> 1;
+  invokeAll(new RangeActionTask(action, fromWord, middle, rangeWords), new RangeActionTask(action, middle, toWord, rangeWords));
+}
+}
+
+/**
+ Splits a range of words in half until it's small enough to test. */
+private static class AllMatchTask extends RecursiveTask<Boolean> {
+
+/**
+ Used for serializing the class. */
+private static final long serialVersionUID = -6170942283585151270L;
+
+private final @NotNull RangePredicate predicate;
+private final int fromWord;
+private final int toWord;
+private final int rangeWords;
+/**
+ Shared between all the tasks. Set to true once any range is false. */
+private final boolean[] failed;
+
+private AllMatchTask(@NotNull RangePredicate predicate, int fromWord, int toWord, int rangeWords, boolean[] failed) {
+  this.predicate = predicate;
+  this.fromWord = fromWord;
+  this.toWord = toWord;
+  this.rangeWords = rangeWords;
+  this.failed = failed;
+}
+
+@Override
+protected Boolean compute() {
+  // The flag isn't synchronized, so a task might still run after another one failed. That only costs time, not correctness.
+  if (failed[0]) {return false;}
+
+  if (toWord - fromWord <= rangeWords) {
+    boolean matched = predicate.test(fromWord, toWord);
+    if (!matched) {failed[0] = true;}
+    return matched;
+  }
+
+  int middle = (fromWord + toWord) >>> 1;
+  AllMatchTask high = new AllMatchTask(predicate, middle, toWord, rangeWords, failed);
+  high.fork();
+
+  boolean lowMatched = new AllMatchTask(predicate, fromWord, middle, rangeWords, failed).compute();
+  return high.join() && lowMatched;
+}
+}
+
+}
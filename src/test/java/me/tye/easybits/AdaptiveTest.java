@@ -0,0 +1,152 @@
+package me.tye.easybits;
+
+import me.tye.easybits.StorageStats.Representation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Random;
+
+public class AdaptiveTest {
+
+private static void assertSame(BitSet expected, BitHolder actual) {
+  Assertions.assertEquals(expected.cardinality(), actual.highBitCount());
+  Assertions.assertArrayEquals(expected.stream().toArray(), actual.highBits().toArray());
+}
+
+@Test
+public void smallStaysDense() {
+  BitHolder bits = new BitHolder(1000);
+  bits.set(3, true);
+
+  Assertions.assertEquals(Representation.DENSE, bits.storageStats().representation());
+  Assertions.assertEquals(0, bits.storageStats().switchCount());
+}
+
+@Test
+public void sparseToDense() {
+  int size = 1 << 20;
+  BitHolder bits = new BitHolder(size);
+  BitSet expected = new BitSet(size);
+
+  Assertions.assertEquals(Representation.SPARSE, bits.storageStats().representation());
+  Assertions.assertTrue(bits.storageStats().sizeInBytes() < 1024);
+
+  Random random = new Random(1);
+  for (int i = 0; i < 1000; i++) {
+    int index = random.nextInt(size);
+    bits.set(index, true);
+    expected.set(index);
+  }
+  Assertions.assertEquals(Representation.SPARSE, bits.storageStats().representation());
+  assertSame(expected, bits);
+
+  for (int i = 0; i < size; i++) {
+    if (random.nextBoolean()) {
+      bits.set(i, true);
+      expected.set(i);
+    }
+  }
+  Assertions.assertEquals(Representation.DENSE, bits.storageStats().representation());
+  Assertions.assertEquals(size / 8, bits.storageStats().sizeInBytes());
+  assertSame(expected, bits);
+}
+
+@Test
+public void denseToSparse() {
+  int size = 1 << 20;
+  Random random = new Random(3);
+  BitHolder bits = new BitHolder();
+  for (int i = 0; i < size / 64; i++) {bits.addBits(random.nextLong(), 64);}
+  Assertions.assertEquals(Representation.DENSE, bits.storageStats().representation());
+
+  BitSet expected = new BitSet(size);
+  for (int i = 0; i < size; i++) {
+    boolean high = i % 1000 == 0;
+    bits.set(i, high);
+    expected.set(i, high);
+  }
+
+  Assertions.assertEquals(Representation.SPARSE, bits.storageStats().representation());
+  assertSame(expected, bits);
+}
+
+@Test
+public void runs() {
+  int size = 1 << 20;
+  BitHolder bits = new BitHolder(size);
+  BitSet expected = new BitSet(size);
+
+  // Long runs of high bits, with too many high bits to be sparse.
+  for (int i = 0; i < size; i++) {
+    if ((i & 0xFFF) < 2000) {
+      bits.set(i, true);
+      expected.set(i);
+    }
+  }
+
+  Assertions.assertEquals(Representation.RUNS, bits.storageStats().representation());
+  Assertions.assertTrue(bits.storageStats().sizeInBytes() < size / 64);
+  assertSame(expected, bits);
+
+  // Writing into the runs keeps the bits correct.
+  for (int i = 5; i < size; i += 4096) {
+    bits.set(i, false);
+    expected.clear(i);
+  }
+  assertSame(expected, bits);
+  Assertions.assertEquals(expected.cardinality(), bits.AND(new BitHolder(size).NOT()).highBitCount());
+}
+
+@Test
+public void noThrashing() {
+  int size = 1 << 20;
+  BitHolder bits = new BitHolder(size);
+  Random random = new Random(2);
+
+  // The density moves back & forth around the point where compressing would first save memory.
+  int[] indexes = new int[size / 48];
+  for (int i = 0; i < indexes.length; i++) {indexes[i] = random.nextInt(size);}
+  for (int round = 0; round < 50; round++) {
+    for (int i = round % 2; i < indexes.length; i += 2) {bits.set(indexes[i], round % 4 < 2);}
+  }
+
+  Assertions.assertTrue(bits.storageStats().switchCount() <= 2, bits.storageStats().toString());
+}
+
+@Test
+public void shallowClonesAndSnapshots() {
+  int size = 1 << 20;
+  BitHolder bits = new BitHolder(size);
+  BitHolder shallow = new BitHolder(bits, false);
+  BitHolder snapshot = bits.snapshot();
+  bits.set(10, true);
+
+  for (int i = 0; i < size; i += 2) {bits.set(i, true);}
+  Assertions.assertEquals(Representation.DENSE, shallow.storageStats().representation());
+  Assertions.assertEquals(size / 2, shallow.highBitCount());
+  Assertions.assertEquals(0, snapshot.highBitCount());
+
+  BitHolder deep = new BitHolder(snapshot, true);
+  deep.set(0, true);
+  Assertions.assertEquals(Representation.SPARSE, deep.storageStats().representation());
+  Assertions.assertEquals(0, snapshot.highBitCount());
+  Assertions.assertEquals(1, deep.highBitCount());
+}
+
+@Test
+public void otherHolders(@TempDir Path directory) throws Exception {
+  Assertions.assertEquals(Representation.COMPRESSED, new CompressedBitHolder(100).storageStats().representation());
+
+  try (OffHeapBitHolder offHeap = new OffHeapBitHolder(100)) {
+    Assertions.assertEquals(Representation.OFF_HEAP, offHeap.storageStats().representation());
+  }
+
+  try (MappedBitHolder mapped = MappedBitHolder.create(directory.resolve("bits"), 100)) {
+    Assertions.assertEquals(Representation.MAPPED, mapped.storageStats().representation());
+  }
+}
+
+}
@@ -46,4 +46,26 @@ public void byteEmpty() {
   bits.add(new byte[0]);
   Assertions.assertEquals(new BitHolder(16), bits);
 }
+
+@Test
+public void Int() {
+  BitHolder bits = BitHolder.fromBitString("101");
+  bits.add(-784653012);
+  Assertions.assertEquals(BitHolder.fromBitString("101 11010001001110110010010100101100"), bits);
+}
+
+@Test
+public void Double() {
+  BitHolder bits = new BitHolder(30);
+  bits.add(8.342134515342098E7);
+  Assertions.assertEquals(8.342134515342098E7, bits.getDouble(30));
+  Assertions.assertEquals(94, bits.size());
+}
+
+@Test
+public void packedBits() {
+  BitHolder bits = BitHolder.fromBitString("1");
+  bits.addBits(0b0110, 3);
+  Assertions.assertEquals(BitHolder.fromBitString("1110"), bits);
+}
 }
@@ -0,0 +1,99 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+public class BitReaderTest {
+
+@Test
+public void readFields() {
+  BitHolder bits = BitHolder.fromBitString("101");
+  bits.add(784653012);
+  bits.add(-890457234897562386L);
+  bits.add(true);
+
+  BitReader reader = new BitReader(bits);
+  Assertions.assertEquals(0b101, reader.readBits(3));
+  Assertions.assertEquals(784653012, reader.readInt());
+  Assertions.assertEquals(-890457234897562386L, reader.readLong());
+  Assertions.assertTrue(reader.readBoolean());
+  Assertions.assertFalse(reader.hasRemaining());
+}
+
+@Test
+public void readBytes() {
+  BitReader reader = new BitReader(new byte[]{0, 57, 90, -90, 43, -9, 0, 1, -128, 127, 3}, 1, 10);
+  Assertions.assertEquals(3, reader.readBits(4));
+  Assertions.assertEquals(0x95AA62BF7000L, reader.readBits(48));
+  Assertions.assertEquals(0x1807F03L, reader.readBits(28));
+  Assertions.assertEquals(80, reader.position());
+}
+
+@Test
+public void readBuffer() {
+  ByteBuffer buffer = ByteBuffer.allocateDirect(20).order(ByteOrder.LITTLE_ENDIAN);
+  for (int i = 0; i < 20; i++) {
+    buffer.put((byte) i);
+  }
+  buffer.position(2);
+
+  BitReader reader = new BitReader(buffer);
+  Assertions.assertEquals(0x0203, reader.readShort());
+  Assertions.assertEquals(0x0405060708090A0BL, reader.readLong());
+  Assertions.assertEquals(0x0C0D0E0F, reader.readInt());
+  Assertions.assertEquals(2, buffer.position());
+}
+
+@Test
+public void skip() {
+  BitReader reader = new BitReader(BitHolder.from(new long[]{-1L, 0x0123456789ABCDEFL}));
+  reader.skip(3);
+  Assertions.assertEquals(0b11111, reader.readBits(5));
+  reader.skip(60);
+  Assertions.assertEquals(0x1234, reader.readBits(16));
+  Assertions.assertEquals(44, reader.remaining());
+}
+
+@Test
+public void unalignedWideRead() {
+  byte[] bytes = new byte[40];
+  new Random(1).nextBytes(bytes);
+  BitHolder bits = BitHolder.from(bytes);
+  ByteBuffer direct = ByteBuffer.allocateDirect(40);
+  direct.put(bytes);
+  direct.clear();
+
+  for (int skip = 1; skip < 8; skip++) {
+    for (int bitLength = 57; bitLength <= 64; bitLength++) {
+      BitReader[] readers = {new BitReader(bytes), new BitReader(ByteBuffer.wrap(bytes)), new BitReader(direct)};
+      for (BitReader reader : readers) {
+        BitReader expected = new BitReader(bits);
+        expected.skip(skip);
+        reader.skip(skip);
+
+        Assertions.assertEquals(expected.readBits(bitLength), reader.readBits(bitLength));
+        Assertions.assertEquals(expected.readBits(8), reader.readBits(8));
+        Assertions.assertEquals(expected.readBits(64), reader.readBits(64));
+        Assertions.assertEquals(expected.remaining(), reader.remaining());
+      }
+    }
+  }
+}
+
+@Test
+public void readPastEnd() {
+  BitReader reader = new BitReader(new byte[]{1, 2});
+  reader.readBits(10);
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> reader.readBits(7));
+}
+
+@Test
+public void invalidBitLength() {
+  BitReader reader = new BitReader(new byte[16]);
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> reader.readBits(65));
+}
+}
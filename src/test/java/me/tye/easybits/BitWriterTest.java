@@ -0,0 +1,95 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class BitWriterTest {
+
+@Test
+public void writeFields() {
+  BitWriter writer = new BitWriter(0);
+  writer.writeBits(0b101, 3);
+  writer.writeInt(784653012);
+  writer.writeLong(-890457234897562386L);
+  writer.writeBoolean(true);
+
+  BitHolder expected = BitHolder.fromBitString("101");
+  expected.add(784653012);
+  expected.add(-890457234897562386L);
+  expected.add(true);
+
+  Assertions.assertEquals(100, writer.size());
+  Assertions.assertEquals(expected, writer.toBitHolder());
+}
+
+@Test
+public void onlyLowestBitsUsed() {
+  BitWriter writer = new BitWriter();
+  writer.writeBits(-1L, 3);
+  writer.writeBits(0, 61);
+  writer.writeBits(-1L, 64);
+
+  BitHolder bits = writer.toBitHolder();
+  Assertions.assertEquals(0b111L << 61, bits.getLong(0));
+  Assertions.assertEquals(-1L, bits.getLong(64));
+}
+
+@Test
+public void toByteArray() {
+  BitWriter writer = new BitWriter();
+  BitHolder expected = new BitHolder(0);
+  for (int i = 0; i < 50; i++) {
+    writer.writeBits(i * 31L, 7);
+    expected.addBits(i * 31L, 7);
+  }
+
+  Assertions.assertArrayEquals(expected.toByteArray(), writer.toByteArray());
+}
+
+@Test
+public void writeTo() throws IOException {
+  BitWriter writer = new BitWriter();
+  for (int i = 0; i < 3000; i++) {
+    writer.writeInt(i * 7919);
+  }
+  writer.writeBits(0b1, 1);
+
+  ByteArrayOutputStream output = new ByteArrayOutputStream();
+  writer.writeTo(output);
+  Assertions.assertArrayEquals(writer.toByteArray(), output.toByteArray());
+  Assertions.assertEquals(12001, output.size());
+}
+
+@Test
+public void unchangedByLaterWrites() {
+  BitWriter writer = new BitWriter();
+  writer.writeShort((short) 4587);
+  BitHolder bits = writer.toBitHolder();
+  writer.writeShort((short) 12);
+
+  Assertions.assertEquals(16, bits.size());
+  Assertions.assertEquals(4587, bits.getShort(0));
+  Assertions.assertEquals(32, writer.size());
+}
+
+@Test
+public void clear() {
+  BitWriter writer = new BitWriter();
+  writer.writeLong(-1L);
+  writer.writeBits(3, 2);
+  writer.clear();
+  writer.writeBits(1, 1);
+
+  Assertions.assertEquals(BitHolder.fromBitString("1"), writer.toBitHolder());
+}
+
+@Test
+public void invalidBitLength() {
+  BitWriter writer = new BitWriter();
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> writer.writeBits(0, 65));
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> writer.writeBits(0, -1));
+}
+}
@@ -0,0 +1,105 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class ByteTest {
+
+@Test
+public void toByteArray() {
+  byte[] bytes = {57, 90, -90, 43, -9, 0, 1, -128, 127, 3};
+  BitHolder bits = BitHolder.from(bytes);
+  Assertions.assertArrayEquals(bytes, bits.toByteArray());
+}
+
+@Test
+public void toByteArrayPadded() {
+  BitHolder bits = BitHolder.fromBitString("00111001 1011");
+  Assertions.assertArrayEquals(new byte[]{57, -80}, bits.toByteArray());
+  Assertions.assertEquals(12, bits.size());
+}
+
+@Test
+public void toByteArrayEmpty() {
+  Assertions.assertArrayEquals(new byte[0], new BitHolder().toByteArray());
+}
+
+@Test
+public void toByteArrayDestination() {
+  BitHolder bits = BitHolder.from(new byte[]{57, 90, -90});
+  byte[] destination = new byte[5];
+  int written = bits.toByteArray(destination, 2);
+  Assertions.assertEquals(3, written);
+  Assertions.assertArrayEquals(new byte[]{0, 0, 57, 90, -90}, destination);
+}
+
+@Test
+public void toByteArrayDestinationTooSmall() {
+  BitHolder bits = BitHolder.from(new byte[]{57, 90, -90});
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.toByteArray(new byte[3], 1));
+}
+
+@Test
+public void byteStreamRoundTrip() {
+  ByteArrayOutputStream stream = new ByteArrayOutputStream();
+  stream.write(new byte[]{1, 2, 3, -4, 5, 6, 7, 8, 9}, 0, 9);
+  BitHolder bits = BitHolder.fromByteStream(stream);
+  Assertions.assertEquals("01 02 03 FC 05 06 07 08 09", bits.toHexString());
+  Assertions.assertEquals(9, bits.toByteStream().available());
+}
+
+@Test
+public void byteBufferRoundTrip() {
+  byte[] bytes = {57, 90, -90, 43, -9, 0, 1, -128, 127, 3};
+  ByteBuffer buffer = ByteBuffer.allocateDirect(12);
+  buffer.position(1);
+  buffer.put(bytes);
+
+  BitHolder bits = BitHolder.from(buffer, 1, bytes.length, ByteOrder.BIG_ENDIAN);
+  Assertions.assertArrayEquals(bytes, bits.toByteArray());
+
+  ByteBuffer copy = ByteBuffer.allocate(12);
+  Assertions.assertEquals(10, bits.toByteBuffer(copy, 2, ByteOrder.BIG_ENDIAN));
+  Assertions.assertEquals(0, copy.position());
+  buffer.position(0);
+  copy.position(1);
+  Assertions.assertEquals(buffer.slice().limit(11), copy.slice().limit(11));
+}
+
+@Test
+public void byteBufferLittleEndian() {
+  BitHolder bits = BitHolder.from(new long[]{0x0102030405060708L});
+  bits.add((byte) 9);
+
+  ByteBuffer buffer = ByteBuffer.allocate(9);
+  bits.toByteBuffer(buffer, 0, ByteOrder.LITTLE_ENDIAN);
+  Assertions.assertArrayEquals(new byte[]{8, 7, 6, 5, 4, 3, 2, 1, 9}, buffer.array());
+  Assertions.assertEquals(bits, BitHolder.from(buffer, 0, 9, ByteOrder.LITTLE_ENDIAN));
+}
+
+@Test
+public void byteBufferPadded() {
+  BitHolder bits = BitHolder.fromBitString("00111001 1011");
+  ByteBuffer buffer = ByteBuffer.allocate(2);
+  bits.toByteBuffer(buffer, 0, ByteOrder.BIG_ENDIAN);
+  Assertions.assertArrayEquals(new byte[]{57, -80}, buffer.array());
+}
+
+@Test
+public void byteBufferOutOfBounds() {
+  ByteBuffer buffer = ByteBuffer.allocate(8);
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> BitHolder.from(buffer, 4, 5, ByteOrder.BIG_ENDIAN));
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> new BitHolder(64).toByteBuffer(buffer, 1, ByteOrder.BIG_ENDIAN));
+}
+
+@Test
+public void byteBufferTooBig() {
+  BitHolder bits = new BitHolder(Integer.MAX_VALUE - 10);
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.add(ByteBuffer.allocate(2), 0, 2, ByteOrder.BIG_ENDIAN));
+  Assertions.assertEquals(Integer.MAX_VALUE - 10, bits.size());
+}
+}
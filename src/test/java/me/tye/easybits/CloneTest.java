@@ -0,0 +1,77 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CloneTest {
+
+@Test
+public void deepClone() {
+  BitHolder bits = BitHolder.from(new long[]{-1L, 0x0123456789ABCDEFL});
+  bits.add(true);
+
+  BitHolder clone = new BitHolder(bits, true);
+  Assertions.assertEquals(bits, clone);
+
+  clone.set(0, false);
+  clone.add(true);
+  Assertions.assertTrue(bits.get(0));
+  Assertions.assertEquals(129, bits.size());
+}
+
+@Test
+public void deepCloneOfShorterShallowClone() {
+  BitHolder bits = BitHolder.fromBitString("1010");
+  BitHolder shallow = new BitHolder(bits, false);
+  shallow.add(true);
+
+  BitHolder clone = new BitHolder(bits, true);
+  clone.add(false);
+  Assertions.assertEquals(BitHolder.fromBitString("10100"), clone);
+}
+
+@Test
+public void shallowClone() {
+  BitHolder bits = BitHolder.fromBitString("1010");
+  BitHolder clone = new BitHolder(bits, false);
+
+  clone.set(0, false);
+  Assertions.assertFalse(bits.get(0));
+}
+
+@Test
+public void snapshot() {
+  BitHolder bits = BitHolder.fromBitString("1010 1100");
+  BitHolder snapshot = bits.snapshot();
+  Assertions.assertEquals(bits, snapshot);
+
+  bits.set(0, false);
+  Assertions.assertEquals(BitHolder.fromBitString("0010 1100"), bits);
+  Assertions.assertEquals(BitHolder.fromBitString("1010 1100"), snapshot);
+
+  snapshot.set(7, true);
+  Assertions.assertEquals(BitHolder.fromBitString("0010 1100"), bits);
+  Assertions.assertEquals(BitHolder.fromBitString("1010 1101"), snapshot);
+}
+
+@Test
+public void snapshotShrink() {
+  BitHolder bits = BitHolder.fromBitString("1111");
+  BitHolder snapshot = bits.snapshot();
+
+  snapshot.remove();
+  Assertions.assertEquals(BitHolder.fromBitString("1111"), bits);
+  Assertions.assertEquals(BitHolder.fromBitString("111"), snapshot);
+}
+
+@Test
+public void snapshotSharedByShallowClones() {
+  BitHolder bits = BitHolder.fromBitString("0000");
+  BitHolder shallow = new BitHolder(bits, false);
+  BitHolder snapshot = bits.snapshot();
+
+  bits.set(1, true);
+  Assertions.assertTrue(shallow.get(1));
+  Assertions.assertFalse(snapshot.get(1));
+}
+}
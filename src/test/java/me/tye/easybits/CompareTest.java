@@ -0,0 +1,126 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CompareTest {
+
+@Test
+public void equalsIgnoresBitsPastSize() {
+  BitHolder bits = BitHolder.fromBitString("1010 1111");
+  BitHolder shallow = new BitHolder(bits, false);
+  bits.remove(7);
+  bits.remove(6);
+
+  // The shallow clone still has the removed bits in the shared storage.
+  shallow.set(7, true);
+  BitHolder expected = BitHolder.fromBitString("1010 11");
+  Assertions.assertEquals(expected, bits);
+  Assertions.assertEquals(expected.hashCode(), bits.hashCode());
+}
+
+@Test
+public void equalsAcrossWords() {
+  BitHolder bits = BitHolder.from(new long[]{-1L, 0x0123456789ABCDEFL});
+  BitHolder same = BitHolder.from(new long[]{-1L, 0x0123456789ABCDEFL});
+  BitHolder different = BitHolder.from(new long[]{-1L, 0x0123456789ABCDEEL});
+
+  Assertions.assertEquals(bits, same);
+  Assertions.assertEquals(bits.hashCode(), same.hashCode());
+  Assertions.assertNotEquals(bits, different);
+  Assertions.assertNotEquals(bits, bits.subBits(0, 126));
+}
+
+@Test
+public void immutable() {
+  BitHolder bits = BitHolder.fromBitString("1010 1111");
+  BitHolder immutable = bits.toImmutable();
+
+  Assertions.assertTrue(immutable.isImmutable());
+  Assertions.assertFalse(bits.isImmutable());
+  Assertions.assertSame(immutable, immutable.toImmutable());
+  Assertions.assertThrowsExactly(UnsupportedOperationException.class, () -> immutable.set(0, false));
+  Assertions.assertThrowsExactly(UnsupportedOperationException.class, () -> immutable.add(true));
+  Assertions.assertThrowsExactly(UnsupportedOperationException.class, immutable::remove);
+  Assertions.assertThrowsExactly(UnsupportedOperationException.class, () -> immutable.shiftLeftInPlace(1));
+
+  int hash = immutable.hashCode();
+  bits.set(0, false);
+  Assertions.assertEquals(BitHolder.fromBitString("1010 1111"), immutable);
+  Assertions.assertEquals(hash, immutable.hashCode());
+  Assertions.assertEquals(BitHolder.fromBitString("0010 1111"), bits);
+}
+
+@Test
+public void immutableReads() {
+  BitHolder immutable = BitHolder.from(new long[]{-1L, 12345L}).toImmutable();
+  BitHolder other = BitHolder.fromBitString("0110");
+
+  immutable.toByteArray();
+  immutable.toHexString();
+  immutable.getInt(3);
+  immutable.AND(other);
+  other.AND(immutable);
+  immutable.shiftLeft(70);
+  immutable.slice(3, 90).toBitHolder();
+  Assertions.assertEquals(immutable, new BitHolder(immutable, true));
+
+  BitHolder copy = new BitHolder(immutable, true);
+  copy.add(true);
+  Assertions.assertFalse(copy.isImmutable());
+}
+
+@Test
+public void lexicographic() {
+  List<BitHolder> sorted = new ArrayList<>();
+  for (String bitString : new String[]{"", "0", "00", "0001", "01", "1", "10", "1000000000"}) {
+    sorted.add(BitHolder.fromBitString(bitString));
+  }
+
+  List<BitHolder> shuffled = new ArrayList<>(sorted);
+  Collections.shuffle(shuffled);
+  Collections.sort(shuffled);
+  Assertions.assertEquals(sorted, shuffled);
+}
+
+@Test
+public void lexicographicAcrossWords() {
+  BitHolder bits = BitHolder.from(new long[]{-1L, 0x0123456789ABCDEFL});
+  BitHolder bigger = BitHolder.from(new long[]{-1L, 0x0123456789ABCDFFL});
+
+  Assertions.assertTrue(bits.compareTo(bigger) < 0);
+  Assertions.assertTrue(bigger.compareTo(bits) > 0);
+  Assertions.assertEquals(0, bits.compareTo(new BitHolder(bits, true)));
+}
+
+@Test
+public void unsigned() {
+  List<BitHolder> sorted = new ArrayList<>();
+  for (String bitString : new String[]{"", "0", "00", "1", "01", "0001", "10", "11", "100", "1000000000"}) {
+    sorted.add(BitHolder.fromBitString(bitString));
+  }
+
+  List<BitHolder> shuffled = new ArrayList<>(sorted);
+  Collections.shuffle(shuffled);
+  shuffled.sort(BitHolder.unsignedOrder());
+  Assertions.assertEquals(sorted, shuffled);
+}
+
+@Test
+public void unsignedAcrossWords() {
+  BitHolder small = BitHolder.from(new long[]{0, 0, 0x7FFFFFFFFFFFFFFFL});
+  BitHolder big = BitHolder.from(new long[]{0, 1L, 0});
+  BitHolder unaligned = BitHolder.fromBitString("000");
+  unaligned.add(big);
+  BitHolder bigger = BitHolder.from(new long[]{0, 1L, 1L});
+
+  Assertions.assertTrue(small.compareUnsigned(big) < 0);
+  Assertions.assertTrue(big.compareUnsigned(small) > 0);
+  Assertions.assertTrue(unaligned.compareUnsigned(big) > 0);
+  Assertions.assertTrue(unaligned.compareUnsigned(bigger) < 0);
+}
+}
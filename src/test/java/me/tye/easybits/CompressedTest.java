@@ -0,0 +1,209 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class CompressedTest {
+
+/**
+ Creates bits with sparse, dense & run chunks, so every form of container is used. */
+private static BitHolder mixed(long seed, int size) {
+  Random random = new Random(seed);
+  BitHolder bits = new BitHolder(size);
+
+  for (int i = 0; i < size; i++) {
+    int chunk = i >>> 16;
+    switch (chunk % 4) {
+      case 0: if (random.nextInt(500) == 0) {bits.set(i, true);} break; // Sparse
+      case 1: if (random.nextBoolean()) {bits.set(i, true);} break; // Dense
+      case 2: if ((i & 0x3FF) < 700 - random.nextInt(2)) {bits.set(i, true);} break; // Runs
+      default: break; // Empty
+    }
+  }
+  return bits;
+}
+
+@Test
+public void sameAsHeap() {
+  BitHolder heap = mixed(1, 300_000);
+  CompressedBitHolder compressed = new CompressedBitHolder(heap);
+
+  Assertions.assertEquals(heap, compressed);
+  Assertions.assertEquals(heap.highBitCount(), compressed.highBitCount());
+  Assertions.assertArrayEquals(heap.highBits().toArray(), compressed.highBits().toArray());
+  Assertions.assertEquals(heap.toHexString(), compressed.toHexString());
+  Assertions.assertTrue(compressed.sizeInBytes() < heap.size() / 8);
+}
+
+@Test
+public void logic() {
+  BitHolder left = mixed(2, 270_000);
+  BitHolder right = mixed(3, 200_000);
+  right.shiftRightInPlace(40_000);
+  BitHolder bigRight = mixed(4, 400_000);
+
+  CompressedBitHolder compressedLeft = new CompressedBitHolder(left);
+  for (BitHolder operand : new BitHolder[]{right, bigRight}) {
+    CompressedBitHolder compressedOperand = new CompressedBitHolder(operand);
+
+    for (BitHolder mixedOperand : new BitHolder[]{operand, compressedOperand}) {
+      assertCompressed(left.AND(operand), compressedLeft.AND(mixedOperand));
+      assertCompressed(left.NAND(operand), compressedLeft.NAND(mixedOperand));
+      assertCompressed(left.OR(operand), compressedLeft.OR(mixedOperand));
+      assertCompressed(left.NOR(operand), compressedLeft.NOR(mixedOperand));
+      assertCompressed(left.XOR(operand), compressedLeft.XOR(mixedOperand));
+      assertCompressed(left.XNOR(operand), compressedLeft.XNOR(mixedOperand));
+    }
+  }
+
+  assertCompressed(left.NOT(), compressedLeft.NOT());
+  Assertions.assertEquals(left, compressedLeft);
+}
+
+private static void assertCompressed(BitHolder expected, BitHolder actual) {
+  Assertions.assertInstanceOf(CompressedBitHolder.class, actual);
+  Assertions.assertEquals(expected, actual);
+  Assertions.assertEquals(expected.highBitCount(), actual.highBitCount());
+}
+
+@Test
+public void inPlaceAndDestination() {
+  BitHolder left = mixed(5, 150_000);
+  BitHolder right = mixed(6, 150_000);
+
+  CompressedBitHolder compressed = new CompressedBitHolder(left);
+  CompressedBitHolder operand = new CompressedBitHolder(right);
+  compressed.xorInPlace(operand).notInPlace();
+  Assertions.assertEquals(left.XOR(right).NOT(), compressed);
+
+  // The operand can be the destination.
+  new CompressedBitHolder(left).OR(operand, operand);
+  Assertions.assertEquals(left.OR(right), operand);
+
+  // A heap destination works on words.
+  BitHolder heap = new BitHolder(0);
+  Assertions.assertSame(heap, new CompressedBitHolder(left).AND(right, heap));
+  Assertions.assertEquals(left.AND(right), heap);
+}
+
+@Test
+public void sparseCostsLittle() {
+  CompressedBitHolder bits = new CompressedBitHolder(50_000_000);
+  bits.set(7, true);
+  bits.set(30_000_000, true);
+  bits.set(49_999_999, true);
+
+  Assertions.assertTrue(bits.sizeInBytes() < 10_000);
+  Assertions.assertEquals(3, bits.highBitCount());
+  Assertions.assertArrayEquals(new int[]{7, 30_000_000, 49_999_999}, bits.highBits().toArray());
+
+  CompressedBitHolder other = new CompressedBitHolder(50_000_000);
+  other.set(30_000_000, true);
+  BitHolder and = bits.AND(other);
+  Assertions.assertArrayEquals(new int[]{30_000_000}, and.highBits().toArray());
+  Assertions.assertEquals(50_000_000 - 3, bits.NOT().highBitCount());
+}
+
+@Test
+public void containersConvert() {
+  CompressedBitHolder bits = new CompressedBitHolder(1 << 16);
+  BitHolder expected = new BitHolder(1 << 16);
+
+  // Fills past the array limit into a bitmap, then clears back down to an array.
+  for (int i = 0; i < 6000; i++) {
+    bits.set(i * 7 % (1 << 16), true);
+    expected.set(i * 7 % (1 << 16), true);
+  }
+  Assertions.assertEquals(expected, bits);
+  for (int i = 0; i < 5000; i++) {
+    bits.set(i * 7 % (1 << 16), false);
+    expected.set(i * 7 % (1 << 16), false);
+  }
+  Assertions.assertEquals(expected, bits);
+  Assertions.assertEquals(1000, bits.highBitCount());
+
+  bits.allLow();
+  expected.allLow();
+  for (int i = 100; i < 20_000; i++) {
+    bits.set(i, true);
+    expected.set(i, true);
+  }
+  bits.optimize();
+  Assertions.assertEquals(expected, bits);
+  Assertions.assertTrue(bits.sizeInBytes() < 100);
+
+  // Writing into a run chunk changes it back into a form that can be written to.
+  bits.set(500, false);
+  expected.set(500, false);
+  Assertions.assertEquals(expected, bits);
+}
+
+@Test
+public void resize() {
+  CompressedBitHolder bits = new CompressedBitHolder(mixed(7, 140_000));
+  BitHolder expected = mixed(7, 140_000);
+
+  bits.setSize(70_000);
+  expected.setSize(70_000);
+  bits.setSize(140_000);
+  expected.setSize(140_000);
+  Assertions.assertEquals(expected, bits);
+
+  bits.add(true);
+  expected.add(true);
+  Assertions.assertEquals(expected, bits);
+  Assertions.assertEquals(expected.highBitCount(), bits.highBitCount());
+}
+
+@Test
+public void allHighAndLow() {
+  CompressedBitHolder bits = new CompressedBitHolder(100_001);
+  Assertions.assertTrue(bits.areAllLow());
+  bits.notInPlace();
+  Assertions.assertTrue(bits.areAllHigh());
+  Assertions.assertEquals(100_001, bits.highBitCount());
+  Assertions.assertTrue(bits.sizeInBytes() < 100);
+}
+
+@Test
+public void iterator() {
+  BitHolder heap = mixed(8, 200_000);
+  CompressedBitHolder compressed = new CompressedBitHolder(heap);
+
+  int[] expected = IntStream.range(0, heap.size()).filter(heap::get).toArray();
+  int[] actual = new int[expected.length];
+  int count = 0;
+  for (java.util.PrimitiveIterator.OfInt iterator = compressed.highBitIterator(); iterator.hasNext(); ) {
+    actual[count++] = iterator.nextInt();
+  }
+  Assertions.assertEquals(expected.length, count);
+  Assertions.assertArrayEquals(expected, actual);
+}
+
+@Test
+public void snapshotAndSerialization() throws Exception {
+  BitHolder heap = mixed(9, 100_000);
+  CompressedBitHolder bits = new CompressedBitHolder(heap);
+  BitHolder snapshot = bits.snapshot();
+  bits.notInPlace();
+  Assertions.assertEquals(heap, snapshot);
+
+  ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+  try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+    out.writeObject(bits);
+  }
+  try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+    Object read = in.readObject();
+    Assertions.assertInstanceOf(CompressedBitHolder.class, read);
+    Assertions.assertEquals(heap.NOT(), read);
+  }
+}
+
+}
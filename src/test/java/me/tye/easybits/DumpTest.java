@@ -0,0 +1,78 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+public class DumpTest {
+
+@Test
+public void binaryBytes() throws IOException {
+  BitHolder bits = BitHolder.fromBitString("00000001 00100011 0100");
+  StringBuilder dump = new StringBuilder();
+  bits.writeBinary(dump, DumpFormat.BYTES);
+  Assertions.assertEquals(bits.toString(), dump.toString());
+}
+
+@Test
+public void hexBytes() throws IOException {
+  BitHolder bits = BitHolder.fromHexString("01 23 45 67 89 AB CD EF 1");
+  StringWriter dump = new StringWriter();
+  bits.writeHex(dump, DumpFormat.BYTES);
+  Assertions.assertEquals(bits.toHexString(), dump.toString());
+}
+
+@Test
+public void hexWords() throws IOException {
+  BitHolder bits = BitHolder.fromHexString("01 23 45 67 89 AB CD EF 10");
+  StringBuilder dump = new StringBuilder();
+  bits.writeHex(dump, DumpFormat.WORDS);
+  Assertions.assertEquals("01234567 89ABCDEF 10", dump.toString());
+}
+
+@Test
+public void hexXxd() throws IOException {
+  BitHolder bits = BitHolder.fromHexString("00 01 02 03 04 05 06 07 08 09 0A 0B 0C 0D 0E 0F 10 11 12");
+  StringBuilder dump = new StringBuilder();
+  bits.writeHex(dump, DumpFormat.XXD);
+  Assertions.assertEquals("00000000: 0001 0203 0405 0607 0809 0A0B 0C0D 0E0F\n00000010: 1011 12\n", dump.toString());
+}
+
+@Test
+public void binaryOutputStream() throws IOException {
+  BitHolder bits = BitHolder.fromBitString("1010 1111 0000 1");
+  ByteArrayOutputStream dump = new ByteArrayOutputStream();
+  bits.writeBinary(dump, new DumpFormat(4, 8, false));
+  Assertions.assertEquals("1010 1111\n0000 1\n", new String(dump.toByteArray(), StandardCharsets.US_ASCII));
+}
+
+@Test
+public void hexLargerThanBuffer() throws IOException {
+  BitHolder bits = BitHolder.from(new byte[10_000]);
+  ByteArrayOutputStream dump = new ByteArrayOutputStream();
+  bits.writeHex(dump, DumpFormat.BYTES);
+  Assertions.assertEquals(bits.toHexString(), new String(dump.toByteArray(), StandardCharsets.US_ASCII));
+}
+
+@Test
+public void emptyXxd() throws IOException {
+  StringBuilder dump = new StringBuilder();
+  new BitHolder().writeHex(dump, DumpFormat.XXD);
+  Assertions.assertEquals("", dump.toString());
+}
+
+@Test
+public void hexInvalidGroup() {
+  BitHolder bits = BitHolder.fromBitString("0110");
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.writeHex(new StringBuilder(), new DumpFormat(3, 0, false)));
+}
+
+@Test
+public void invalidOffsetLine() {
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> new DumpFormat(8, 12, true));
+}
+}
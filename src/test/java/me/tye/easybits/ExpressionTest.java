@@ -0,0 +1,74 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class ExpressionTest {
+
+@Test
+public void singleOperation() {
+  BitHolder bits = BitHolder.fromBitString("01001111");
+  BitHolder operand = BitHolder.fromBitString("00011111");
+
+  Assertions.assertEquals(BitHolder.fromBitString("00001111"), BitExpression.of(bits).AND(operand).evaluate());
+  Assertions.assertEquals(BitHolder.fromBitString("10100000"), BitExpression.of(bits).NOR(operand).evaluate());
+  Assertions.assertEquals(BitHolder.fromBitString("10110000"), BitExpression.of(bits).NOT().evaluate());
+}
+
+@Test
+public void matchesLogicMethods() {
+  Random random = new Random(5);
+  for (int size : new int[]{0, 1, 63, 64, 65, 8191, 8192, 20000}) {
+    BitHolder a = TestBits.randomWithLowRuns(random, size);
+    BitHolder b = TestBits.randomWithLowRuns(random, size);
+    BitHolder c = TestBits.randomWithLowRuns(random, size + 100);
+    BitHolder d = TestBits.randomWithLowRuns(random, size / 2);
+
+    BitHolder expected = a.AND(b).OR(c.XOR(d).NOT());
+    BitExpression expression = BitExpression.of(a).AND(b).OR(BitExpression.of(c).XOR(d).NOT());
+    Assertions.assertEquals(expected, expression.evaluate());
+
+    expected = d.NAND(a).XNOR(b.NOR(c));
+    expression = BitExpression.of(d).NAND(a).XNOR(BitExpression.of(b).NOR(c));
+    Assertions.assertEquals(expected, expression.evaluate());
+  }
+}
+
+@Test
+public void zeroRuns() {
+  BitHolder sparse = new BitHolder(100000);
+  sparse.set(70000, true);
+  BitHolder full = new BitHolder(100000);
+  full.allHigh();
+
+  Assertions.assertEquals(sparse, BitExpression.of(sparse).AND(full).evaluate());
+  Assertions.assertEquals(sparse.NOT(), BitExpression.of(sparse).NAND(full).evaluate());
+  Assertions.assertEquals(full, BitExpression.of(sparse).XNOR(sparse).evaluate());
+}
+
+@Test
+public void intoDestination() {
+  BitHolder a = BitHolder.fromBitString("01001111");
+  BitHolder b = BitHolder.fromBitString("00111111");
+  BitExpression expression = BitExpression.of(a).AND(b).NOT();
+
+  BitHolder destination = BitHolder.fromBitString("11111111 11111111");
+  Assertions.assertSame(destination, expression.evaluate(destination));
+  Assertions.assertEquals(BitHolder.fromBitString("11110000"), destination);
+
+  expression.evaluate(a);
+  Assertions.assertEquals(BitHolder.fromBitString("11110000"), a);
+}
+
+@Test
+public void lazy() {
+  BitHolder a = BitHolder.fromBitString("0101");
+  BitExpression expression = BitExpression.of(a).NOT();
+  a.add(true);
+
+  Assertions.assertEquals(5, expression.size());
+  Assertions.assertEquals(BitHolder.fromBitString("10100"), expression.evaluate());
+}
+}
@@ -0,0 +1,71 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class GapBufferTest {
+
+@Test
+public void edits() {
+  BitGapBuffer buffer = new BitGapBuffer(BitHolder.fromBitString("010101"));
+  buffer.insert(0, true);
+  buffer.insert(7, BitHolder.fromBitString("00"));
+  buffer.insert(3, false);
+
+  Assertions.assertEquals(BitHolder.fromBitString("1010010100"), buffer.toBitHolder());
+  Assertions.assertEquals(BitHolder.fromBitString("1001"), buffer.remove(2, 5));
+  Assertions.assertFalse(buffer.remove(1));
+  Assertions.assertEquals(BitHolder.fromBitString("10100"), buffer.toBitHolder());
+}
+
+@Test
+public void matchesBitHolder() {
+  Random random = new Random(6);
+  BitHolder expected = new BitHolder(0);
+  BitGapBuffer buffer = new BitGapBuffer();
+
+  for (int i = 0; i < 2000; i++) {
+    int size = expected.size();
+    int choice = random.nextInt(4);
+
+    if (choice == 0 || size < 2) {
+      BitHolder bits = BitHolder.from(random.nextLong());
+      expected.add(bits);
+      buffer.add(bits);
+    }
+    else if (choice == 1) {
+      int index = random.nextInt(size);
+      BitHolder bits = BitHolder.from((short) random.nextInt());
+      expected.insert(index, bits);
+      buffer.insert(index, bits);
+    }
+    else if (choice == 2) {
+      int start = random.nextInt(size);
+      int end = Math.min(size - 1, start + random.nextInt(100));
+      Assertions.assertEquals(expected.remove(start, end), buffer.remove(start, end));
+    }
+    else {
+      int index = random.nextInt(size);
+      boolean bit = random.nextBoolean();
+      expected.set(index, bit);
+      buffer.set(index, bit);
+      int checked = random.nextInt(size);
+      Assertions.assertEquals(expected.get(checked), buffer.get(checked));
+    }
+
+    Assertions.assertEquals(expected.size(), buffer.size());
+  }
+
+  Assertions.assertEquals(expected, buffer.toBitHolder());
+}
+
+@Test
+public void outOfBounds() {
+  BitGapBuffer buffer = new BitGapBuffer(BitHolder.fromBitString("0101"));
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> buffer.get(4));
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> buffer.insert(5, true));
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> buffer.remove(3, 2));
+}
+}
@@ -191,4 +191,64 @@ public void byteIndexMinus() {
   BitHolder bits = BitHolder.fromBitString("00001111 11110000");
   Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.getByte(-1));
 }
+
+
+@Test
+public void intAcrossWords() {
+  BitHolder bits = new BitHolder(50);
+  bits.add(784653012);
+  Assertions.assertEquals(784653012, bits.getInt(50));
+}
+
+@Test
+public void longAcrossWords() {
+  BitHolder bits = BitHolder.fromBitString("101");
+  bits.add(-890457234897562386L);
+  Assertions.assertEquals(-890457234897562386L, bits.getLong(3));
+}
+
+@Test
+public void byClass() {
+  BitHolder bits = BitHolder.fromBitString("0100000110010011111000111010001010000100100111010001101001100100");
+  Assertions.assertEquals(8.342134515342098E7, bits.get(0, double.class));
+  Assertions.assertEquals((short) 16787, bits.get(0, Short.class));
+}
+
+@Test
+public void bitsPacked() {
+  BitHolder bits = BitHolder.fromBitString("0110 1001 1");
+  Assertions.assertEquals(0b01001, bits.getBits(3, 5));
+}
+
+@Test
+public void intIndexOver() {
+  BitHolder bits = new BitHolder(40);
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.getInt(9));
+}
+
+@Test
+public void bitsLengthOver() {
+  BitHolder bits = new BitHolder(80);
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.getBits(0, 65));
+}
+
+@Test
+public void intArrayUnaligned() {
+  BitHolder bits = BitHolder.fromBitString("011");
+  bits.add(new int[]{784653012, -5, 1});
+  Assertions.assertArrayEquals(new int[]{784653012, -5, 1}, bits.getIntArray(3, 3));
+}
+
+@Test
+public void doubleArrayUnaligned() {
+  BitHolder bits = BitHolder.fromBitString("1");
+  bits.add(new double[]{8.342134515342098E7, -0.5});
+  Assertions.assertArrayEquals(new double[]{8.342134515342098E7, -0.5}, bits.getDoubleArray(1, 2));
+}
+
+@Test
+public void charArrayEmpty() {
+  BitHolder bits = new BitHolder(8);
+  Assertions.assertArrayEquals(new char[0], bits.getCharArray(0, 0));
+}
 }
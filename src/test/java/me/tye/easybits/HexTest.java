@@ -44,4 +44,26 @@ public void fromEmptyHex() {
 public void fromInvalidHex() {
   Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> BitHolder.fromHexString("AB FC G1"));
 }
-}
\ No newline at end of file
+
+@Test
+public void toHexOddNibbles() {
+  BitHolder bits = BitHolder.fromBitString("1010 1011 1");
+  String hexString = bits.toHexString();
+  Assertions.assertEquals("AB 8", hexString);
+  Assertions.assertEquals(9, bits.size());
+}
+
+@Test
+public void toHexMultipleWords() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, 0xFEDCBA9876543210L});
+  bits.add((byte) 0x5A);
+  Assertions.assertEquals("01 23 45 67 89 AB CD EF FE DC BA 98 76 54 32 10 5A", bits.toHexString());
+}
+
+@Test
+public void fromHexLowerCase() {
+  BitHolder bits = BitHolder.fromHexString("ab\tcD\n0123456789 abcdef 1");
+  Assertions.assertEquals("AB CD 01 23 45 67 89 AB CD EF 1", bits.toHexString());
+  Assertions.assertEquals(84, bits.size());
+}
+}
@@ -55,4 +55,22 @@ public void insertEmpty() {
   Assertions.assertEquals(new BitHolder(4), bits);
 }
 
+@Test
+public void insertAcrossWords() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, -1L, 0xF0F0F0F0F0F0F0F0L});
+  BitHolder expected = bits.subBits(0, 69);
+  expected.add(BitHolder.fromBitString("101"));
+  expected.add(bits.subBits(70));
+
+  bits.insert(70, BitHolder.fromBitString("101"));
+  Assertions.assertEquals(expected, bits);
+}
+
+@Test
+public void insertSelf() {
+  BitHolder bits = BitHolder.fromBitString("1100");
+  bits.insert(2, bits);
+  Assertions.assertEquals(BitHolder.fromBitString("11110000"), bits);
+}
+
 }
@@ -0,0 +1,97 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class IterationTest {
+
+@Test
+public void iterator() {
+  BitHolder bits = BitHolder.fromBitString("101");
+  List<Boolean> values = new ArrayList<>();
+  for (boolean bit : bits) {
+    values.add(bit);
+  }
+
+  Assertions.assertEquals(Arrays.asList(true, false, true), values);
+}
+
+@Test
+public void iteratorEmpty() {
+  Iterator<Boolean> iterator = new BitHolder(0).iterator();
+  Assertions.assertFalse(iterator.hasNext());
+  Assertions.assertThrowsExactly(NoSuchElementException.class, iterator::next);
+}
+
+@Test
+public void highBitIterator() {
+  BitHolder bits = new BitHolder(1000);
+  int[] expected = {0, 5, 63, 64, 130, 512, 999};
+  for (int index : expected) {
+    bits.set(index, true);
+  }
+
+  PrimitiveIterator.OfInt iterator = bits.highBitIterator();
+  for (int index : expected) {
+    Assertions.assertTrue(iterator.hasNext());
+    Assertions.assertEquals(index, iterator.nextInt());
+  }
+  Assertions.assertFalse(iterator.hasNext());
+  Assertions.assertThrowsExactly(NoSuchElementException.class, iterator::nextInt);
+}
+
+@Test
+public void highBitIteratorEmpty() {
+  Assertions.assertFalse(new BitHolder(0).highBitIterator().hasNext());
+  Assertions.assertFalse(new BitHolder(200).highBitIterator().hasNext());
+}
+
+@Test
+public void forEachBit() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, -7L});
+  bits.add(true);
+
+  int[] count = {0};
+  bits.forEachBit((index, bit) -> {
+    Assertions.assertEquals(count[0], index);
+    Assertions.assertEquals(bits.get(index), bit);
+    count[0]++;
+  });
+  Assertions.assertEquals(129, count[0]);
+}
+
+@Test
+public void forEachWord() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, -7L});
+  bits.add(BitHolder.fromBitString("101"));
+
+  List<Long> words = new ArrayList<>();
+  bits.forEachWord((index, word, bitLength) -> {
+    Assertions.assertEquals(words.size() * 64, index);
+    Assertions.assertEquals(index == 128 ? 3 : 64, bitLength);
+    words.add(word);
+  });
+  Assertions.assertEquals(Arrays.asList(0x0123456789ABCDEFL, -7L, 0b101L), words);
+}
+
+@Test
+public void forEachByte() {
+  BitHolder bits = BitHolder.from(new byte[]{1, -2, 3, 4, 5, 6, 7, 8, 9, -10});
+  bits.add(BitHolder.fromBitString("11"));
+
+  List<Long> bytes = new ArrayList<>();
+  bits.forEachByte((index, byte_, bitLength) -> {
+    Assertions.assertEquals(bytes.size() * 8, index);
+    Assertions.assertEquals(index == 80 ? 2 : 8, bitLength);
+    bytes.add(byte_);
+  });
+  Assertions.assertEquals(Arrays.asList(1L, 254L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 246L, 3L), bytes);
+}
+}
@@ -68,4 +68,58 @@ public void xnor() {
   Assertions.assertEquals(BitHolder.fromBitString("10101111"), and);
 }
 
-}
\ No newline at end of file
+@Test
+public void operandNotModified() {
+  BitHolder bits = BitHolder.fromBitString("01001111");
+  BitHolder shorter = BitHolder.fromBitString("1111");
+  BitHolder longer = BitHolder.fromBitString("11111111 1111");
+
+  Assertions.assertEquals(BitHolder.fromBitString("01000000"), bits.AND(shorter));
+  Assertions.assertEquals(BitHolder.fromBitString("01000000"), bits.XNOR(shorter));
+  Assertions.assertEquals(BitHolder.fromBitString("10110000"), bits.XOR(longer));
+  Assertions.assertEquals(BitHolder.fromBitString("1111"), shorter);
+  Assertions.assertEquals(BitHolder.fromBitString("11111111 1111"), longer);
+}
+
+@Test
+public void acrossWords() {
+  BitHolder bits = BitHolder.from(new long[]{0x0F0F0F0F0F0F0F0FL, -1L});
+  bits.add(true);
+  BitHolder operand = BitHolder.from(new long[]{-1L, 0x00FF00FF00FF00FFL});
+
+  BitHolder expected = BitHolder.from(new long[]{0xF0F0F0F0F0F0F0F0L, 0xFF00FF00FF00FF00L});
+  expected.add(true);
+  Assertions.assertEquals(expected, bits.NAND(operand));
+}
+
+@Test
+public void inPlace() {
+  BitHolder bits = BitHolder.fromBitString("01001111");
+  BitHolder result = bits.andInPlace(BitHolder.fromBitString("00111111")).orInPlace(BitHolder.fromBitString("1")).notInPlace();
+
+  Assertions.assertSame(bits, result);
+  Assertions.assertEquals(BitHolder.fromBitString("01110000"), bits);
+}
+
+@Test
+public void intoDestination() {
+  BitHolder bits = BitHolder.fromBitString("01001111");
+  BitHolder destination = BitHolder.fromBitString("11111111 11111111");
+
+  Assertions.assertSame(destination, bits.NOR(BitHolder.fromBitString("00011111"), destination));
+  Assertions.assertEquals(BitHolder.fromBitString("10100000"), destination);
+
+  Assertions.assertSame(destination, bits.NOT(destination));
+  Assertions.assertEquals(BitHolder.fromBitString("10110000"), destination);
+}
+
+@Test
+public void operandAsDestination() {
+  BitHolder bits = BitHolder.fromBitString("01001111");
+  BitHolder operand = BitHolder.fromBitString("00011111 1");
+
+  bits.XOR(operand, operand);
+  Assertions.assertEquals(BitHolder.fromBitString("01010000"), operand);
+}
+
+}
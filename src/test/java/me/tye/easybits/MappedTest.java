@@ -0,0 +1,114 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedTest {
+
+@TempDir
+Path directory;
+
+@Test
+public void persists() throws IOException {
+  Path file = directory.resolve("bits");
+  BitHolder expected = TestBits.random(1, 1000);
+
+  try (MappedBitHolder bits = MappedBitHolder.create(file, 0)) {
+    bits.add(expected);
+    Assertions.assertEquals(expected, bits);
+    bits.force();
+  }
+  Assertions.assertEquals(MappedWordStorage.HEADER_BYTES + 16 * 8, Files.size(file));
+
+  try (MappedBitHolder bits = MappedBitHolder.open(file)) {
+    Assertions.assertEquals(expected, bits);
+    bits.set(5, !bits.get(5));
+    bits.add(true);
+  }
+
+  expected.set(5, !expected.get(5));
+  expected.add(true);
+  try (MappedBitHolder bits = MappedBitHolder.openReadOnly(file)) {
+    Assertions.assertEquals(expected, bits);
+  }
+}
+
+@Test
+public void acrossRegions() throws IOException {
+  Path file = directory.resolve("regions");
+  BitHolder expected = TestBits.random(2, 5000);
+
+  // Each region holds 8 words, so the bits span many regions & the file is remapped as it grows.
+  try (MappedBitHolder bits = MappedBitHolder.create(file, 0, 3)) {
+    for (int i = 0; i < expected.size(); i++) {
+      bits.add(expected.get(i));
+    }
+    Assertions.assertEquals(expected, bits);
+
+    BitHolder other = TestBits.random(3, 5000);
+    Assertions.assertEquals(expected.XOR(other), bits.XOR(other));
+    Assertions.assertEquals(expected.shiftRight(100), bits.shiftRight(100));
+
+    bits.remove(10, 2000);
+    expected.remove(10, 2000);
+    Assertions.assertEquals(expected, bits);
+  }
+
+  try (MappedBitHolder bits = MappedBitHolder.open(file, false, 2)) {
+    Assertions.assertEquals(expected, bits);
+  }
+}
+
+@Test
+public void readOnly() throws IOException {
+  Path file = directory.resolve("readOnly");
+  MappedBitHolder.create(file, 100).close();
+
+  try (MappedBitHolder bits = MappedBitHolder.openReadOnly(file)) {
+    Assertions.assertTrue(bits.isImmutable());
+    Assertions.assertEquals(100, bits.size());
+    Assertions.assertTrue(bits.areAllLow());
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> bits.set(0, true));
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> bits.add(true));
+    bits.force();
+  }
+}
+
+@Test
+public void destination() throws IOException {
+  BitHolder left = TestBits.random(4, 300);
+  BitHolder right = TestBits.random(5, 300);
+
+  try (MappedBitHolder destination = MappedBitHolder.create(directory.resolve("destination"), 0)) {
+    Assertions.assertSame(destination, left.OR(right, destination));
+    Assertions.assertEquals(left.OR(right), destination);
+  }
+}
+
+@Test
+public void close() throws IOException {
+  MappedBitHolder bits = MappedBitHolder.create(directory.resolve("close"), 10);
+  bits.close();
+  bits.close();
+
+  Assertions.assertTrue(bits.isClosed());
+  Assertions.assertThrows(IllegalStateException.class, () -> bits.get(0));
+  Assertions.assertThrows(IllegalStateException.class, bits::force);
+}
+
+@Test
+public void notBitHolderFile() throws IOException {
+  Path file = directory.resolve("other");
+  Files.write(file, new byte[]{1, 2, 3});
+  Assertions.assertThrows(IOException.class, () -> MappedBitHolder.open(file));
+
+  Files.write(file, new byte[32]);
+  Assertions.assertThrows(IOException.class, () -> MappedBitHolder.openReadOnly(file));
+}
+
+}
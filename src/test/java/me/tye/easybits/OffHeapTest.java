@@ -0,0 +1,176 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.Random;
+
+public class OffHeapTest {
+
+@Test
+public void sameAsHeap() {
+  BitHolder heap = TestBits.random(1, 1000);
+  try (OffHeapBitHolder offHeap = new OffHeapBitHolder(heap)) {
+    Assertions.assertEquals(heap, offHeap);
+    Assertions.assertEquals(offHeap, heap);
+    Assertions.assertEquals(heap.hashCode(), offHeap.hashCode());
+    Assertions.assertEquals(heap.toString(), offHeap.toString());
+
+    BitHolder other = TestBits.random(2, 1000);
+    Assertions.assertEquals(heap.XOR(other), offHeap.XOR(other));
+    Assertions.assertEquals(heap.shiftLeft(70), offHeap.shiftLeft(70));
+  }
+}
+
+@Test
+public void grows() {
+  try (OffHeapBitHolder bits = new OffHeapBitHolder(0)) {
+    BitHolder expected = new BitHolder(0);
+    Random random = new Random(3);
+    for (int i = 0; i < 5000; i++) {
+      boolean bit = random.nextBoolean();
+      bits.add(bit);
+      expected.add(bit);
+    }
+
+    bits.addBits(0b1011, 4);
+    expected.addBits(0b1011, 4);
+    Assertions.assertEquals(expected, bits);
+
+    bits.remove(10, 4000);
+    expected.remove(10, 4000);
+    Assertions.assertEquals(expected, bits);
+  }
+}
+
+@Test
+public void destinationStaysOffHeap() {
+  BitHolder left = TestBits.random(4, 300);
+  BitHolder right = TestBits.random(5, 300);
+
+  try (OffHeapBitHolder destination = new OffHeapBitHolder(0)) {
+    BitHolder result = left.AND(right, destination);
+    Assertions.assertSame(destination, result);
+    Assertions.assertEquals(left.AND(right), destination);
+  }
+}
+
+@Test
+public void buffer() {
+  BitHolder heap = TestBits.random(6, 200);
+  try (OffHeapBitHolder bits = new OffHeapBitHolder(heap)) {
+    ByteBuffer buffer = bits.buffer();
+    Assertions.assertTrue(buffer.isDirect());
+    Assertions.assertTrue(buffer.isReadOnly());
+    Assertions.assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+    Assertions.assertEquals(32, buffer.remaining());
+
+    BitSet bitSet = new BitSet();
+    for (int i = 0; i < heap.size(); i++) {
+      bitSet.set(i, heap.get(i));
+    }
+
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    Assertions.assertEquals(bitSet, BitSet.valueOf(bytes));
+  }
+}
+
+@Test
+public void close() {
+  OffHeapBitHolder bits = new OffHeapBitHolder(100);
+  BitHolder shallow = new BitHolder(bits, false);
+  Assertions.assertFalse(bits.isClosed());
+
+  bits.close();
+  bits.close();
+  Assertions.assertTrue(bits.isClosed());
+  Assertions.assertThrows(IllegalStateException.class, () -> bits.get(0));
+  Assertions.assertThrows(IllegalStateException.class, () -> bits.set(0, true));
+  Assertions.assertThrows(IllegalStateException.class, () -> shallow.get(0));
+  Assertions.assertThrows(IllegalStateException.class, bits::buffer);
+}
+
+@Test
+public void arena() {
+  BitArena arena = new BitArena(1024);
+  OffHeapBitHolder first = new OffHeapBitHolder(64 * 10, arena);
+  OffHeapBitHolder second = new OffHeapBitHolder(64 * 10, arena);
+  OffHeapBitHolder large = new OffHeapBitHolder(64 * 1000, arena);
+
+  Assertions.assertEquals(8 * 1020, arena.usedBytes());
+  Assertions.assertEquals(1024 + 8 * 1000, arena.allocatedBytes());
+
+  first.allHigh();
+  second.set(3, true);
+  Assertions.assertTrue(first.areAllHigh());
+  Assertions.assertEquals(1, second.highBits().count());
+
+  first.close();
+  Assertions.assertFalse(second.isClosed());
+
+  arena.close();
+  Assertions.assertTrue(arena.isClosed());
+  Assertions.assertTrue(second.isClosed());
+  Assertions.assertTrue(large.isClosed());
+  Assertions.assertThrows(IllegalStateException.class, () -> second.get(3));
+  Assertions.assertThrows(IllegalStateException.class, () -> new OffHeapBitHolder(10, arena));
+}
+
+@Test
+public void arenaGrowth() {
+  try (BitArena arena = new BitArena(64)) {
+    OffHeapBitHolder bits = new OffHeapBitHolder(0, arena);
+    for (int i = 0; i < 2000; i++) {
+      bits.add(i % 3 == 0);
+    }
+    for (int i = 0; i < 2000; i++) {
+      Assertions.assertEquals(i % 3 == 0, bits.get(i));
+    }
+  }
+}
+
+@Test
+public void snapshotAndImmutable() {
+  try (OffHeapBitHolder bits = new OffHeapBitHolder(TestBits.random(7, 150))) {
+    BitHolder snapshot = bits.snapshot();
+    BitHolder immutable = bits.toImmutable();
+    bits.notInPlace();
+
+    Assertions.assertEquals(bits.NOT(), snapshot);
+    Assertions.assertEquals(snapshot, immutable);
+    Assertions.assertTrue(immutable.isImmutable());
+  }
+}
+
+@Test
+public void serialization() throws Exception {
+  BitHolder heap = TestBits.random(8, 99);
+  try (OffHeapBitHolder bits = new OffHeapBitHolder(heap)) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(bits);
+    }
+
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Object read = in.readObject();
+      Assertions.assertEquals(BitHolder.class, read.getClass());
+      Assertions.assertEquals(heap, read);
+    }
+  }
+}
+
+@Test
+public void negativeSize() {
+  Assertions.assertThrows(IllegalArgumentException.class, () -> new OffHeapBitHolder(-1));
+  Assertions.assertThrows(NullPointerException.class, () -> new OffHeapBitHolder(null));
+}
+
+}
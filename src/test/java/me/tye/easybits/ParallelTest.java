@@ -0,0 +1,129 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class ParallelTest {
+
+private static final int SIZE = 700_037;
+
+/**
+ Has more than one thread even on a machine with one CPU, so the words are always split. */
+private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+@BeforeAll
+public static void usePool() {
+  WordTasks.pool(POOL);
+}
+
+@AfterAll
+public static void resetPool() {
+  WordTasks.pool(ForkJoinPool.commonPool());
+  POOL.shutdown();
+}
+
+@AfterEach
+public void resetThreshold() {
+  BitHolder.setParallelThreshold(1 << 24);
+}
+
+/**
+ Runs the given work without & with the words split across threads. */
+private static <T> void assertSame(Supplier<T> work) {
+  BitHolder.setParallelThreshold(Integer.MAX_VALUE);
+  T sequential = work.get();
+  BitHolder.setParallelThreshold(0);
+  T parallel = work.get();
+
+  if (sequential instanceof byte[]) {Assertions.assertArrayEquals((byte[]) sequential, (byte[]) parallel);}
+  else {Assertions.assertEquals(sequential, parallel);}
+}
+
+@Test
+public void threshold() {
+  Assertions.assertEquals(1 << 24, BitHolder.getParallelThreshold());
+  BitHolder.setParallelThreshold(5);
+  Assertions.assertEquals(5, BitHolder.getParallelThreshold());
+  Assertions.assertThrows(IllegalArgumentException.class, () -> BitHolder.setParallelThreshold(-1));
+}
+
+@Test
+public void splits() {
+  BitHolder.setParallelThreshold(0);
+  AtomicInteger ranges = new AtomicInteger();
+  WordTasks.forEachRange(WordStorage.wordsFor(SIZE), (fromWord, toWord) -> ranges.incrementAndGet());
+
+  Assertions.assertTrue(ranges.get() > 1);
+}
+
+@Test
+public void logic() {
+  BitHolder left = TestBits.random(1, SIZE);
+  BitHolder right = TestBits.random(2, SIZE - 1000);
+
+  assertSame(() -> left.AND(right));
+  assertSame(() -> left.NAND(right));
+  assertSame(() -> left.OR(right));
+  assertSame(() -> left.NOR(right));
+  assertSame(() -> left.XOR(right));
+  assertSame(() -> left.XNOR(right));
+  assertSame(left::NOT);
+}
+
+@Test
+public void inPlace() {
+  BitHolder right = TestBits.random(4, SIZE);
+  assertSame(() -> {
+    BitHolder left = TestBits.random(3, SIZE);
+    left.xorInPlace(right);
+    left.notInPlace();
+    return left;
+  });
+}
+
+@Test
+public void snapshotIsUnchanged() {
+  BitHolder.setParallelThreshold(0);
+  BitHolder bits = TestBits.random(5, SIZE);
+  BitHolder snapshot = bits.snapshot();
+  BitHolder expected = new BitHolder(bits, true);
+
+  bits.notInPlace();
+  Assertions.assertEquals(expected, snapshot);
+  Assertions.assertEquals(expected.NOT(), bits);
+}
+
+@Test
+public void allLowAndHigh() {
+  BitHolder.setParallelThreshold(0);
+  BitHolder bits = new BitHolder(SIZE);
+  Assertions.assertTrue(bits.areAllLow());
+  Assertions.assertFalse(bits.areAllHigh());
+
+  bits.set(SIZE - 1, true);
+  Assertions.assertFalse(bits.areAllLow());
+
+  bits.allHigh();
+  Assertions.assertTrue(bits.areAllHigh());
+  bits.set(100, false);
+  Assertions.assertFalse(bits.areAllHigh());
+
+  bits.allLow();
+  Assertions.assertTrue(bits.areAllLow());
+}
+
+@Test
+public void conversions() {
+  BitHolder bits = TestBits.random(6, SIZE);
+  assertSame(bits::toByteArray);
+  assertSame(bits::toHexString);
+}
+
+}
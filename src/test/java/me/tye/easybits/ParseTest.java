@@ -0,0 +1,47 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+public class ParseTest {
+
+@Test
+public void bitStringBuilder() {
+  StringBuilder bitString = new StringBuilder("0110 ");
+  bitString.append("1001\n1");
+  BitHolder bits = BitHolder.fromBitString(bitString);
+  Assertions.assertEquals(BitHolder.fromBitString("011010011"), bits);
+}
+
+@Test
+public void bitStringReader() throws IOException {
+  StringBuilder bitString = new StringBuilder();
+  for (int i = 0; i < 20_000; i++) {
+    bitString.append(i % 3 == 0 ? '1' : '0');
+  }
+
+  BitHolder bits = BitHolder.fromBitString(new StringReader(bitString.toString()));
+  Assertions.assertEquals(BitHolder.fromBitString(bitString), bits);
+  Assertions.assertEquals(20_000, bits.size());
+}
+
+@Test
+public void hexReader() throws IOException {
+  BitHolder bits = BitHolder.fromHexString(new StringReader("01 23 45 67\n89 ab cd ef 0"));
+  Assertions.assertEquals("01 23 45 67 89 AB CD EF 0", bits.toHexString());
+}
+
+@Test
+public void bitStringReaderInvalid() {
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> BitHolder.fromBitString(new StringReader("0110 2")));
+}
+
+@Test
+public void hexReaderEmpty() throws IOException {
+  BitHolder bits = BitHolder.fromHexString(new StringReader(""));
+  Assertions.assertTrue(bits.isEmpty());
+}
+}
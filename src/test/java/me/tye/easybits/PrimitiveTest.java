@@ -0,0 +1,52 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveTest {
+
+@Test
+public void intArrayRoundTrip() {
+  int[] ints = {784653012, -1, 0, -784653012, 5};
+  BitHolder bits = Primitive.toBitHolder(ints);
+  Assertions.assertEquals(160, bits.size());
+  Assertions.assertArrayEquals(ints, Primitive.toPrimitive(bits, int[].class));
+}
+
+@Test
+public void byteArrayRoundTrip() {
+  byte[] bytes = {30, 127, 70, -1, -128, 0, 1, 2, 3, -9};
+  BitHolder bits = Primitive.toBitHolder(bytes);
+  Assertions.assertArrayEquals(bytes, Primitive.toPrimitive(bits, byte[].class));
+}
+
+@Test
+public void wrapperArray() {
+  BitHolder bits = Primitive.toBitHolder(new Short[]{5893, 10000, -8324});
+  Assertions.assertArrayEquals(new short[]{5893, 10000, -8324}, Primitive.toPrimitive(bits, short[].class));
+}
+
+@Test
+public void wrapper() {
+  BitHolder bits = Primitive.toBitHolder(8.342134515342098E7);
+  Assertions.assertEquals(8.342134515342098E7, Primitive.toPrimitive(bits, Double.class));
+}
+
+@Test
+public void paddedArray() {
+  BitHolder bits = BitHolder.fromBitString("00010100 0001");
+  Assertions.assertArrayEquals(new byte[]{20, 16}, Primitive.toPrimitive(bits, byte[].class));
+  Assertions.assertEquals(12, bits.size());
+}
+
+@Test
+public void paddedPrimitive() {
+  BitHolder bits = BitHolder.fromBitString("0001");
+  Assertions.assertEquals((byte) 16, Primitive.toPrimitive(bits, byte.class));
+}
+
+@Test
+public void notPrimitive() {
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> Primitive.toBitHolder("0110"));
+}
+}
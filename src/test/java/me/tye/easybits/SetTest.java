@@ -59,4 +59,41 @@ public void byteArrayEmpty() {
   bits.set(0, new byte[0]);
   Assertions.assertEquals(new BitHolder(16), bits);
 }
+
+@Test
+public void Long() {
+  BitHolder bits = new BitHolder(128);
+  bits.set(37, 890457234897562386L);
+  Assertions.assertEquals(890457234897562386L, bits.getLong(37));
+  Assertions.assertFalse(bits.get(36));
+  Assertions.assertFalse(bits.get(101));
+}
+
+@Test
+public void Float() {
+  BitHolder bits = BitHolder.fromBitString("11111111 11111111 11111111 11111111 11111111");
+  bits.set(4, 834.1229248046875F);
+  Assertions.assertEquals(BitHolder.fromBitString("1111 01000100010100001000011111011110 1111"), bits);
+}
+
+@Test
+public void intOutOfBounds() {
+  BitHolder bits = new BitHolder(40);
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.set(10, 5));
+}
+
+@Test
+public void floatArray() {
+  BitHolder bits = new BitHolder(200);
+  bits.set(7, new float[]{834.1229248046875F, -1F, 0.25F, 3F, 7F});
+  Assertions.assertArrayEquals(new float[]{834.1229248046875F, -1F, 0.25F, 3F, 7F}, bits.getFloatArray(7, 5));
+  Assertions.assertFalse(bits.get(6));
+  Assertions.assertFalse(bits.get(167));
+}
+
+@Test
+public void shortArrayOutOfBounds() {
+  BitHolder bits = new BitHolder(40);
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.set(0, new short[3]));
+}
 }
@@ -3,6 +3,8 @@ package me.tye.easybits;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 public class ShiftTest {
 
 @Test
@@ -60,4 +62,88 @@ public void shiftRightMinus() {
   Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.shiftRight(-2));
 }
 
+
+@Test
+public void shiftInPlace() {
+  BitHolder bits = BitHolder.fromBitString("1001011");
+  Assertions.assertSame(bits, bits.shiftLeftInPlace(3));
+  Assertions.assertEquals(BitHolder.fromBitString("1011000"), bits);
+
+  Assertions.assertSame(bits, bits.shiftRightInPlace(2));
+  Assertions.assertEquals(BitHolder.fromBitString("0010110"), bits);
+}
+
+@Test
+public void shiftAcrossWords() {
+  Random random = new Random(3);
+  BitHolder bits = TestBits.random(random, 300);
+
+  for (int amount : new int[]{1, 63, 64, 65, 130, 299, 300}) {
+    BitHolder left = new BitHolder(bits, true).shiftLeftInPlace(amount);
+    BitHolder right = new BitHolder(bits, true).shiftRightInPlace(amount);
+
+    for (int i = 0; i < bits.size(); i++) {
+      Assertions.assertEquals(i + amount < bits.size() && bits.get(i + amount), left.get(i));
+      Assertions.assertEquals(i - amount >= 0 && bits.get(i - amount), right.get(i));
+    }
+    Assertions.assertEquals(left, bits.shiftLeft(amount));
+    Assertions.assertEquals(right, bits.shiftRight(amount));
+  }
+}
+
+
+@Test
+public void rotateLeft() {
+  BitHolder bits = BitHolder.fromBitString("1001011");
+  Assertions.assertEquals(BitHolder.fromBitString("1011100"), bits.rotateLeft(3));
+  Assertions.assertEquals(BitHolder.fromBitString("1001011"), bits.rotateLeft(7));
+  Assertions.assertEquals(BitHolder.fromBitString("0010111"), bits.rotateLeft(8));
+  Assertions.assertEquals(BitHolder.fromBitString("1001011"), bits);
+}
+
+@Test
+public void rotateRight() {
+  BitHolder bits = BitHolder.fromBitString("1001011");
+  Assertions.assertSame(bits, bits.rotateRightInPlace(3));
+  Assertions.assertEquals(BitHolder.fromBitString("0111001"), bits);
+}
+
+@Test
+public void rotateAcrossWords() {
+  Random random = new Random(4);
+  BitHolder bits = TestBits.random(random, 333);
+
+  for (int amount : new int[]{1, 63, 64, 65, 200, 332, 1000}) {
+    BitHolder left = bits.rotateLeft(amount);
+    BitHolder right = bits.rotateRight(amount);
+
+    for (int i = 0; i < bits.size(); i++) {
+      Assertions.assertEquals(bits.get((i + amount) % bits.size()), left.get(i));
+      Assertions.assertEquals(bits.get(i), right.get((i + amount) % bits.size()));
+    }
+  }
+}
+
+@Test
+public void rotateEmpty() {
+  BitHolder bits = new BitHolder(0);
+  Assertions.assertEquals(new BitHolder(0), bits.rotateLeft(5));
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.rotateRight(-1));
+}
+
+@Test
+public void shallowCloneOfBiggerHolder() {
+  BitHolder big = TestBits.random(new Random(5), 100);
+  BitHolder small = new BitHolder(big, false);
+  BitHolder expected = new BitHolder(small, true);
+  for (int i = 0; i < 100; i++) {
+    big.add(true);
+  }
+
+  for (int amount = 0; amount < 130; amount += 7) {
+    Assertions.assertEquals(expected.shiftLeft(amount), small.shiftLeft(amount));
+    Assertions.assertEquals(expected.shiftRight(amount), small.shiftRight(amount));
+  }
+}
+
 }
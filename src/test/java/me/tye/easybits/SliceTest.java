@@ -0,0 +1,69 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SliceTest {
+
+@Test
+public void read() {
+  BitHolder bits = BitHolder.fromBitString("1");
+  bits.add(-890457234897562386L);
+  bits.add(784653012);
+
+  BitSlice slice = bits.slice(1, 96);
+  Assertions.assertEquals(96, slice.size());
+  Assertions.assertEquals(-890457234897562386L, slice.getLong(0));
+  Assertions.assertEquals(784653012, slice.getInt(64));
+  Assertions.assertEquals(bits.get(5), slice.get(4));
+}
+
+@Test
+public void toBitHolder() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, -1L, 0x5555555555555555L});
+  Assertions.assertEquals(bits.subBits(3, 150), bits.slice(3, 150).toBitHolder());
+  Assertions.assertEquals(bits.subBits(70, 80), bits.slice(3, 150).slice(67, 77).toBitHolder());
+}
+
+@Test
+public void seesParentChanges() {
+  BitHolder bits = BitHolder.fromBitString("0000 0000");
+  BitSlice slice = bits.slice(2, 5);
+  BitHolder copy = slice.toBitHolder();
+
+  bits.set(3, true);
+  Assertions.assertTrue(slice.get(1));
+  Assertions.assertFalse(copy.get(1));
+}
+
+@Test
+public void logic() {
+  BitHolder bits = BitHolder.fromBitString("11 01001111 11");
+  BitSlice slice = bits.slice(2, 9);
+
+  Assertions.assertEquals(BitHolder.fromBitString("00001111"), slice.AND(BitHolder.fromBitString("00111111")));
+  Assertions.assertEquals(BitHolder.fromBitString("10100000"), slice.NOR(BitHolder.fromBitString("00011111")));
+  Assertions.assertEquals(BitHolder.fromBitString("10110000"), slice.NOT());
+  Assertions.assertEquals(BitHolder.fromBitString("01100000"), slice.XNOR(bits.slice(0, 5)));
+}
+
+@Test
+public void logicAcrossWords() {
+  BitHolder bits = BitHolder.from(new long[]{0x0123456789ABCDEFL, -1L, 0x5555555555555555L});
+  BitHolder other = BitHolder.from(new long[]{0x0F0F0F0F0F0F0F0FL, 0x1234L});
+
+  Assertions.assertEquals(bits.subBits(5, 170).XOR(other.subBits(9, 120)), bits.slice(5, 170).XOR(other.slice(9, 120)));
+  Assertions.assertEquals(bits.subBits(60, 70).NAND(other), bits.slice(60, 70).NAND(other));
+}
+
+@Test
+public void outOfBounds() {
+  BitHolder bits = BitHolder.fromBitString("01011010");
+  BitSlice slice = bits.slice(2, 5);
+
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> slice.get(4));
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> slice.getByte(0));
+  Assertions.assertThrowsExactly(IndexOutOfBoundsException.class, () -> bits.slice(2, 8));
+  Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> bits.slice(5, 2));
+}
+}
@@ -0,0 +1,66 @@
+package me.tye.easybits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+public class StreamTest {
+
+@Test
+public void highBits() {
+  BitHolder bits = BitHolder.fromBitString("0110 0001");
+  Assertions.assertArrayEquals(new int[]{1, 2, 7}, bits.highBits().toArray());
+  Assertions.assertEquals(3, bits.highBits().count());
+}
+
+@Test
+public void lowBits() {
+  BitHolder bits = BitHolder.fromBitString("0110 0001 1");
+  Assertions.assertArrayEquals(new int[]{0, 3, 4, 5, 6}, bits.lowBits().toArray());
+}
+
+@Test
+public void empty() {
+  Assertions.assertEquals(0, new BitHolder(0).highBits().count());
+  Assertions.assertEquals(0, new BitHolder(0).lowBits().count());
+}
+
+@Test
+public void parallel() {
+  Random random = new Random(8);
+  BitHolder bits = new BitHolder(0);
+  for (int i = 0; i < 100_000; i++) {
+    bits.add(random.nextInt(10) == 0);
+  }
+
+  int[] expectedHigh = IntStream.range(0, bits.size()).filter(bits::get).toArray();
+  int[] expectedLow = IntStream.range(0, bits.size()).filter(index -> !bits.get(index)).toArray();
+
+  Assertions.assertArrayEquals(expectedHigh, bits.highBits().parallel().toArray());
+  Assertions.assertArrayEquals(expectedLow, bits.lowBits().parallel().toArray());
+  Assertions.assertEquals(IntStream.of(expectedHigh).asLongStream().sum(), bits.highBits().parallel().asLongStream().sum());
+}
+
+@Test
+public void splitsOnWords() {
+  BitHolder bits = new BitHolder(1000);
+  bits.allHigh();
+
+  Spliterator.OfInt spliterator = bits.highBits().spliterator();
+  Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+  Assertions.assertEquals(1000, spliterator.getExactSizeIfKnown());
+
+  Spliterator.OfInt prefix = spliterator.trySplit();
+  Assertions.assertNotNull(prefix);
+  Assertions.assertEquals(448, prefix.estimateSize());
+  Assertions.assertEquals(552, spliterator.estimateSize());
+
+  int[] first = {-1};
+  spliterator.tryAdvance((int index) -> first[0] = index);
+  Assertions.assertEquals(448, first[0]);
+  Assertions.assertEquals(551, spliterator.estimateSize());
+}
+}
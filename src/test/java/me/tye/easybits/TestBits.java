@@ -0,0 +1,46 @@
+package me.tye.easybits;
+
+import java.util.Random;
+
+/**
+ Creates the BitHolders that are shared between the tests. */
+final class TestBits {
+
+/**
+ This class is a Utility class & not meant to be instantiated. */
+private TestBits() {}
+
+
+/**
+ @param seed The seed of the random bits.
+ @param size The amount of bits.
+ @return A new BitHolder with each bit randomly high or low. */
+static BitHolder random(long seed, int size) {
+  return random(new Random(seed), size);
+}
+
+/**
+ @param random The source of the random bits.
+ @param size   The amount of bits.
+ @return A new BitHolder with each bit randomly high or low. */
+static BitHolder random(Random random, int size) {
+  BitHolder bits = new BitHolder(0);
+  for (int i = 0; i < size; i++) {
+    bits.add(random.nextBoolean());
+  }
+  return bits;
+}
+
+/**
+ @param random The source of the random bits.
+ @param size   The amount of bits.
+ @return A new BitHolder with random bits, broken up by long runs of low bits. */
+static BitHolder randomWithLowRuns(Random random, int size) {
+  BitHolder bits = new BitHolder(0);
+  for (int i = 0; i < size; i++) {
+    bits.add((i / 700) % 3 != 0 && random.nextBoolean());
+  }
+  return bits;
+}
+
+}